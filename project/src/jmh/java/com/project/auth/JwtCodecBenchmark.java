@@ -0,0 +1,54 @@
+package com.project.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 액세스 토큰 검증 처리량 비교.
+ * - legacyParse : 요청마다 키와 파서를 새로 만드는 기존 방식
+ * - verify      : 키와 파서를 재사용하고 매번 HMAC 검증
+ * - parse       : 검증된 토큰 캐시 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtCodecBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-which-is-long-enough-for-hs256";
+
+    private JwtCodec jwtCodec;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtCodec = new JwtCodec("benchmark", SECRET, Map.of(), 10_000);
+        token = jwtCodec.builder()
+                .setSubject("TEST_USER@EMAIL.COM")
+                .claim("userId", 1L)
+                .claim("role", "USER")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .compact();
+    }
+
+    @Benchmark
+    public Jws<Claims> legacyParse() {
+        return Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build().parseClaimsJws(token);
+    }
+
+    @Benchmark
+    public Jws<Claims> verify() {
+        return jwtCodec.verify(token);
+    }
+
+    @Benchmark
+    public Jws<Claims> parse() {
+        return jwtCodec.parse(token);
+    }
+}
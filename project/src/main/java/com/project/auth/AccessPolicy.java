@@ -0,0 +1,56 @@
+package com.project.auth;
+
+import com.project.domain.comment.repository.PictureCommentRepository;
+import com.project.domain.comment.repository.PinCommentRepository;
+import com.project.domain.pin.repository.PinRepository;
+import com.project.domain.userpocket.api.MembershipService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/*
+ * 핀, 댓글, 포켓 변경 요청의 권한 확인.
+ * 엔티티나 목록을 불러오지 않고 (id, 작성자 id) 조건의 exists 쿼리로 확인하며, 같은 요청 안에서는 결과를 재사용한다.
+ * 포켓 방장 여부는 이미 조회한 포켓의 master id 로 확인하므로 여기서 다루지 않는다.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class AccessPolicy {
+
+    private final PinRepository pinRepository;
+    private final PinCommentRepository pinCommentRepository;
+    private final PictureCommentRepository pictureCommentRepository;
+    private final MembershipService membershipService;
+
+    private final Map<String, Boolean> decisions = new HashMap<>();
+
+    public boolean isPinOwner(Long userId, Long pinId) {
+        return decide("pin-owner:" + userId + ":" + pinId, () -> pinRepository.existsByIdAndUserId(pinId, userId));
+    }
+
+    public boolean isPinCommentWriter(Long userId, Long pinCommentId) {
+        return decide("pin-comment-writer:" + userId + ":" + pinCommentId, () -> pinCommentRepository.existsByIdAndWriterId(pinCommentId, userId));
+    }
+
+    public boolean isPictureCommentWriter(Long userId, Long pictureCommentId) {
+        return decide("picture-comment-writer:" + userId + ":" + pictureCommentId, () -> pictureCommentRepository.existsByIdAndWriterId(pictureCommentId, userId));
+    }
+
+    public boolean isPocketMember(Long userId, Long pocketId) {
+        return decide("pocket-member:" + userId + ":" + pocketId, () -> membershipService.isMember(userId, pocketId));
+    }
+
+    private boolean decide(String key, BooleanSupplier check) {
+        Boolean decision = decisions.get(key);
+        if (decision == null) {
+            decision = check.getAsBoolean();
+            decisions.put(key, decision);
+        }
+        return decision;
+    }
+}
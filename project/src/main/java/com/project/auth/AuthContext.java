@@ -0,0 +1,29 @@
+package com.project.auth;
+
+import com.project.domain.users.api.interfaces.TokenService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/*
+ * 요청 단위로 인증 사용자 정보를 보관한다.
+ * 토큰은 처음 필요할 때 한 번만 검증/파싱하고, PermissionInterceptor 와 AuthUserResolver 가 결과를 공유한다.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class AuthContext {
+
+    private final HttpServletRequest request;
+    private final TokenService tokenService;
+
+    private AuthPrincipal principal;
+
+    public AuthPrincipal getPrincipal() {
+        if (principal == null) {
+            principal = tokenService.getPrincipal(request.getHeader("Authorization"));
+        }
+        return principal;
+    }
+}
@@ -0,0 +1,9 @@
+package com.project.auth;
+
+import com.project.common.entity.Role;
+
+/*
+ * 액세스 토큰으로 식별한 인증 사용자 정보.
+ */
+public record AuthPrincipal(Long userId, String email, Role role) {
+}
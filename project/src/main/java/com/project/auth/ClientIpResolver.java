@@ -0,0 +1,32 @@
+package com.project.auth;
+
+import com.project.common.utils.RequestUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * 로그인 시도 제한 등에 쓰이는 클라이언트 IP 를 구한다.
+ * 로드밸런서 주소(pinnit.trusted-proxies, 예: 10.0.0.0/8)를 설정하지 않으면 X-Forwarded-For 를 무시하고 접속 주소를 사용한다.
+ */
+@Component
+public class ClientIpResolver {
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(@Value("${pinnit.trusted-proxies:}") String trustedProxies) {
+        this.trustedProxies = Arrays.stream(trustedProxies.split(","))
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        return RequestUtils.getClientIp(request, trustedProxies);
+    }
+}
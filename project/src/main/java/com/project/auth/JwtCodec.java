@@ -0,0 +1,122 @@
+package com.project.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.*;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * JWT 서명 키와 파서를 한 번만 만들어 재사용한다. (JwtParser 는 불변이므로 여러 스레드에서 공유해도 된다)
+ * - 발급하는 토큰 헤더에 kid 를 넣고, 검증할 때는 kid 로 키를 골라 키 교체(rotation) 중에도 이전 토큰을 검증한다.
+ * - 검증에 성공한 토큰은 만료 시각까지 LRU 캐시에 보관해 같은 토큰의 HMAC 검증을 반복하지 않는다.
+ */
+public class JwtCodec {
+
+    private final String keyId;
+    private final SecretKey signingKey;
+    private final Map<String, SecretKey> verificationKeys;
+    private final JwtParser parser;
+    private final Cache<String, Jws<Claims>> verifiedTokens;
+
+    /**
+     * @param keyId 새로 발급하는 토큰의 kid
+     * @param secret 현재 서명 키
+     * @param previousSecrets 검증만 허용하는 이전 키 (kid - secret)
+     * @param cacheSize 검증된 토큰 캐시의 최대 개수 (0 이면 캐시하지 않음)
+     */
+    public JwtCodec(String keyId, String secret, Map<String, String> previousSecrets, long cacheSize) {
+        this.keyId = keyId;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+
+        Map<String, SecretKey> keys = new HashMap<>();
+        previousSecrets.forEach((kid, previousSecret) -> keys.put(kid, Keys.hmacShaKeyFor(previousSecret.getBytes())));
+        keys.put(keyId, signingKey);
+        this.verificationKeys = Map.copyOf(keys);
+
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .build();
+
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    public JwtBuilder builder() {
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
+                .signWith(signingKey);
+    }
+
+    /**
+     * 토큰을 검증합니다. 이미 검증된 토큰이면 캐시된 결과를 반환합니다.
+     * 반환된 Claims 는 캐시와 공유되므로 수정하면 안 됩니다.
+     */
+    public Jws<Claims> parse(String token) {
+        Jws<Claims> cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Jws<Claims> jws = verify(token);
+        // 만료 시각이 없는 토큰은 캐시에서 제거될 시점을 정할 수 없으므로 캐싱하지 않는다.
+        if (jws.getBody().getExpiration() != null) {
+            verifiedTokens.put(token, jws);
+        }
+        return jws;
+    }
+
+    /**
+     * 캐시를 거치지 않고 서명과 만료 시각을 검증합니다.
+     */
+    public Jws<Claims> verify(String token) {
+        return parser.parseClaimsJws(token);
+    }
+
+    // kid 가 없는 토큰은 kid 도입 이전에 현재 키로 발급된 토큰이다.
+    private Key resolveKey(String kid) {
+        if (kid == null) {
+            return signingKey;
+        }
+
+        SecretKey key = verificationKeys.get(kid);
+        if (key == null) {
+            throw new SignatureException("Unknown key id : " + kid);
+        }
+        return key;
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, Jws<Claims>> {
+
+        @Override
+        public long expireAfterCreate(String token, Jws<Claims> jws, long currentTime) {
+            Date expiration = jws.getBody().getExpiration();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiration.getTime() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Jws<Claims> jws, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, Jws<Claims> jws, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
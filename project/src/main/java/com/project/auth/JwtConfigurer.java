@@ -2,7 +2,12 @@ package com.project.auth;
 
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Configuration
 @Getter
@@ -23,4 +28,30 @@ public class JwtConfigurer {
     @Value("${spring.security.jwt.prefix}")
     String prefix;
 
+    // 현재 서명 키의 kid
+    @Value("${spring.security.jwt.key-id:default}")
+    String keyId;
+
+    // 키 교체 후에도 기존 토큰을 검증하기 위한 이전 키 목록. ex) 2023-01:secret1,2023-02:secret2
+    @Value("${spring.security.jwt.previous-secrets:}")
+    String previousSecrets;
+
+    @Value("${spring.security.jwt.verified-cache-size:10000}")
+    long verifiedCacheSize;
+
+    @Bean
+    public JwtCodec jwtCodec() {
+        return new JwtCodec(keyId, secret, parsePreviousSecrets(), verifiedCacheSize);
+    }
+
+    private Map<String, String> parsePreviousSecrets() {
+        Map<String, String> secrets = new LinkedHashMap<>();
+        for (String entry : StringUtils.commaDelimitedListToStringArray(previousSecrets)) {
+            int separator = entry.indexOf(':');
+            if (separator > 0) {
+                secrets.put(entry.substring(0, separator).trim(), entry.substring(separator + 1).trim());
+            }
+        }
+        return secrets;
+    }
 }
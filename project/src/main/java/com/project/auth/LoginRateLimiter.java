@@ -0,0 +1,102 @@
+package com.project.auth;
+
+import com.project.common.exception.BusinessLogicException;
+import com.project.common.exception.ErrorCode;
+import com.project.common.handler.RedisHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/*
+ * IP 별, 이메일 별 토큰 버킷으로 로그인 시도를 제한한다.
+ * 비밀번호 해싱과 DB 조회 전에 확인하므로, 대입 공격은 Redis 호출 한 번으로 거절된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginRateLimiter {
+
+    private static final String IP_KEY_PREFIX = "login:rate:ip:";
+    private static final String EMAIL_KEY_PREFIX = "login:rate:email:";
+
+    /*
+     * KEYS[i]           : 버킷 키
+     * ARGV[1]           : 현재 시각(ms)
+     * ARGV[2i], [2i+1]  : i 번째 버킷의 용량, 밀리초당 충전량
+     * 모든 버킷에 토큰이 있을 때만 각 버킷에서 하나씩 꺼낸다.
+     */
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local tokens = {}
+            for i, key in ipairs(KEYS) do
+                local capacity = tonumber(ARGV[i * 2])
+                local rate = tonumber(ARGV[i * 2 + 1])
+                local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+                local current = tonumber(bucket[1]) or capacity
+                local ts = tonumber(bucket[2]) or now
+                current = math.min(capacity, current + math.max(0, now - ts) * rate)
+                if current < 1 then
+                    return 0
+                end
+                tokens[i] = current
+            end
+            for i, key in ipairs(KEYS) do
+                local capacity = tonumber(ARGV[i * 2])
+                local rate = tonumber(ARGV[i * 2 + 1])
+                redis.call('HSET', key, 'tokens', tokens[i] - 1, 'ts', now)
+                redis.call('PEXPIRE', key, math.ceil(capacity / rate))
+            end
+            return 1
+            """, Long.class);
+
+    private final RedisHandler redisHandler;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${pinnit.login.ip-capacity:20}")
+    private long ipCapacity;
+
+    @Value("${pinnit.login.ip-refill-per-minute:20}")
+    private long ipRefillPerMinute;
+
+    @Value("${pinnit.login.email-capacity:10}")
+    private long emailCapacity;
+
+    @Value("${pinnit.login.email-refill-per-minute:2}")
+    private long emailRefillPerMinute;
+
+    /**
+     * 로그인 시도 한 번에 해당하는 토큰을 꺼냅니다. 토큰이 없으면 LOGIN_RATE_LIMITED 예외를 던집니다.
+     * Redis 에 접근할 수 없으면 제한 없이 통과시킵니다.
+     */
+    public void acquire(String clientIp, String email) {
+        Long allowed;
+        try {
+            allowed = redisHandler.execute(TOKEN_BUCKET_SCRIPT,
+                    List.of(IP_KEY_PREFIX + clientIp, EMAIL_KEY_PREFIX + email.toLowerCase(Locale.ROOT)),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(ipCapacity), toRatePerMillis(ipRefillPerMinute),
+                    String.valueOf(emailCapacity), toRatePerMillis(emailRefillPerMinute));
+        } catch (DataAccessException e) {
+            log.warn("Login rate limit skipped. Redis unavailable. cause : {}", e.getMessage());
+            return;
+        }
+
+        if (allowed != null && allowed == 0L) {
+            meterRegistry.counter("pinnit.login.rate-limited").increment();
+            log.info("Login rate limit exceeded. ip : {}, email : {}", clientIp, email);
+            throw new BusinessLogicException("Too many login attempts.", ErrorCode.LOGIN_RATE_LIMITED);
+        }
+    }
+
+    private String toRatePerMillis(long refillPerMinute) {
+        return String.valueOf(refillPerMinute / 60_000.0);
+    }
+}
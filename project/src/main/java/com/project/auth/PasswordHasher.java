@@ -0,0 +1,93 @@
+package com.project.auth;
+
+import com.project.common.exception.BusinessLogicException;
+import com.project.common.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/*
+ * 비밀번호 해싱(BCrypt)을 전용 스레드 풀에서 수행한다.
+ * 동시에 해싱하는 수를 코어 수로 제한해 로그인 요청이 몰려도 다른 API 의 CPU 를 빼앗지 않고,
+ * 대기 큐가 가득 차면 해싱을 시작하기 전에 LOGIN_BUSY 로 바로 거절한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHasher {
+
+    private static final String HASH_METRIC = "pinnit.password.hash";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor passwordHashExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${pinnit.password.hash-timeout-millis:3000}")
+    private long timeoutMillis;
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return execute("encode", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 저장된 해시가 현재 설정(알고리즘, cost)보다 약해 다시 해싱해야 하는지 확인합니다.
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(String operation, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = passwordHashExecutor.submit(() -> {
+                timer(HASH_METRIC + ".queue", operation).record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer(HASH_METRIC, operation).record(task);
+            });
+        } catch (TaskRejectedException e) {
+            meterRegistry.counter(HASH_METRIC + ".rejected").increment();
+            log.warn("Password hashing rejected. queue is full.");
+            throw new BusinessLogicException("Password hashing queue is full.", ErrorCode.LOGIN_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Password hashing timed out after {}ms.", timeoutMillis);
+            throw new BusinessLogicException("Password hashing timed out.", ErrorCode.LOGIN_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new BusinessLogicException("Password hashing interrupted.", ErrorCode.LOGIN_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed.", e.getCause());
+        }
+    }
+
+    private Timer timer(String name, String operation) {
+        return Timer.builder(name)
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -1,7 +1,6 @@
 package com.project.auth;
 
 import com.project.common.annotation.Permission;
-import com.project.domain.users.api.interfaces.TokenService;
 import com.project.common.entity.Role;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -16,7 +15,7 @@ import javax.naming.AuthenticationException;
 @RequiredArgsConstructor
 public class PermissionInterceptor implements HandlerInterceptor {
 
-    private final TokenService tokenService;
+    private final AuthContext authContext;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
@@ -29,8 +28,7 @@ public class PermissionInterceptor implements HandlerInterceptor {
             return true;
         }
 
-        String token = request.getHeader("Authorization");
-        Role role = tokenService.getUserRole(token);
+        Role role = authContext.getPrincipal().role();
 
         if (permission.role().equals(role)) {
             return true;
@@ -0,0 +1,21 @@
+package com.project.common.entity;
+
+import lombok.Data;
+
+/*
+ * 키셋(커서) 페이지네이션 응답. 전체 개수를 세지 않으므로 totalElements/totalPages 가 없다.
+ */
+@Data
+public class CursorPagingResponse {
+
+    private String nextCursor;
+    private int pageSize;
+    private boolean hasNext;
+
+    public CursorPagingResponse(String nextCursor, int pageSize, boolean hasNext) {
+        this.nextCursor = nextCursor;
+        this.pageSize = pageSize;
+        this.hasNext = hasNext;
+    }
+
+}
@@ -1,9 +1,11 @@
 package com.project.common.entity;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
 
 @Data
+@NoArgsConstructor
 public class PagingResponse {
 
     private int currentPage;
@@ -15,13 +15,19 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(500, "C004", "알 수 없는 오류가 발생했습니다."),
     INVALID_TYPE_VALUE(400, "C005", "요청값의 타입이 유효하지 않습니다."),
     ACCESS_DENIED(403, "C006", "접근 권한이 없습니다."),
+    DUPLICATE_VALUE(409, "C007", "이미 존재하는 값입니다."),
 
     IMAGE_PROCESSING_ERROR(500, "I007", "이미지 파일 처리에 실패했습니다."),
+    IMAGE_UPLOAD_BUSY(503, "I008", "이미지 업로드 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // Member
     EMAIL_DUPLICATION(400, "M001", "이미 가입된 이메일입니다."),
     NICKNAME_DUPLICATION(400, "M002", "이미 존재하는 닉네임입니다."),
     LOGIN_INPUT_INVALID(400, "M003", "이메일 혹은 비밀번호를 확인해주세요."),
+    EMAIL_RATE_LIMITED(429, "M004", "인증 메일 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    MAIL_QUEUE_FULL(503, "M005", "메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    LOGIN_RATE_LIMITED(429, "M006", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    LOGIN_BUSY(503, "M007", "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // Pocket
     POCKET_MANAGER_ERROR(400, "C002", "포켓의 방장 관련 오류가 발생했습니다."),
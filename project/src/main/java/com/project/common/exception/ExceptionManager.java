@@ -1,6 +1,8 @@
 package com.project.common.exception;
 
+import com.project.common.utils.ConstraintUtils;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -74,6 +76,21 @@ public class ExceptionManager {
         return new ResponseEntity<>(response, HttpStatus.valueOf(ErrorCode.ACCESS_DENIED.getStatus()));
     }
 
+    /**
+     * DB 제약 조건을 위반한 경우 발생합니다.
+     * 유니크 인덱스 위반만 중복 값(409)으로 응답하고, NOT NULL, 외래 키 위반 등은 서버 오류로 처리합니다.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    protected ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        log.error("[handleDataIntegrityViolationException]", e);
+        if (!ConstraintUtils.isUniqueViolation(e)) {
+            final ErrorResponse response = ErrorResponse.of(ErrorCode.INTERNAL_SERVER_ERROR);
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        final ErrorResponse response = ErrorResponse.of(ErrorCode.DUPLICATE_VALUE);
+        return new ResponseEntity<>(response, HttpStatus.valueOf(ErrorCode.DUPLICATE_VALUE.getStatus()));
+    }
+
     @ExceptionHandler(BusinessLogicException.class)
     protected ResponseEntity<ErrorResponse> handleBusinessLogicException(final BusinessLogicException e) {
         log.error("[handleBusinessLogicException]", e);
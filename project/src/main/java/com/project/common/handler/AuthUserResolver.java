@@ -1,7 +1,8 @@
 package com.project.common.handler;
 
+import com.project.auth.AuthContext;
+import com.project.auth.AuthPrincipal;
 import com.project.common.annotation.AuthUser;
-import com.project.domain.users.api.interfaces.TokenService;
 import com.project.domain.users.entity.Users;
 import com.project.domain.users.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +20,7 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 @Slf4j
 public class AuthUserResolver implements HandlerMethodArgumentResolver {
 
-    private final TokenService tokenService;
+    private final AuthContext authContext;
     private final UserRepository userRepository;
 
     @Override
@@ -31,12 +32,17 @@ public class AuthUserResolver implements HandlerMethodArgumentResolver {
 
     }
 
+    /**
+     * 토큰의 userId 로 Users 프록시를 반환합니다.
+     * 조회 쿼리는 핸들러가 id 외의 필드에 처음 접근할 때 실행됩니다.
+     */
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
-        String jwt = webRequest.getHeader("Authorization");
+        AuthPrincipal principal = authContext.getPrincipal();
+        if (principal.userId() == null) {
+            throw new Exception("인증되지 않은 사용자입니다.");
+        }
 
-        return userRepository.findById(tokenService.getUserId(jwt)).orElseThrow(
-                () -> new Exception("인증되지 않은 사용자입니다.")
-        );
+        return userRepository.getReferenceById(principal.userId());
     }
 }
@@ -0,0 +1,47 @@
+package com.project.common.handler;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/*
+ * 애플리케이션 ObjectMapper 설정(JavaTimeModule 등)을 그대로 사용하는 Redis 직렬화기.
+ * JSON / Smile 모두 ObjectMapper 의 JsonFactory 만 바꿔 사용한다.
+ */
+class JacksonRedisSerializer<T> implements RedisSerializer<T> {
+
+    private final ObjectMapper objectMapper;
+    private final JavaType type;
+
+    JacksonRedisSerializer(ObjectMapper objectMapper, JavaType type) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write value: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read value: " + e.getMessage(), e);
+        }
+    }
+}
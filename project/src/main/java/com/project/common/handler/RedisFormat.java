@@ -0,0 +1,11 @@
+package com.project.common.handler;
+
+/*
+ * Redis 값 직렬화 방식.
+ * STRING : 문자열 그대로 (String 타입 전용)
+ * JSON   : Jackson JSON. 사람이 읽을 수 있어 디버깅이 쉽다.
+ * SMILE  : Jackson Smile (바이너리 JSON). JSON 보다 작고 파싱이 빠르다.
+ */
+public enum RedisFormat {
+    STRING, JSON, SMILE
+}
@@ -1,35 +1,126 @@
 package com.project.common.handler;
 
-import jakarta.transaction.Transactional;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 public class RedisHandler {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private TypedRedisHandler<String> stringValues;
+
+    @PostConstruct
+    public void init() {
+        stringValues = typed(String.class, RedisFormat.STRING);
+    }
 
-    @Transactional
     public void setValues(String key, String value){
         redisTemplate.opsForValue().set(key, value);
     }
 
     // 만료시간 설정 -> 자동 삭제
-    @Transactional
     public void setValuesWithTimeout(String key, String value, long timeout){
         redisTemplate.opsForValue().set(key, value, timeout, TimeUnit.MILLISECONDS);
     }
 
+    // 키가 없을 때만 저장한다. 저장했으면 true
+    public boolean setValuesIfAbsent(String key, String value, long timeout) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, timeout, TimeUnit.MILLISECONDS));
+    }
+
     public String getValues(String key){
         return redisTemplate.opsForValue().get(key);
     }
 
-    @Transactional
+    // 여러 키를 MGET 한 번으로 조회한다. 값이 없는 키는 결과에 포함되지 않는다.
+    public Map<String, String> multiGetValues(List<String> keys) {
+        return stringValues.multiGet(keys);
+    }
+
+    // 여러 키를 만료 시간과 함께 파이프라인으로 한 번에 저장한다.
+    public void multiSetValuesWithTimeout(Map<String, String> values, long timeout) {
+        stringValues.multiSet(values, timeout);
+    }
+
+    public Long increment(String key) {
+        return redisTemplate.opsForValue().increment(key);
+    }
+
+    public Long incrementHash(String key, String field, long delta) {
+        return redisTemplate.opsForHash().increment(key, field, delta);
+    }
+
+    // 여러 명령을 한 번의 왕복으로 원자적으로 실행한다.
+    public <T> T execute(RedisScript<T> script, List<String> keys, String... args) {
+        return redisTemplate.execute(script, keys, (Object[]) args);
+    }
+
+    // 리스트 왼쪽에 추가한다. popValues 와 함께 쓰면 먼저 들어온 값부터 꺼낸다.
+    public void pushValues(String key, String value) {
+        redisTemplate.opsForList().leftPush(key, value);
+    }
+
+    // 리스트 오른쪽에서 최대 count 개를 꺼낸다. (Redis 6.2 이상)
+    public List<String> popValues(String key, int count) {
+        List<String> values = redisTemplate.opsForList().rightPop(key, count);
+        return values == null ? List.of() : values;
+    }
+
+    // 최근에 추가된 maxSize 개만 남긴다.
+    public void trimValues(String key, long maxSize) {
+        redisTemplate.opsForList().trim(key, 0, maxSize - 1);
+    }
+
+    public void addSortedValue(String key, String value, double score) {
+        redisTemplate.opsForZSet().add(key, value, score);
+    }
+
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
     public void deleteValues(String key) {
         redisTemplate.delete(key);
     }
+
+    /**
+     * 값 타입과 직렬화 방식을 지정한 Redis 접근 도구를 생성합니다.
+     * 생성 비용이 있으므로 필드에 보관하여 재사용합니다.
+     */
+    public <T> TypedRedisHandler<T> typed(Class<T> type, RedisFormat format) {
+        return new TypedRedisHandler<>(redisTemplate, createSerializer(objectMapper.constructType(type), format));
+    }
+
+    public <T> TypedRedisHandler<T> typed(TypeReference<T> type, RedisFormat format) {
+        return new TypedRedisHandler<>(redisTemplate, createSerializer(objectMapper.constructType(type), format));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> RedisSerializer<T> createSerializer(JavaType type, RedisFormat format) {
+        return switch (format) {
+            case STRING -> {
+                if (!type.hasRawClass(String.class)) {
+                    throw new IllegalArgumentException("STRING format supports only String values. type : " + type);
+                }
+                yield (RedisSerializer<T>) RedisSerializer.string();
+            }
+            case JSON -> new JacksonRedisSerializer<>(objectMapper, type);
+            case SMILE -> new JacksonRedisSerializer<>(objectMapper.copyWith(new SmileFactory()), type);
+        };
+    }
 }
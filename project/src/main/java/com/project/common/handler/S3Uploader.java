@@ -1,32 +1,58 @@
 package com.project.common.handler;
 
+import com.amazonaws.AmazonServiceException;
 import com.amazonaws.SdkClientException;
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
 import com.project.common.exception.BusinessLogicException;
 import com.project.common.exception.ErrorCode;
-import com.project.common.utils.FileUtils;
+import com.project.common.utils.BackoffUtils;
+import com.project.common.utils.ImageUtils;
 import com.project.domain.picture.dto.PictureDetail;
 import com.project.domain.picture.entity.Picture;
 import com.project.domain.picture.repository.PictureRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class S3Uploader {
-    private final AmazonS3Client amazonS3Client;
+    // S3 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외)
+    public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private static final String UPLOAD_METRIC = "pinnit.s3.upload";
+    private static final String RENDITION_METRIC = "pinnit.image.rendition";
+
+    private final AmazonS3 amazonS3;
+    private final ThreadPoolTaskExecutor uploadExecutor;
+    private final ThreadPoolTaskExecutor imageExecutor;
+    private final MeterRegistry meterRegistry;
 
     @Value("${cloud.aws.cloud-front-domain}")
     private String cloudFrontDomain;
@@ -34,57 +60,364 @@ public class S3Uploader {
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    @Value("${cloud.aws.s3.part-size:" + MIN_PART_SIZE + "}")
+    private int partSize;
+
+    @Value("${pinnit.upload.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${pinnit.upload.backoff-millis:200}")
+    private long backoffMillis;
+
+    @Value("${pinnit.upload.max-backoff-millis:2000}")
+    private long maxBackoffMillis;
+
+    // 축소본의 긴 변 길이(px)
+    @Value("${pinnit.image.thumbnail-size:320}")
+    private int thumbnailSize;
+
+    @Value("${pinnit.image.medium-size:1080}")
+    private int mediumSize;
+
+    @Value("${pinnit.image.quality:0.8}")
+    private float quality;
+
     private final PictureRepository pictureRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder(UPLOAD_METRIC + ".queue.size", uploadExecutor, executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("S3 업로드 대기 큐 길이")
+                .register(meterRegistry);
+        Gauge.builder(UPLOAD_METRIC + ".active", uploadExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("진행 중인 S3 업로드 수")
+                .register(meterRegistry);
+        Gauge.builder(RENDITION_METRIC + ".queue.size", imageExecutor, executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("이미지 축소본 생성 대기 큐 길이")
+                .register(meterRegistry);
+    }
 
-    public void uploadAsync(MultipartFile multipartFile, String path) {
-        CompletableFuture.supplyAsync(() -> convert(multipartFile, path))
-                .thenAccept(convertedFile -> {
-                    try {
-                        multipartFile.transferTo(convertedFile.orElseThrow(() -> new BusinessLogicException("Convert multipartFile to File failed.", ErrorCode.IMAGE_PROCESSING_ERROR)));
-                        putS3(convertedFile.get(), path);
-                    } catch (IOException e) {
-                        throw new BusinessLogicException("MultipartFile transfer failed.", ErrorCode.IMAGE_PROCESSING_ERROR);
-                    } catch (SdkClientException e) {
-                        throw new BusinessLogicException("Upload to S3 failed.", ErrorCode.IMAGE_PROCESSING_ERROR);
-                    } finally {
-                        if (convertedFile.isPresent()) {
-                            File uploadFile = convertedFile.get();
-                            if (uploadFile.delete()) {
-                                log.info("targetFile : {} is deleted.", uploadFile.getName());
-                            } else {
-                                log.error("targetFile : {} is not deleted.", uploadFile.getName());
-                            }
-                        }
-                    }
-                });
-    }
-    private void putS3(File uploadFile, String path) {
-        amazonS3Client.putObject(new PutObjectRequest(bucket, path, uploadFile).withCannedAcl(CannedAccessControlList.PublicRead));
-    }
-
-    private Optional<File> convert(MultipartFile file, String fullPath) {
-        File convertFile = new File(FileUtils.getLocalHomeDirectory(), fullPath);
+    /**
+     * 업로드 전용 스레드 풀에서 S3 업로드를 수행합니다.
+     * 대기 큐가 가득 차면 IMAGE_UPLOAD_BUSY 예외를 던져 호출자에게 즉시 알립니다.
+     * @return 업로드 완료(또는 실패)를 기다리거나 확인할 수 있는 Future
+     */
+    public CompletableFuture<Void> uploadAsync(MultipartFile multipartFile, String path) {
+        // 요청이 끝나면 multipart 임시 파일이 정리되므로, 스트림은 요청 스레드에서 미리 열어둔다.
+        InputStream inputStream = openStream(multipartFile);
+        String contentType = multipartFile.getContentType();
         try {
-            if (convertFile.createNewFile()) {
-                try (FileOutputStream fos = new FileOutputStream(convertFile)) {
-                    fos.write(file.getBytes());
+            return CompletableFuture.runAsync(() -> upload(inputStream, path, contentType), uploadExecutor);
+        } catch (TaskRejectedException e) {
+            closeQuietly(inputStream);
+            meterRegistry.counter(UPLOAD_METRIC + ".rejected").increment();
+            log.warn("Upload rejected. queue is full. path : {}", path);
+            throw new BusinessLogicException("Upload queue is full.", ErrorCode.IMAGE_UPLOAD_BUSY);
+        }
+    }
+
+    private void upload(InputStream inputStream, String path, String contentType) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failure";
+        try (inputStream) {
+            putS3(inputStream, path, contentType);
+            result = "success";
+        } catch (IOException e) {
+            log.error("MultipartFile transfer failed. path : {}", path, e);
+            throw new BusinessLogicException("MultipartFile transfer failed.", ErrorCode.IMAGE_PROCESSING_ERROR);
+        } catch (SdkClientException e) {
+            log.error("Upload to S3 failed. path : {}", path, e);
+            throw new BusinessLogicException("Upload to S3 failed.", ErrorCode.IMAGE_PROCESSING_ERROR);
+        } finally {
+            sample.stop(meterRegistry.timer(UPLOAD_METRIC, "result", result));
+        }
+    }
+
+    /**
+     * 원본 이미지로 썸네일 / 중간 크기 JPEG 축소본을 만들어 S3 에 올리고, 성공하면 Picture 의 축소본 URL 을 갱신합니다.
+     * 축소본은 부가 기능이므로 큐가 가득 차거나 실패하면 로그만 남기고, 응답은 원본 URL 로 대체됩니다.
+     * @return 축소본 생성 완료를 기다리거나 확인할 수 있는 Future (거절된 경우 null)
+     */
+    public CompletableFuture<Void> generateRenditionsAsync(MultipartFile multipartFile, Long pictureId, PictureDetail pictureDetail) {
+        InputStream inputStream;
+        try {
+            inputStream = multipartFile.getInputStream();
+        } catch (IOException e) {
+            log.error("Open MultipartFile stream failed. path : {}", pictureDetail.getPath(), e);
+            return null;
+        }
+        try {
+            return CompletableFuture.runAsync(() -> generateRenditions(inputStream, pictureId, pictureDetail), imageExecutor);
+        } catch (TaskRejectedException e) {
+            closeQuietly(inputStream);
+            meterRegistry.counter(RENDITION_METRIC + ".rejected").increment();
+            log.warn("Image rendition rejected. queue is full. path : {}", pictureDetail.getPath());
+            return null;
+        }
+    }
+
+    private void generateRenditions(InputStream inputStream, Long pictureId, PictureDetail pictureDetail) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failure";
+        try (inputStream) {
+            Optional<BufferedImage> image = ImageUtils.read(inputStream, mediumSize);
+            if (image.isEmpty()) {
+                log.warn("Unsupported image format. path : {}", pictureDetail.getPath());
+                result = "unsupported";
+                return;
+            }
+
+            // 썸네일은 중간 크기 이미지에서 한 번 더 줄여 계단 현상을 줄인다.
+            BufferedImage medium = ImageUtils.resize(image.get(), mediumSize);
+            BufferedImage thumbnail = ImageUtils.resize(medium, thumbnailSize);
+            putS3(new ByteArrayInputStream(ImageUtils.toJpeg(medium, quality)), pictureDetail.getMediumPath(), ImageUtils.RENDITION_CONTENT_TYPE);
+            putS3(new ByteArrayInputStream(ImageUtils.toJpeg(thumbnail, quality)), pictureDetail.getThumbnailPath(), ImageUtils.RENDITION_CONTENT_TYPE);
+
+            // 이미지 작업 스레드에는 트랜잭션이 없으므로 갱신만 짧은 트랜잭션으로 실행한다.
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    pictureRepository.updateRenditionUrls(pictureId, toUrl(pictureDetail.getThumbnailPath()), toUrl(pictureDetail.getMediumPath())));
+            result = "success";
+        } catch (IOException | SdkClientException | DataAccessException | TransactionException e) {
+            log.error("Generate image renditions failed. path : {}", pictureDetail.getPath(), e);
+        } finally {
+            sample.stop(meterRegistry.timer(RENDITION_METRIC, "result", result));
+        }
+    }
+
+    /**
+     * InputStream 을 partSize 크기의 버퍼 하나에 나누어 담아 S3 로 전송합니다.
+     * 버퍼 하나로 모든 파트를 보내므로 업로드 당 메모리 사용량은 이미지 크기와 무관하게 partSize 로 고정됩니다.
+     * 첫 파트에서 스트림이 끝나면 단일 PutObject 로, 그렇지 않으면 멀티파트 업로드로 전송합니다.
+     */
+    public void putS3(InputStream inputStream, String path, String contentType) throws IOException {
+        byte[] buffer = new byte[Math.max(partSize, MIN_PART_SIZE)];
+        int read = readFully(inputStream, buffer);
+        if (read < buffer.length) {
+            ObjectMetadata metadata = createMetadata(contentType);
+            metadata.setContentLength(read);
+            int length = read;
+            withRetry(() -> amazonS3.putObject(new PutObjectRequest(bucket, path, new ByteArrayInputStream(buffer, 0, length), metadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead)), path);
+            return;
+        }
+
+        String uploadId = withRetry(() -> amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, path, createMetadata(contentType))
+                .withCannedACL(CannedAccessControlList.PublicRead)), path).getUploadId();
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            while (read > 0) {
+                // 실패한 파트는 버퍼에 남아 있으므로 그대로 다시 보낼 수 있다.
+                int partNumber = partETags.size() + 1;
+                int length = read;
+                UploadPartResult result = withRetry(() -> amazonS3.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(path)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                        .withPartSize(length)), path);
+                partETags.add(result.getPartETag());
+                read = readFully(inputStream, buffer);
+            }
+            withRetry(() -> amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, path, uploadId, partETags)), path);
+        } catch (IOException | SdkClientException e) {
+            abortMultipartUpload(path, uploadId);
+            throw e;
+        }
+    }
+
+    /**
+     * 일시적인 S3 오류(네트워크, 5xx, 429)는 지터를 섞은 지수 백오프로 maxAttempts 까지 재시도합니다.
+     */
+    private <T> T withRetry(Supplier<T> request, String path) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return request.get();
+            } catch (SdkClientException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
                 }
-                return Optional.of(convertFile);
+                long backoff = BackoffUtils.fullJitterMillis(backoffMillis, maxBackoffMillis, attempt);
+                meterRegistry.counter(UPLOAD_METRIC + ".retry").increment();
+                log.warn("S3 request failed. retry {} after {}ms. path : {}, cause : {}", attempt, backoff, path, e.getMessage());
+                sleep(backoff);
             }
+        }
+    }
+
+    private boolean isRetryable(SdkClientException e) {
+        if (e instanceof AmazonServiceException serviceException) {
+            int status = serviceException.getStatusCode();
+            return status >= 500 || status == 429;
+        }
+        return true;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SdkClientException("Upload interrupted.", e);
+        }
+    }
+
+    private void abortMultipartUpload(String path, String uploadId) {
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, path, uploadId));
+            log.error("Multipart upload aborted. path : {}", path);
+        } catch (SdkClientException e) {
+            log.error("Abort multipart upload failed. path : {}, uploadId : {}", path, uploadId);
+        }
+    }
+
+    private void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
         } catch (IOException e) {
-            throw new BusinessLogicException("Convert MultipartFile to File Failed.", ErrorCode.INTERNAL_SERVER_ERROR);
+            log.warn("Close MultipartFile stream failed. {}", e.getMessage());
         }
-        return Optional.empty();
     }
 
-    public List<Picture> uploadAndSavePictures(List<MultipartFile> pictureList) {
-        return pictureList.stream().map((picture) -> {
-            PictureDetail pictureDetail = PictureDetail.multipartOf(picture);
-            // S3에 사진 업로드
-            String path = pictureDetail.getPath();
-            uploadAsync(picture, path);
-            // Picture 생성
-            return pictureRepository.save(Picture.builder().originalName(pictureDetail.getName()).url("https://" + cloudFrontDomain + "/" + path).build());
-        }).toList();
+    private InputStream openStream(MultipartFile multipartFile) {
+        try {
+            return multipartFile.getInputStream();
+        } catch (IOException e) {
+            throw new BusinessLogicException("Open MultipartFile stream failed.", ErrorCode.IMAGE_PROCESSING_ERROR);
+        }
+    }
+
+    private ObjectMetadata createMetadata(String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        if (contentType != null) {
+            metadata.setContentType(contentType);
+        }
+        return metadata;
+    }
+
+    // 버퍼가 가득 차거나 스트림이 끝날 때까지 읽고, 읽은 바이트 수를 반환한다.
+    private int readFully(InputStream inputStream, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int read = inputStream.read(buffer, total, buffer.length - total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    /**
+     * 사진들을 S3 에 병렬로 업로드하고 Picture 를 저장합니다.
+     * 업로드 완료는 반환된 PictureUploads.await() 로 기다려야 하며, 실패하면 예외가 발생해 트랜잭션이 롤백됩니다.
+     * 트랜잭션이 롤백되면 업로드한 객체를 S3 에서 삭제합니다.
+     */
+    public PictureUploads uploadAndSavePictures(List<MultipartFile> pictureList) {
+        // 일부만 큐에 들어간 뒤 거절되지 않도록, 모든 사진을 받을 수 있을 때만 업로드를 시작한다.
+        checkUploadCapacity(pictureList.size());
+
+        List<PictureDetail> pictureDetails = pictureList.stream().map(PictureDetail::multipartOf).toList();
+        List<CompletableFuture<Void>> uploads = new ArrayList<>();
+        try {
+            for (int i = 0; i < pictureList.size(); i++) {
+                uploads.add(uploadAsync(pictureList.get(i), pictureDetails.get(i).getPath()));
+            }
+        } catch (BusinessLogicException e) {
+            // 검사 이후 다른 요청이 큐를 채운 경우. 이미 큐에 들어간 업로드는 끝나는 대로 삭제한다.
+            deleteAfterUploads(uploads, pictureDetails);
+            throw e;
+        }
+        deleteUploadsOnRollback(uploads, pictureDetails);
+
+        List<Picture> savedPictures = new ArrayList<>();
+        for (int i = 0; i < pictureList.size(); i++) {
+            PictureDetail pictureDetail = pictureDetails.get(i);
+            Picture savedPicture = pictureRepository.save(Picture.builder().originalName(pictureDetail.getName()).url(toUrl(pictureDetail.getPath())).build());
+            // 축소본은 Picture 가 커밋된 뒤에 생성해야 URL 갱신이 유실되지 않는다.
+            generateRenditionsAfterCommit(pictureList.get(i), savedPicture.getId(), pictureDetail);
+            savedPictures.add(savedPicture);
+        }
+        return new PictureUploads(savedPictures, CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)));
+    }
+
+    private void checkUploadCapacity(int count) {
+        ThreadPoolExecutor executor = uploadExecutor.getThreadPoolExecutor();
+        int available = executor.getQueue().remainingCapacity() + Math.max(0, executor.getMaximumPoolSize() - executor.getActiveCount());
+        if (available < count) {
+            meterRegistry.counter(UPLOAD_METRIC + ".rejected").increment(count);
+            log.warn("Upload rejected. not enough capacity. requested : {}, available : {}", count, available);
+            throw new BusinessLogicException("Upload queue is full.", ErrorCode.IMAGE_UPLOAD_BUSY);
+        }
+    }
+
+    private void deleteUploadsOnRollback(List<CompletableFuture<Void>> uploads, List<PictureDetail> pictureDetails) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    deleteAfterUploads(uploads, pictureDetails);
+                }
+            }
+        });
+    }
+
+    // 진행 중인 업로드가 끝난 뒤에 삭제해야 삭제 후에 객체가 다시 생기지 않는다.
+    private void deleteAfterUploads(List<CompletableFuture<Void>> uploads, List<PictureDetail> pictureDetails) {
+        for (int i = 0; i < uploads.size(); i++) {
+            String path = pictureDetails.get(i).getPath();
+            uploads.get(i).whenComplete((result, e) -> deleteQuietly(path));
+        }
+    }
+
+    private void deleteQuietly(String path) {
+        try {
+            amazonS3.deleteObject(bucket, path);
+            log.info("Uploaded object deleted. path : {}", path);
+        } catch (SdkClientException e) {
+            log.error("Delete uploaded object failed. path : {}", path, e);
+        }
+    }
+
+    private void generateRenditionsAfterCommit(MultipartFile multipartFile, Long pictureId, PictureDetail pictureDetail) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generateRenditionsAsync(multipartFile, pictureId, pictureDetail);
+                }
+            });
+        } else {
+            generateRenditionsAsync(multipartFile, pictureId, pictureDetail);
+        }
+    }
+
+    private String toUrl(String path) {
+        return "https://" + cloudFrontDomain + "/" + path;
+    }
+
+    /**
+     * 저장된 Picture 와 S3 업로드 완료 Future.
+     */
+    public record PictureUploads(List<Picture> pictures, CompletableFuture<Void> completion) {
+
+        /**
+         * 모든 업로드가 끝날 때까지 기다립니다. 하나라도 실패하면 예외를 던집니다.
+         */
+        public List<Picture> await() {
+            try {
+                completion.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof BusinessLogicException cause) {
+                    throw cause;
+                }
+                throw new BusinessLogicException("Upload to S3 failed.", ErrorCode.IMAGE_PROCESSING_ERROR);
+            }
+            return pictures;
+        }
     }
 }
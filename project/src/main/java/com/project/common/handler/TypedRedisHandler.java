@@ -0,0 +1,190 @@
+package com.project.common.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/*
+ * 값 타입과 직렬화 방식이 정해진 Redis 접근 도구. RedisHandler.typed 로 생성한다.
+ * 여러 키를 다루는 연산은 MGET / HMGET 같은 다중 키 명령이나 파이프라인으로 묶어 한 번의 왕복으로 처리한다.
+ * 만료 시간(timeout)의 단위는 RedisHandler 와 같은 밀리초이다.
+ * 여러 값을 조회하는 연산은 읽을 수 없는 값(응답 구조나 직렬화 방식 변경)을 로그만 남기고 없는 값으로 취급한다.
+ */
+@Slf4j
+public class TypedRedisHandler<T> {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisSerializer<T> serializer;
+
+    TypedRedisHandler(StringRedisTemplate redisTemplate, RedisSerializer<T> serializer) {
+        this.redisTemplate = redisTemplate;
+        this.serializer = serializer;
+    }
+
+    public T get(String key) {
+        return deserialize(getRaw(key));
+    }
+
+    public void set(String key, T value, long timeout) {
+        setRaw(key, serialize(value), timeout);
+    }
+
+    /**
+     * 직렬화된 값을 그대로 조회합니다. 값을 여러 번 복원해야 하는 경우(ex. 로컬 캐시) deserialize 와 함께 사용합니다.
+     */
+    public byte[] getRaw(String key) {
+        return redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(toBytes(key)));
+    }
+
+    public void setRaw(String key, byte[] value, long timeout) {
+        redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                .set(toBytes(key), value, Expiration.milliseconds(timeout), RedisStringCommands.SetOption.upsert()));
+    }
+
+    public byte[] serialize(T value) {
+        return serializer.serialize(value);
+    }
+
+    public T deserialize(byte[] value) {
+        return serializer.deserialize(value);
+    }
+
+    /**
+     * 여러 키를 MGET 한 번으로 조회합니다.
+     * @return 키 순서를 유지하며, 값이 없거나 읽을 수 없는 키는 포함하지 않습니다.
+     */
+    public Map<String, T> multiGet(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(toBytes(keys)));
+        Map<String, T> result = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            T value = values == null ? null : deserializeQuietly(keys.get(i), values.get(i));
+            if (value != null) {
+                result.put(keys.get(i), value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 여러 키를 만료 시간과 함께 저장합니다. (MSET 은 만료 시간을 지정할 수 없으므로 SET PX 를 파이프라인으로 보냅니다)
+     */
+    public void multiSet(Map<String, T> values, long timeout) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            values.forEach((key, value) -> connection.stringCommands()
+                    .set(toBytes(key), serializer.serialize(value), Expiration.milliseconds(timeout), RedisStringCommands.SetOption.upsert()));
+            return null;
+        });
+    }
+
+    public void expire(Collection<String> keys, long timeout) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> connection.keyCommands().pExpire(toBytes(key), timeout));
+            return null;
+        });
+    }
+
+    public void delete(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.keyCommands().del(toBytes(keys)));
+    }
+
+    /**
+     * 해시 필드를 한 번에 저장하고 해시 키의 만료 시간을 갱신합니다.
+     */
+    public void putHash(String key, Map<String, T> fields, long timeout) {
+        if (fields.isEmpty()) {
+            return;
+        }
+
+        Map<byte[], byte[]> hash = new LinkedHashMap<>();
+        fields.forEach((field, value) -> hash.put(toBytes(field), serializer.serialize(value)));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hMSet(toBytes(key), hash);
+            connection.keyCommands().pExpire(toBytes(key), timeout);
+            return null;
+        });
+    }
+
+    public Map<String, T> getHash(String key) {
+        Map<byte[], byte[]> hash = redisTemplate.execute((RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(toBytes(key)));
+        Map<String, T> result = new LinkedHashMap<>();
+        if (hash != null) {
+            hash.forEach((field, value) -> {
+                String fieldName = new String(field, StandardCharsets.UTF_8);
+                T deserialized = deserializeQuietly(key + " " + fieldName, value);
+                if (deserialized != null) {
+                    result.put(fieldName, deserialized);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 해시의 여러 필드를 HMGET 한 번으로 조회합니다.
+     * @return 필드 순서를 유지하며, 값이 없거나 읽을 수 없는 필드는 포함하지 않습니다.
+     */
+    public Map<String, T> multiGetHash(String key, List<String> fields) {
+        if (fields.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> connection.hashCommands().hMGet(toBytes(key), toBytes(fields)));
+        Map<String, T> result = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            T value = values == null ? null : deserializeQuietly(key + " " + fields.get(i), values.get(i));
+            if (value != null) {
+                result.put(fields.get(i), value);
+            }
+        }
+        return result;
+    }
+
+    public void deleteHash(String key, Collection<String> fields) {
+        if (fields.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.hashCommands().hDel(toBytes(key), toBytes(fields)));
+    }
+
+    // 값 하나를 읽지 못해 나머지 값까지 버리지 않도록, 읽을 수 없는 값은 없는 값으로 취급한다. (호출자가 다시 계산해 덮어쓴다)
+    private T deserializeQuietly(String key, byte[] value) {
+        try {
+            return serializer.deserialize(value);
+        } catch (SerializationException e) {
+            log.warn("Unreadable redis value skipped. key : {}, {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[][] toBytes(Collection<String> values) {
+        return values.stream().map(TypedRedisHandler::toBytes).toArray(byte[][]::new);
+    }
+}
@@ -0,0 +1,78 @@
+package com.project.common.mail;
+
+import com.project.common.exception.BusinessLogicException;
+import com.project.common.exception.ErrorCode;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.*;
+
+/*
+ * 서버 메모리에 보관하는 메일 대기열. Redis 를 사용할 수 없을 때의 대체 수단이며,
+ * 서버가 재시작되면 대기 중인 메일은 사라진다.
+ */
+public class InMemoryMailQueue implements MailQueue {
+
+    private final int capacity;
+    private final BlockingQueue<MailMessage> ready;
+    private final DelayQueue<DelayedMail> retries = new DelayQueue<>();
+    private final Deque<MailMessage> deadLetters = new ConcurrentLinkedDeque<>();
+
+    public InMemoryMailQueue(int capacity) {
+        this.capacity = capacity;
+        this.ready = new LinkedBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public void push(MailMessage message) {
+        if (!ready.offer(message)) {
+            throw new BusinessLogicException("Mail queue is full.", ErrorCode.MAIL_QUEUE_FULL);
+        }
+    }
+
+    @Override
+    public List<MailMessage> poll(int maxCount) {
+        List<MailMessage> messages = new ArrayList<>(maxCount);
+        DelayedMail due;
+        while (messages.size() < maxCount && (due = retries.poll()) != null) {
+            messages.add(due.message());
+        }
+        ready.drainTo(messages, maxCount - messages.size());
+        return messages;
+    }
+
+    @Override
+    public void retryLater(MailMessage message, long delayMillis) {
+        if (retries.size() >= capacity) {
+            deadLetter(message);
+            return;
+        }
+        retries.offer(new DelayedMail(message, System.currentTimeMillis() + delayMillis));
+    }
+
+    @Override
+    public void deadLetter(MailMessage message) {
+        deadLetters.addFirst(message);
+        while (deadLetters.size() > capacity) {
+            deadLetters.pollLast();
+        }
+    }
+
+    public List<MailMessage> getDeadLetters() {
+        return List.copyOf(deadLetters);
+    }
+
+    private record DelayedMail(MailMessage message, long dueAt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.project.common.mail;
+
+import com.project.common.exception.BusinessLogicException;
+import com.project.common.exception.ErrorCode;
+import com.project.common.handler.RedisHandler;
+import com.project.common.utils.BackoffUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/*
+ * 메일 발송 대기열을 주기적으로 꺼내 메일 전용 스레드 풀에서 발송한다.
+ * 한 번에 꺼낸 메일은 하나의 SMTP 연결로 묶어 보내고, 실패한 메일은 재시도 후 dead-letter 로 옮긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailDispatcher {
+
+    private static final String MAIL_METRIC = "pinnit.mail.delivery";
+    private static final String RATE_LIMIT_KEY_PREFIX = "mail:rate:";
+
+    // 주소별 발송 횟수를 세고, 첫 요청에서만 만료 시간을 건다.
+    private static final RedisScript<Long> RATE_LIMIT_SCRIPT = new DefaultRedisScript<>("""
+            local count = redis.call('INCR', KEYS[1])
+            if count == 1 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            end
+            return count
+            """, Long.class);
+
+    private final MailQueue mailQueue;
+    private final JavaMailSender javaMailSender;
+    private final ThreadPoolTaskExecutor mailExecutor;
+    private final RedisHandler redisHandler;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${pinnit.mail.from:pinnit@naver.com}")
+    private String from;
+
+    // 하나의 SMTP 연결로 보내는 최대 메일 수
+    @Value("${pinnit.mail.batch-size:20}")
+    private int batchSize;
+
+    @Value("${pinnit.mail.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${pinnit.mail.backoff-millis:1000}")
+    private long backoffMillis;
+
+    @Value("${pinnit.mail.max-backoff-millis:60000}")
+    private long maxBackoffMillis;
+
+    // 같은 주소로 window 동안 보낼 수 있는 최대 메일 수
+    @Value("${pinnit.mail.rate-limit:5}")
+    private long rateLimit;
+
+    @Value("${pinnit.mail.rate-limit-window-millis:600000}")
+    private long rateLimitWindowMillis;
+
+    /**
+     * 주소별 발송 횟수 제한을 확인합니다. 제한을 넘으면 EMAIL_RATE_LIMITED 예외를 던집니다.
+     * Redis 에 접근할 수 없으면 제한 없이 통과시킵니다.
+     */
+    public void checkRateLimit(String to) {
+        Long count;
+        try {
+            count = redisHandler.execute(RATE_LIMIT_SCRIPT, List.of(RATE_LIMIT_KEY_PREFIX + to.toLowerCase(Locale.ROOT)),
+                    String.valueOf(rateLimitWindowMillis));
+        } catch (DataAccessException e) {
+            log.warn("Mail rate limit skipped. Redis unavailable. cause : {}", e.getMessage());
+            return;
+        }
+
+        if (count != null && count > rateLimit) {
+            meterRegistry.counter(MAIL_METRIC, "result", "rate-limited").increment();
+            log.info("Mail rate limit exceeded. to : {}, count : {}", to, count);
+            throw new BusinessLogicException("Too many mail requests.", ErrorCode.EMAIL_RATE_LIMITED);
+        }
+    }
+
+    /**
+     * 메일을 발송 대기열에 넣고 바로 반환합니다.
+     */
+    public void enqueue(String to, String subject, String text) {
+        MailMessage message = MailMessage.of(to, subject, text);
+        mailQueue.push(message);
+        log.info("Mail enqueued. id : {}, subject : {}", message.id(), subject);
+    }
+
+    @Scheduled(fixedDelayString = "${pinnit.mail.poll-interval-millis:500}")
+    public void dispatch() {
+        while (hasCapacity()) {
+            List<MailMessage> batch = mailQueue.poll(batchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                mailExecutor.execute(() -> deliver(batch));
+            } catch (TaskRejectedException e) {
+                batch.forEach(message -> mailQueue.retryLater(message, 0));
+                return;
+            }
+
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    void deliver(List<MailMessage> batch) {
+        Map<MimeMessage, MailMessage> prepared = new LinkedHashMap<>();
+        for (MailMessage message : batch) {
+            try {
+                prepared.put(toMimeMessage(message), message);
+            } catch (MessagingException | MailException e) {
+                // 주소 형식 오류 등은 다시 보내도 실패하므로 바로 dead-letter 로 옮긴다.
+                log.error("Invalid mail message dead-lettered. id : {}, cause : {}", message.id(), e.getMessage());
+                deadLetter(message);
+            }
+        }
+        if (prepared.isEmpty()) {
+            return;
+        }
+
+        try {
+            javaMailSender.send(prepared.keySet().toArray(MimeMessage[]::new));
+            meterRegistry.counter(MAIL_METRIC, "result", "sent").increment(prepared.size());
+        } catch (MailSendException e) {
+            // 연결 실패 시에는 실패 목록이 비어 있을 수 있으므로 전부 실패로 본다.
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            prepared.forEach((mimeMessage, message) -> {
+                if (failedMessages.isEmpty() || failedMessages.containsKey(mimeMessage)) {
+                    handleFailure(message, e);
+                } else {
+                    meterRegistry.counter(MAIL_METRIC, "result", "sent").increment();
+                }
+            });
+        } catch (MailException e) {
+            prepared.values().forEach(message -> handleFailure(message, e));
+        }
+    }
+
+    private void handleFailure(MailMessage message, Exception cause) {
+        MailMessage next = message.nextAttempt();
+        if (next.attempt() >= maxAttempts) {
+            log.error("Mail delivery failed {} times. dead-lettered. id : {}, cause : {}", next.attempt(), message.id(), cause.getMessage());
+            deadLetter(next);
+            return;
+        }
+
+        long backoff = BackoffUtils.fullJitterMillis(backoffMillis, maxBackoffMillis, next.attempt());
+        log.warn("Mail delivery failed. retry {} after {}ms. id : {}, cause : {}", next.attempt(), backoff, message.id(), cause.getMessage());
+        meterRegistry.counter(MAIL_METRIC, "result", "retry").increment();
+        mailQueue.retryLater(next, backoff);
+    }
+
+    private void deadLetter(MailMessage message) {
+        meterRegistry.counter(MAIL_METRIC, "result", "dead-letter").increment();
+        mailQueue.deadLetter(message);
+    }
+
+    private boolean hasCapacity() {
+        return mailExecutor.getThreadPoolExecutor().getQueue().remainingCapacity() > 0;
+    }
+
+    private MimeMessage toMimeMessage(MailMessage message) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "utf-8");
+        helper.setTo(message.to());
+        helper.setSubject(message.subject());
+        helper.setText(message.text(), true);
+        helper.setFrom(from);
+        return mimeMessage;
+    }
+}
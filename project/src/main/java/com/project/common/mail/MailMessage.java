@@ -0,0 +1,19 @@
+package com.project.common.mail;
+
+import java.util.UUID;
+
+/**
+ * 발송 대기열에 쌓이는 메일 한 건.
+ * @param id      재시도 대기열에서 같은 내용의 메일을 구분하기 위한 식별자
+ * @param attempt 지금까지 실패한 발송 시도 횟수
+ */
+public record MailMessage(String id, String to, String subject, String text, int attempt) {
+
+    public static MailMessage of(String to, String subject, String text) {
+        return new MailMessage(UUID.randomUUID().toString(), to, subject, text, 0);
+    }
+
+    public MailMessage nextAttempt() {
+        return new MailMessage(id, to, subject, text, attempt + 1);
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.common.mail;
+
+import java.util.List;
+
+public interface MailQueue {
+
+    /**
+     * 메일을 발송 대기열에 추가합니다.
+     * 대기열이 가득 차면 MAIL_QUEUE_FULL 예외를 던집니다.
+     */
+    void push(MailMessage message);
+
+    /**
+     * 발송할 메일을 최대 maxCount 건 꺼냅니다. 재시도 시각이 지난 메일을 포함합니다.
+     */
+    List<MailMessage> poll(int maxCount);
+
+    /**
+     * delayMillis 후에 다시 발송하도록 재시도 대기열에 넣습니다.
+     */
+    void retryLater(MailMessage message, long delayMillis);
+
+    /**
+     * 재시도 횟수를 모두 소진한 메일을 보관합니다.
+     */
+    void deadLetter(MailMessage message);
+}
@@ -0,0 +1,125 @@
+package com.project.common.mail;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.common.handler.RedisHandler;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * Redis 리스트 기반 메일 대기열. 여러 서버가 같은 대기열을 나누어 처리한다.
+ * - mail:queue       : 발송 대기 (LPUSH / RPOP)
+ * - mail:retry       : 재시도 대기, score 는 재시도 시각
+ * - mail:dead-letter : 재시도를 모두 소진한 메일
+ * 꺼낸 뒤 발송 전에 서버가 죽으면 그 메일은 유실된다(최대 한 번 발송). 인증 메일은 사용자가 다시 요청할 수 있으므로 허용한다.
+ * Redis 에 접근할 수 없으면 서버 메모리 대기열을 대신 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisMailQueue implements MailQueue {
+
+    private static final String QUEUE_KEY = "mail:queue";
+    private static final String RETRY_KEY = "mail:retry";
+    private static final String DEAD_LETTER_KEY = "mail:dead-letter";
+
+    // 재시도 시각이 지난 메일을 발송 대기열로 옮긴다. 여러 서버가 같은 메일을 중복으로 옮기지 않도록 스크립트로 처리한다.
+    private static final RedisScript<Long> PROMOTE_SCRIPT = new DefaultRedisScript<>("""
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            for _, message in ipairs(due) do
+                redis.call('ZREM', KEYS[1], message)
+                redis.call('RPUSH', KEYS[2], message)
+            end
+            return #due
+            """, Long.class);
+
+    private final RedisHandler redisHandler;
+    private final ObjectMapper objectMapper;
+
+    @Value("${pinnit.mail.fallback-capacity:1000}")
+    private int fallbackCapacity;
+
+    @Value("${pinnit.mail.dead-letter-size:1000}")
+    private long deadLetterSize;
+
+    private InMemoryMailQueue fallback;
+
+    @PostConstruct
+    public void init() {
+        fallback = new InMemoryMailQueue(fallbackCapacity);
+    }
+
+    @Override
+    public void push(MailMessage message) {
+        try {
+            redisHandler.pushValues(QUEUE_KEY, serialize(message));
+        } catch (DataAccessException e) {
+            log.warn("Redis unavailable. mail queued in memory. id : {}, cause : {}", message.id(), e.getMessage());
+            fallback.push(message);
+        }
+    }
+
+    @Override
+    public List<MailMessage> poll(int maxCount) {
+        List<MailMessage> messages = fallback.poll(maxCount);
+        if (messages.size() >= maxCount) {
+            return messages;
+        }
+
+        try {
+            int remaining = maxCount - messages.size();
+            redisHandler.execute(PROMOTE_SCRIPT, List.of(RETRY_KEY, QUEUE_KEY),
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(remaining));
+            redisHandler.popValues(QUEUE_KEY, remaining)
+                    .forEach(value -> deserialize(value).ifPresent(messages::add));
+        } catch (DataAccessException e) {
+            log.warn("Failed to poll mail queue from Redis. cause : {}", e.getMessage());
+        }
+        return messages;
+    }
+
+    @Override
+    public void retryLater(MailMessage message, long delayMillis) {
+        try {
+            redisHandler.addSortedValue(RETRY_KEY, serialize(message), System.currentTimeMillis() + delayMillis);
+        } catch (DataAccessException e) {
+            fallback.retryLater(message, delayMillis);
+        }
+    }
+
+    @Override
+    public void deadLetter(MailMessage message) {
+        try {
+            redisHandler.pushValues(DEAD_LETTER_KEY, serialize(message));
+            redisHandler.trimValues(DEAD_LETTER_KEY, deadLetterSize);
+        } catch (DataAccessException e) {
+            fallback.deadLetter(message);
+        }
+    }
+
+    private String serialize(MailMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize mail message. id : " + message.id(), e);
+        }
+    }
+
+    private Optional<MailMessage> deserialize(String value) {
+        try {
+            return Optional.of(objectMapper.readValue(value, MailMessage.class));
+        } catch (JsonProcessingException e) {
+            log.error("Dropped unreadable mail message. value : {}", value, e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.project.common.scheduler;
+
+import com.project.common.handler.RedisHandler;
+import com.project.domain.picture.repository.PictureRepository;
+import com.project.domain.pin.repository.PinRepository;
+import com.project.domain.pocket.repository.PocketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * 포켓/핀/사진의 카운터 컬럼(updatable = false)은 동시 수정에도 유실되지 않도록 각 리포지토리의 update*Count 로만 갱신한다.
+ * update*Count 는 원자적 UPDATE 쿼리를 실행하고, 같은 트랜잭션에서 만드는 응답에도 반영되도록 넘겨받은 엔티티의 값도 맞춘다.
+ * 이 스케줄러는 카운터가 실제 개수와 어긋난 경우(장애, 수동 데이터 수정 등) 주기적으로 바로잡는다.
+ * 전체 테이블을 집계하는 무거운 작업이므로, Redis 잠금을 잡은 서버 한 대에서만 실행한다.
+ * 잠금은 실행 시간보다 넉넉한 TTL 을 두어 서버가 중간에 죽더라도 다음 실행을 막지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterReconciliationScheduler {
+
+    private static final String LOCK_KEY = "lock:counter-reconciliation";
+
+    // 자신이 잡은 잠금일 때만 해제한다. KEYS[1] = 잠금 키, ARGV[1] = 잠금 토큰
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final PocketRepository pocketRepository;
+    private final PinRepository pinRepository;
+    private final PictureRepository pictureRepository;
+    private final RedisHandler redisHandler;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${pinnit.counter.reconcile-lock-millis:600000}")
+    private long lockMillis;
+
+    @Scheduled(cron = "${pinnit.counter.reconcile-cron:0 0 4 * * *}")
+    public void reconcileCounts() {
+        String lockToken = UUID.randomUUID().toString();
+        try {
+            if (!redisHandler.setValuesIfAbsent(LOCK_KEY, lockToken, lockMillis)) {
+                log.info("Counter reconciliation skipped. running on another server.");
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.error("Counter reconciliation skipped. lock failed. {}", e.getMessage());
+            return;
+        }
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> reconcile());
+        } finally {
+            unlock(lockToken);
+        }
+    }
+
+    private void reconcile() {
+        long pictureCount = pictureRepository.reconcileCounts();
+        long pinCount = pinRepository.reconcileCounts();
+        long pocketCount = pocketRepository.reconcileCounts();
+
+        if (pictureCount + pinCount + pocketCount > 0) {
+            log.warn("Counter drift repaired. pictures : {}, pins : {}, pockets : {}", pictureCount, pinCount, pocketCount);
+        } else {
+            log.info("Counter reconciliation finished. No drift.");
+        }
+    }
+
+    private void unlock(String lockToken) {
+        try {
+            redisHandler.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), lockToken);
+        } catch (DataAccessException e) {
+            log.error("Counter reconciliation unlock failed. lock expires in {}ms. {}", lockMillis, e.getMessage());
+        }
+    }
+}
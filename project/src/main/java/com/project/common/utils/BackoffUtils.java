@@ -0,0 +1,21 @@
+package com.project.common.utils;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * 재시도 대기 시간 계산.
+ * full jitter : 0 ~ min(max, base * 2^(attempt - 1)) 사이의 임의 시간. 동시에 실패한 요청들이 같은 시점에 다시 몰리지 않는다.
+ */
+public class BackoffUtils {
+
+    // base << 16 이상은 max 로 제한되므로 시프트 횟수를 제한해 오버플로를 막는다.
+    private static final int MAX_SHIFT = 16;
+
+    /**
+     * @param attempt 실패한 시도 횟수 (1부터)
+     */
+    public static long fullJitterMillis(long baseMillis, long maxMillis, int attempt) {
+        long backoff = Math.min(maxMillis, baseMillis << Math.min(Math.max(attempt - 1, 0), MAX_SHIFT));
+        return ThreadLocalRandom.current().nextLong(backoff + 1);
+    }
+}
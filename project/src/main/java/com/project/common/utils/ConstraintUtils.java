@@ -0,0 +1,53 @@
+package com.project.common.utils;
+
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+public final class ConstraintUtils {
+
+    // SQL 표준 unique_violation 상태 코드 (H2, PostgreSQL)
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+    // MySQL ER_DUP_ENTRY (SQLState 는 다른 무결성 위반과 같은 23000 이다)
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+
+    private ConstraintUtils() {
+    }
+
+    /**
+     * 예외가 유니크 인덱스(기본 키 포함) 위반으로 발생했는지 확인합니다.
+     * NOT NULL, 외래 키 위반 등 다른 무결성 위반은 false 를 반환합니다.
+     */
+    public static boolean isUniqueViolation(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof DuplicateKeyException) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException
+                    && (UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())
+                    || sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 예외가 이름이 constraintName 인 유니크 인덱스 위반으로 발생했는지 확인합니다.
+     * 드라이버마다 메시지의 대소문자가 다르므로(H2 는 대문자) 대소문자를 구분하지 않습니다.
+     */
+    public static boolean isUniqueViolationOf(Throwable e, String constraintName) {
+        if (!isUniqueViolation(e)) {
+            return false;
+        }
+        String name = constraintName.toLowerCase(Locale.ROOT);
+        for (Throwable cause = e; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,37 @@
+package com.project.common.utils;
+
+import com.project.common.exception.InvalidValueException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/*
+ * (createdAt, id) 키셋 페이지네이션의 커서를 클라이언트에 노출하지 않는 불투명 문자열로 변환한다.
+ */
+public class CursorUtils {
+
+    private static final String DELIMITER = "_";
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String cursor = createdAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+            return new Cursor(
+                    LocalDateTime.parse(decoded.substring(0, index), DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                    Long.parseLong(decoded.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidValueException("Invalid cursor.");
+        }
+    }
+
+    public record Cursor(LocalDateTime createdAt, Long id) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.common.utils;
+
+import com.project.common.exception.InvalidValueException;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * 목록 API 의 ?expand=pictures,comments 형태의 파라미터를 enum 집합으로 변환한다.
+ */
+public class ExpandUtils {
+
+    public static <E extends Enum<E>> Set<E> parse(List<String> values, Class<E> type) {
+        Set<E> expands = EnumSet.noneOf(type);
+        if (values == null) {
+            return expands;
+        }
+
+        for (String value : values) {
+            if (value == null || value.isBlank()) {
+                continue;
+            }
+            try {
+                expands.add(Enum.valueOf(type, value.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidValueException("Unknown expand value : " + value);
+            }
+        }
+        return expands;
+    }
+}
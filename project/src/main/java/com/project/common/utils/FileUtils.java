@@ -8,13 +8,6 @@ public final class FileUtils {
 
     private static final String BASE_DIR = "images";
 
-    /**
-     * 로컬에서의 사용자 홈 디렉토리 경로를 반환합니다.
-     */
-    public static String getLocalHomeDirectory() {
-        return System.getProperty("user.dir");
-    }
-
     /**
      * 새로운 파일 고유 ID를 생성합니다.
      * @return 36자리의 UUID
@@ -43,4 +36,14 @@ public final class FileUtils {
     public static String createPath(String fileId, String format) {
         return String.format("%s/%s.%s", BASE_DIR, fileId, format);
     }
+
+    /**
+     * 축소본 파일의 전체 경로를 생성합니다.
+     * @param fileId 원본 파일 고유 ID
+     * @param rendition 축소본 이름 ex) thumbnail
+     * @return ex) images/{fileId}_thumbnail.jpg
+     */
+    public static String createRenditionPath(String fileId, String rendition) {
+        return String.format("%s/%s_%s.%s", BASE_DIR, fileId, rendition, ImageUtils.RENDITION_FORMAT);
+    }
 }
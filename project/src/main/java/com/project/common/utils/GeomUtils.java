@@ -1,14 +1,110 @@
 package com.project.common.utils;
 
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 
+import java.math.BigDecimal;
+
 public class GeomUtils {
     public static GeomUtils geomUtil = new GeomUtils();
 
+    // MySQL ST_Distance_Sphere 의 기본 지구 반지름(m)과 동일하게 맞춘다.
+    public static final double EARTH_RADIUS_METERS = 6370986.0;
+
+    private static final double METERS_PER_DEGREE = EARTH_RADIUS_METERS * Math.PI / 180.0;
+
+    // 웹 메르카토르 타일이 표현할 수 있는 최대 위도
+    private static final double MAX_MERCATOR_LATITUDE = 85.05112878;
+
     public static Point createPoint(double lat, double lon) {
         GeometryFactory gf = new GeometryFactory();
         return gf.createPoint(new Coordinate(lat, lon));
     }
+
+    /**
+     * 중심점으로부터 반경(m)을 모두 포함하는 경위도 사각 영역을 생성합니다.
+     * @param center x = 경도(longitude), y = 위도(latitude)
+     */
+    public static Envelope createEnvelope(Point center, double distanceMeters) {
+        double latitudeDelta = distanceMeters / METERS_PER_DEGREE;
+        double cos = Math.cos(Math.toRadians(center.getY()));
+        double longitudeDelta = cos < 1e-6 ? 180.0 : Math.min(180.0, latitudeDelta / cos);
+
+        return new Envelope(
+                center.getX() - longitudeDelta, center.getX() + longitudeDelta,
+                center.getY() - latitudeDelta, center.getY() + latitudeDelta);
+    }
+
+    /**
+     * 두 점 사이의 구면 거리(m)를 하버사인 공식으로 계산합니다.
+     */
+    public static double getDistance(Point from, Point to) {
+        double fromLatitude = Math.toRadians(from.getY());
+        double toLatitude = Math.toRadians(to.getY());
+        double latitudeDelta = toLatitude - fromLatitude;
+        double longitudeDelta = Math.toRadians(to.getX() - from.getX());
+
+        double a = Math.sin(latitudeDelta / 2) * Math.sin(latitudeDelta / 2)
+                + Math.cos(fromLatitude) * Math.cos(toLatitude) * Math.sin(longitudeDelta / 2) * Math.sin(longitudeDelta / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * DB 공간 함수(ST_GeomFromText)에 넘길 사각 영역의 WKT 를 생성합니다.
+     * @return ex) POLYGON((126.9 37.5, 127.0 37.5, 127.0 37.6, 126.9 37.6, 126.9 37.5))
+     */
+    public static String toPolygonText(Envelope envelope) {
+        String minX = toCoordinateText(envelope.getMinX());
+        String minY = toCoordinateText(envelope.getMinY());
+        String maxX = toCoordinateText(envelope.getMaxX());
+        String maxY = toCoordinateText(envelope.getMaxY());
+        return "POLYGON((" + minX + " " + minY + ", " + maxX + " " + minY + ", " + maxX + " " + maxY + ", "
+                + minX + " " + maxY + ", " + minX + " " + minY + "))";
+    }
+
+    /**
+     * DB 공간 함수(ST_GeomFromText)에 넘길 점의 WKT 를 생성합니다.
+     * @return ex) POINT(126.9 37.5)
+     */
+    public static String toPointText(Point point) {
+        return "POINT(" + toCoordinateText(point.getX()) + " " + toCoordinateText(point.getY()) + ")";
+    }
+
+    // double 의 기본 문자열은 1.0E-4 같은 지수 표기가 될 수 있으므로, 로케일과 무관한 소수 표기로 변환한다.
+    private static String toCoordinateText(double value) {
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * 줌 레벨에서 경도가 속한 웹 메르카토르 타일의 X 번호를 반환합니다.
+     */
+    public static int getTileX(double longitude, int zoom) {
+        int tileCount = 1 << zoom;
+        int x = (int) Math.floor((longitude + 180.0) / 360.0 * tileCount);
+        return Math.max(0, Math.min(tileCount - 1, x));
+    }
+
+    /**
+     * 줌 레벨에서 위도가 속한 웹 메르카토르 타일의 Y 번호를 반환합니다. (북쪽이 0)
+     */
+    public static int getTileY(double latitude, int zoom) {
+        int tileCount = 1 << zoom;
+        double radian = Math.toRadians(Math.max(-MAX_MERCATOR_LATITUDE, Math.min(MAX_MERCATOR_LATITUDE, latitude)));
+        int y = (int) Math.floor((1 - Math.log(Math.tan(radian) + 1 / Math.cos(radian)) / Math.PI) / 2 * tileCount);
+        return Math.max(0, Math.min(tileCount - 1, y));
+    }
+
+    /**
+     * 웹 메르카토르 타일이 덮는 경위도 사각 영역을 반환합니다.
+     */
+    public static Envelope getTileEnvelope(int x, int y, int zoom) {
+        int tileCount = 1 << zoom;
+        double minLongitude = (double) x / tileCount * 360.0 - 180.0;
+        double maxLongitude = (double) (x + 1) / tileCount * 360.0 - 180.0;
+        double maxLatitude = Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2.0 * y / tileCount))));
+        double minLatitude = Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2.0 * (y + 1) / tileCount))));
+        return new Envelope(minLongitude, maxLongitude, minLatitude, maxLatitude);
+    }
 }
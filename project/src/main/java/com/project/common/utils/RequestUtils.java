@@ -0,0 +1,64 @@
+package com.project.common.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+public final class RequestUtils {
+
+    // IPv4/IPv6 표기에 쓰이는 문자만 허용한다. IpAddressMatcher 가 호스트 이름을 DNS 로 조회하지 않도록 먼저 거른다.
+    private static final Pattern IP_ADDRESS_PATTERN = Pattern.compile("[0-9a-fA-F:.]+");
+
+    private RequestUtils() {
+    }
+
+    /**
+     * 요청한 클라이언트의 IP 를 반환합니다.
+     * X-Forwarded-For 는 클라이언트가 임의로 채울 수 있으므로, 신뢰하는 프록시(로드밸런서)를 거친 요청일 때만 사용합니다.
+     * 프록시는 자신이 받은 접속 주소를 헤더 오른쪽에 덧붙이므로, 오른쪽부터 신뢰하는 프록시를 건너뛴 첫 번째 주소가 클라이언트입니다.
+     * @param trustedProxies 신뢰하는 프록시 주소 (IP 또는 CIDR)
+     */
+    public static String getClientIp(HttpServletRequest request, List<IpAddressMatcher> trustedProxies) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrusted(remoteAddr, trustedProxies)) {
+            return remoteAddr;
+        }
+
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+
+        String[] hops = forwardedFor.split(",");
+        String clientIp = remoteAddr;
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            clientIp = hop;
+            if (!isTrusted(hop, trustedProxies)) {
+                break;
+            }
+        }
+        return clientIp;
+    }
+
+    private static boolean isTrusted(String address, List<IpAddressMatcher> trustedProxies) {
+        if (!IP_ADDRESS_PATTERN.matcher(address).matches()) {
+            return false;
+        }
+        for (IpAddressMatcher trustedProxy : trustedProxies) {
+            try {
+                if (trustedProxy.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+}
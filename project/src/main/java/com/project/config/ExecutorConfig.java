@@ -0,0 +1,93 @@
+package com.project.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/*
+ * S3 업로드 / 이미지 축소본 생성 / 메일 발송 / 비밀번호 해싱 전용 스레드 풀.
+ * 공용 ForkJoinPool 과 분리하고 대기 큐를 제한해, 요청이 몰리면 큐가 무한히 쌓이는 대신 작업을 거절(TaskRejectedException)한다.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${pinnit.upload.core-pool-size:4}")
+    private int corePoolSize;
+
+    @Value("${pinnit.upload.max-pool-size:8}")
+    private int maxPoolSize;
+
+    @Value("${pinnit.upload.queue-capacity:100}")
+    private int queueCapacity;
+
+    // 이미지 디코딩/리사이즈는 CPU 작업이므로 코어 수만큼만 동시에 처리한다.
+    @Value("${pinnit.image.queue-capacity:50}")
+    private int imageQueueCapacity;
+
+    // SMTP 연결 수를 제한하기 위해 스레드 수를 작게 유지한다. 대기 큐가 차면 메일은 Redis 대기열에 남는다.
+    @Value("${pinnit.mail.pool-size:2}")
+    private int mailPoolSize;
+
+    @Value("${pinnit.mail.queue-capacity:4}")
+    private int mailQueueCapacity;
+
+    // BCrypt 는 CPU 작업이므로 코어 수만큼만 동시에 처리하고, 대기 큐를 짧게 두어 몰리면 바로 거절한다.
+    @Value("${pinnit.password.queue-capacity:32}")
+    private int passwordHashQueueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor uploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        // 종료 시 진행 중인 업로드를 마무리한다.
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor imageExecutor() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(processors);
+        executor.setMaxPoolSize(processors);
+        executor.setQueueCapacity(imageQueueCapacity);
+        executor.setThreadNamePrefix("image-rendition-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor mailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mailPoolSize);
+        executor.setMaxPoolSize(mailPoolSize);
+        executor.setQueueCapacity(mailQueueCapacity);
+        executor.setThreadNamePrefix("mail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(processors);
+        executor.setMaxPoolSize(processors);
+        executor.setQueueCapacity(passwordHashQueueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/*
+ * 스키마 변경은 Flyway 마이그레이션(db/migration/{vendor})으로 관리한다.
+ * 운영 DB(MySQL)용 마이그레이션만 두고, 테스트용 H2 는 Hibernate 가 엔티티 기준으로 스키마를 만든다.
+ * Hibernate 가 만들어 둔 기존 스키마는 V1 로 간주(baseline)하고 V2 부터 적용한다.
+ */
+@Configuration
+public class FlywayConfig {
+
+    private static final String MIGRATION_LOCATION = "classpath:db/migration/";
+
+    @Bean
+    public FlywayConfigurationCustomizer flywayConfigurationCustomizer() {
+        return configuration -> configuration
+                .locations(MIGRATION_LOCATION + resolveVendor(configuration.getDataSource()))
+                .baselineOnMigrate(true)
+                .baselineVersion("1");
+    }
+
+    private String resolveVendor(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            DatabaseDriver databaseDriver = DatabaseDriver.fromProductName(productName);
+            return databaseDriver.getId() != null ? databaseDriver.getId() : "unknown";
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Failed to resolve database vendor for migrations.", e);
+        }
+    }
+}
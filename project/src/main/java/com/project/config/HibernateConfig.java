@@ -0,0 +1,52 @@
+package com.project.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * 여러 행을 저장/수정할 때 JDBC 배치로 묶어 보낸다.
+ * IDENTITY 키를 쓰는 엔티티는 Hibernate 가 배치하지 않으므로, 대량으로 저장하는 엔티티는 테이블/시퀀스 키를 사용한다. (UserPocket)
+ * MySQL 드라이버는 rewriteBatchedStatements 가 없으면 배치를 한 행씩 보내므로, MySQL 커넥션 풀에 이 속성을 추가한다.
+ * 설정 파일(또는 JDBC URL)에 같은 속성이 있으면 그 값을 사용한다.
+ */
+@Configuration
+public class HibernateConfig {
+
+    private static final String REWRITE_BATCHED_STATEMENTS = "rewriteBatchedStatements";
+
+    @Value("${pinnit.jpa.batch-size:100}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer batchingPropertiesCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batchSize));
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, "true");
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, "true");
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor batchedStatementsDataSourceCustomizer() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && isMySql(dataSource.getJdbcUrl())
+                        && !dataSource.getJdbcUrl().contains(REWRITE_BATCHED_STATEMENTS)
+                        && !dataSource.getDataSourceProperties().containsKey(REWRITE_BATCHED_STATEMENTS)) {
+                    dataSource.addDataSourceProperty(REWRITE_BATCHED_STATEMENTS, "true");
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static boolean isMySql(String jdbcUrl) {
+        return jdbcUrl != null && jdbcUrl.startsWith("jdbc:mysql:");
+    }
+}
@@ -1,12 +1,18 @@
 package com.project.config;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
 
 @Configuration
 @RequiredArgsConstructor
@@ -19,15 +25,48 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    // 커넥션 풀은 트랜잭션(MULTI)이나 블로킹 명령처럼 공유 커넥션을 쓸 수 없는 작업에 사용된다.
+    @Value("${spring.data.redis.lettuce.pool.max-active:16}")
+    private int maxActive;
+
+    @Value("${spring.data.redis.lettuce.pool.max-idle:8}")
+    private int maxIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.min-idle:2}")
+    private int minIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.max-wait:1000ms}")
+    private Duration maxWait;
+
+    @Value("${spring.data.redis.timeout:2000ms}")
+    private Duration commandTimeout;
+
     @Bean
     public LettuceConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(host, port);
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(maxActive);
+        poolConfig.setMaxIdle(maxIdle);
+        poolConfig.setMinIdle(minIdle);
+        poolConfig.setMaxWait(maxWait);
+
+        LettucePoolingClientConfiguration clientConfig = LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig)
+                .commandTimeout(commandTimeout)
+                .build();
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port), clientConfig);
+    }
+
+    // 키와 값을 모두 문자열로 다룬다. 다른 형식의 값은 RedisHandler.typed 로 직렬화 방식을 골라 사용한다.
+    @Bean
+    public StringRedisTemplate redisTemplate() {
+        return new StringRedisTemplate(redisConnectionFactory());
     }
 
+    // Redis Pub/Sub 구독용 컨테이너 (서버 간 로컬 캐시 무효화 등)
     @Bean
-    public RedisTemplate<?, ?> redisTemplate() {
-        RedisTemplate<byte[], byte[]> redisTemplate = new RedisTemplate<>();
-        redisTemplate.setConnectionFactory(redisConnectionFactory());
-        return redisTemplate;
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
     }
 }
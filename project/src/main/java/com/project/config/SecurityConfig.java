@@ -5,12 +5,14 @@ import com.project.auth.CustomCorsFilter;
 import com.project.auth.PermissionInterceptor;
 import com.project.common.handler.AuthUserResolver;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -18,6 +20,7 @@ import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @RequiredArgsConstructor
@@ -29,9 +32,19 @@ public class SecurityConfig implements WebMvcConfigurer {
 
     private final AuthUserResolver authUserResolver;
 
+    private static final String BCRYPT_ID = "bcrypt";
+
+    /*
+     * 해시 앞에 {bcrypt} 처럼 알고리즘 id 를 붙여 저장한다. 알고리즘이나 cost 를 바꾸면
+     * 기존 해시는 그대로 검증되고, 로그인에 성공할 때 새 설정으로 다시 해싱된다(upgradeEncoding).
+     * id 가 없는 기존 해시는 기본 BCrypt 로 검증한다.
+     */
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(@Value("${pinnit.password.bcrypt-strength:10}") int bcryptStrength) {
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(BCRYPT_ID,
+                Map.of(BCRYPT_ID, new BCryptPasswordEncoder(bcryptStrength)));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(bcryptStrength));
+        return passwordEncoder;
     }
 
     @Override
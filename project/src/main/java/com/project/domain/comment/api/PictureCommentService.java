@@ -11,10 +11,13 @@ public interface PictureCommentService {
 
     List<PictureCommentDTO.PictureCommentDetailResponse> getPictureCommentByPictureId(Long pictureId);
 
-    void deletePictureComment(Long pictureCommentId);
+    void deletePictureComment(Users user, Long pictureCommentId);
 
-    void deletePictureCommentWithStatus(Long pictureCommentId);
+    void deletePictureCommentWithStatus(Users user, Long pictureCommentId);
 
-    PictureCommentDTO.PictureCommentDetailResponse updatePictureComment(Long pictureCommentId, PictureCommentDTO.UpdatePictureCommentRequest request);
+    PictureCommentDTO.PictureCommentDetailResponse updatePictureComment(Users user, Long pictureCommentId, PictureCommentDTO.UpdatePictureCommentRequest request);
 
+    PictureCommentDTO.PictureCommentThreadListResponse getPictureCommentThreads(Long pictureId, Long cursor, int size);
+
+    PictureCommentDTO.PictureCommentCursorListResponse getChildPictureComments(Long pictureId, Long parentCommentOrder, Long cursor, int size);
 }
@@ -1,20 +1,25 @@
 package com.project.domain.comment.api;
 
+import com.project.auth.AccessPolicy;
 import com.project.common.exception.BusinessLogicException;
 import com.project.common.exception.EntityNotFoundException;
 import com.project.common.exception.ErrorCode;
+import com.project.common.exception.InvalidValueException;
 import com.project.domain.comment.dto.PictureCommentDTO;
 import com.project.domain.comment.entity.PictureComment;
 import com.project.domain.comment.repository.PictureCommentRepository;
 import com.project.domain.picture.entity.Picture;
 import com.project.domain.picture.repository.PictureRepository;
+import com.project.domain.pocket.event.PocketChangedEvent;
 import com.project.domain.users.entity.Users;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,17 +29,25 @@ public class PictureCommentServiceImpl implements PictureCommentService {
 
     private final PictureRepository pictureRepository;
     private final PictureCommentRepository pictureCommentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AccessPolicy accessPolicy;
+
+    private static final int MAX_COMMENT_PAGE_SIZE = 50;
+    // 최상위 댓글마다 함께 내려주는 자식 댓글 수
+    private static final int CHILD_PREVIEW_SIZE = 3;
 
     @Override
+    @Transactional
     public PictureCommentDTO.PictureCommentDetailResponse createPictureComment(Users user, Long pictureId, PictureCommentDTO.CreatePictureCommentRequest request) {
         Picture picture = pictureRepository.findById(pictureId).orElse(null);
         if (picture == null) {
             log.error("Picture does not exist. pictureId : {}", pictureId);
+            throw new EntityNotFoundException("Picture does not exist.");
         }
 
         PictureComment pictureComment = request.toEntity(user, picture);
 
-        pictureComment.setCommentOrder(pictureCommentRepository.getLastPictureCommentOrder(picture.getId()) + 1);
+        pictureComment.setCommentOrder(pictureRepository.nextCommentOrder(picture.getId()));
         long parentCommentOrder;
         // 부모 댓글은 부모 번호를 자신의 댓글 번호로 한다.
         if (pictureComment.getParentCommentOrder() == null) {
@@ -42,10 +55,16 @@ public class PictureCommentServiceImpl implements PictureCommentService {
         } else {
             // 자식 댓글이라면, 부모 댓글의 자식 수를 증가시킨다.
             parentCommentOrder = pictureComment.getParentCommentOrder();
-            PictureComment parentComm = pictureCommentRepository.findByCommentOrder(parentCommentOrder);
+            PictureComment parentComm = pictureCommentRepository.findByCommentOrder(picture.getId(), parentCommentOrder);
+            if (parentComm == null) {
+                log.error("Parent picture comment does not exist. pictureId : {}, parentCommentOrder : {}", picture.getId(), parentCommentOrder);
+                throw new EntityNotFoundException("Parent picture comment does not exist.");
+            }
             parentComm.plusChildCommentCount();
         }
         PictureComment created = pictureCommentRepository.save(pictureComment);
+        pictureRepository.updateCommentCount(picture, 1);
+        eventPublisher.publishEvent(new PocketChangedEvent(picture.getPin().getPocket().getId()));
         log.info("Picture comment created. commentId : {}, text : {}", created.getId(), created.getText());
 
         return new PictureCommentDTO.PictureCommentDetailResponse(pictureComment);
@@ -60,7 +79,9 @@ public class PictureCommentServiceImpl implements PictureCommentService {
     }
 
     @Override
-    public void deletePictureComment(Long pictureCommentId) {
+    @Transactional
+    public void deletePictureComment(Users user, Long pictureCommentId) {
+        validateWriter(user, pictureCommentId);
         PictureComment pictureComment = pictureCommentRepository.findById(pictureCommentId).orElse(null);
         if (pictureComment == null) {
             log.error("PictureComment does not exist. pictureCommentId : {}", pictureCommentId);
@@ -75,20 +96,25 @@ public class PictureCommentServiceImpl implements PictureCommentService {
 
         if (!pictureComment.getCommentOrder().equals(pictureComment.getParentCommentOrder())) {
             // 부모 댓글 확인
-            parentPictureComment = pictureCommentRepository.findByCommentOrder(pictureComment.getParentCommentOrder());
+            parentPictureComment = pictureCommentRepository.findByCommentOrder(pictureComment.getPicture().getId(), pictureComment.getParentCommentOrder());
             parentPictureComment.minusChildCommentCount();
             // 자식 댓글이 없고, isDeleted = true인 부모 댓글은 삭제시킨다.
             if (parentPictureComment.getChildCommentCount() == 0 && parentPictureComment.getIsDeleted()){
                 log.info("Parent picture comment deleted. parentPictureCommentId : {}", parentPictureComment.getId());
                 pictureCommentRepository.delete(parentPictureComment);
+                pictureRepository.updateCommentCount(parentPictureComment.getPicture(), -1);
             }
         }
         pictureCommentRepository.delete(pictureComment);
+        pictureRepository.updateCommentCount(pictureComment.getPicture(), -1);
+        eventPublisher.publishEvent(new PocketChangedEvent(pictureComment.getPicture().getPin().getPocket().getId()));
         log.info("Picture comment deleted. pictureCommentId : {}", pictureCommentId);
     }
 
     @Override
-    public void deletePictureCommentWithStatus(Long pictureCommentId) {
+    @Transactional
+    public void deletePictureCommentWithStatus(Users user, Long pictureCommentId) {
+        validateWriter(user, pictureCommentId);
         PictureComment pictureComment = pictureCommentRepository.findById(pictureCommentId).orElse(null);
         if (pictureComment == null) {
             log.error("Picture comment does not exist. pictureCommentId : {}", pictureCommentId);
@@ -96,12 +122,14 @@ public class PictureCommentServiceImpl implements PictureCommentService {
         }
 
         pictureComment.setDeleted();
+        eventPublisher.publishEvent(new PocketChangedEvent(pictureComment.getPicture().getPin().getPocket().getId()));
         log.info("Picture comment status to be deleted. pictureCommentId : {}", pictureCommentId);
     }
 
     @Override
     @Transactional
-    public PictureCommentDTO.PictureCommentDetailResponse updatePictureComment(Long pictureCommentId, PictureCommentDTO.UpdatePictureCommentRequest request) {
+    public PictureCommentDTO.PictureCommentDetailResponse updatePictureComment(Users user, Long pictureCommentId, PictureCommentDTO.UpdatePictureCommentRequest request) {
+        validateWriter(user, pictureCommentId);
         PictureComment pictureComment = pictureCommentRepository.findById(pictureCommentId).orElse(null);
         if (pictureComment == null) {
             log.error("Picture comment does not exist. pictureCommentId : {}", pictureCommentId);
@@ -111,8 +139,75 @@ public class PictureCommentServiceImpl implements PictureCommentService {
         if (request.getText() != null) {
             log.info("PictureComment({}) text updated. {} -> {}", pictureCommentId, pictureComment.getText(), request.getText());
             pictureComment.setText(request.getText());
+            eventPublisher.publishEvent(new PocketChangedEvent(pictureComment.getPicture().getPin().getPocket().getId()));
         }
 
         return new PictureCommentDTO.PictureCommentDetailResponse(pictureComment);
     }
+
+    /*
+     * 최상위 댓글을 댓글 순서 번호 기준 키셋 페이지로 조회하고, 자식 댓글 미리보기를 한 번의 쿼리로 붙인다.
+     * 작성자 정보는 각 쿼리에서 조인하므로 댓글 수와 관계없이 쿼리는 최대 2번 실행된다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PictureCommentDTO.PictureCommentThreadListResponse getPictureCommentThreads(Long pictureId, Long cursor, int size) {
+        validatePageSize(size);
+        validatePictureExists(pictureId);
+
+        List<PictureCommentDTO.PictureCommentDetailResponse> parents = pictureCommentRepository.findParentComments(pictureId, cursor, size + 1);
+        boolean hasNext = parents.size() > size;
+        if (hasNext) {
+            parents = parents.subList(0, size);
+        }
+
+        List<Long> parentOrders = parents.stream()
+                .filter(parent -> parent.getChildCommentCount() > 0)
+                .map(PictureCommentDTO.PictureCommentDetailResponse::getCommentOrder)
+                .toList();
+        Map<Long, List<PictureCommentDTO.PictureCommentDetailResponse>> previews = pictureCommentRepository.findChildCommentPreviews(pictureId, parentOrders, CHILD_PREVIEW_SIZE)
+                .stream()
+                .collect(Collectors.groupingBy(PictureCommentDTO.PictureCommentDetailResponse::getParentCommentOrder));
+
+        List<PictureCommentDTO.PictureCommentThreadResponse> threads = parents.stream()
+                .map(parent -> new PictureCommentDTO.PictureCommentThreadResponse(parent, previews.getOrDefault(parent.getCommentOrder(), List.of())))
+                .toList();
+        return new PictureCommentDTO.PictureCommentThreadListResponse(threads, size, hasNext);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PictureCommentDTO.PictureCommentCursorListResponse getChildPictureComments(Long pictureId, Long parentCommentOrder, Long cursor, int size) {
+        validatePageSize(size);
+        validatePictureExists(pictureId);
+
+        List<PictureCommentDTO.PictureCommentDetailResponse> children = pictureCommentRepository.findChildComments(pictureId, parentCommentOrder, cursor, size + 1);
+        boolean hasNext = children.size() > size;
+        if (hasNext) {
+            children = children.subList(0, size);
+        }
+        return new PictureCommentDTO.PictureCommentCursorListResponse(children, size, hasNext);
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_COMMENT_PAGE_SIZE) {
+            log.info("Invalid comment page size. size : {}", size);
+            throw new InvalidValueException("Comment page size must be between 1 and " + MAX_COMMENT_PAGE_SIZE + ".");
+        }
+    }
+
+    private void validatePictureExists(Long pictureId) {
+        if (!pictureRepository.existsById(pictureId)) {
+            log.error("picture does not exist. pictureId : {}", pictureId);
+            throw new EntityNotFoundException("Picture does not exist.");
+        }
+    }
+
+    // 자신이 작성한 댓글만 수정/삭제할 수 있다. 댓글이 없는 경우도 권한 없음으로 처리한다.
+    private void validateWriter(Users user, Long pictureCommentId) {
+        if (!accessPolicy.isPictureCommentWriter(user.getId(), pictureCommentId)) {
+            log.warn("Picture comment access failed. userId : {}, pictureCommentId : {}", user.getId(), pictureCommentId);
+            throw new BusinessLogicException("Picture comment access failed.", ErrorCode.ACCESS_DENIED);
+        }
+    }
 }
@@ -11,9 +11,13 @@ public interface PinCommentService {
 
     List<PinCommentDTO.PinCommentDetailResponse> getPinCommentByPinId(Long pinId);
 
-    void deletePinComment(Long pinCommentId);
+    void deletePinComment(Users user, Long pinCommentId);
 
-    void deletePinCommentWithStatus(Long pinCommentId);
+    void deletePinCommentWithStatus(Users user, Long pinCommentId);
 
-    PinCommentDTO.PinCommentDetailResponse updatePinComment(Long pinCommentId, PinCommentDTO.UpdatePinCommentRequest request);
+    PinCommentDTO.PinCommentDetailResponse updatePinComment(Users user, Long pinCommentId, PinCommentDTO.UpdatePinCommentRequest request);
+
+    PinCommentDTO.PinCommentThreadListResponse getPinCommentThreads(Long pinId, Long cursor, int size);
+
+    PinCommentDTO.PinCommentCursorListResponse getChildPinComments(Long pinId, Long parentCommentOrder, Long cursor, int size);
 }
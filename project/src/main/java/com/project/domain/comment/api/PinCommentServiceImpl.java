@@ -1,20 +1,25 @@
 package com.project.domain.comment.api;
 
+import com.project.auth.AccessPolicy;
 import com.project.common.exception.BusinessLogicException;
 import com.project.common.exception.EntityNotFoundException;
 import com.project.common.exception.ErrorCode;
+import com.project.common.exception.InvalidValueException;
 import com.project.domain.comment.dto.PinCommentDTO;
 import com.project.domain.comment.entity.PinComment;
 import com.project.domain.comment.repository.PinCommentRepository;
 import com.project.domain.pin.entity.Pin;
 import com.project.domain.pin.repository.PinRepository;
+import com.project.domain.pocket.event.PocketChangedEvent;
 import com.project.domain.users.entity.Users;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,6 +29,12 @@ public class PinCommentServiceImpl implements PinCommentService {
 
     private final PinRepository pinRepository;
     private final PinCommentRepository pinCommentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AccessPolicy accessPolicy;
+
+    private static final int MAX_COMMENT_PAGE_SIZE = 50;
+    // 최상위 댓글마다 함께 내려주는 자식 댓글 수
+    private static final int CHILD_PREVIEW_SIZE = 3;
 
     @Override
     @Transactional
@@ -32,11 +43,12 @@ public class PinCommentServiceImpl implements PinCommentService {
         Pin pin = pinRepository.findById(pinId).orElse(null);
         if (pin == null) {
             log.error("pin does not exist. pinId : {}", pinId);
+            throw new EntityNotFoundException("Pin does not exist.");
         }
 
         PinComment pinComment = request.toEntity(user, pin);
 
-        pinComment.setCommentOrder(pinCommentRepository.getLastPinCommentOrder(pin.getId()) + 1);
+        pinComment.setCommentOrder(pinRepository.nextCommentOrder(pin.getId()));
 
         // 부모 댓글은 부모 번호를 자신의 댓글 번호로 한다.
         if (pinComment.getParentCommentOrder() == null) {
@@ -44,11 +56,17 @@ public class PinCommentServiceImpl implements PinCommentService {
         } else {
             long parentCommentOrder = pinComment.getParentCommentOrder();
             // 자식 댓글이라면, 부모 댓글의 자식 수를 증가시킨다.
-            PinComment parentComm = pinCommentRepository.findByCommentOrder(parentCommentOrder);
+            PinComment parentComm = pinCommentRepository.findByCommentOrder(pin.getId(), parentCommentOrder);
+            if (parentComm == null) {
+                log.error("Parent pin comment does not exist. pinId : {}, parentCommentOrder : {}", pin.getId(), parentCommentOrder);
+                throw new EntityNotFoundException("Parent pin comment does not exist.");
+            }
             parentComm.plusChildCommentCount();
 
         }
         PinComment created = pinCommentRepository.save(pinComment);
+        pinRepository.updateCommentCount(pin, 1);
+        eventPublisher.publishEvent(new PocketChangedEvent(pin.getPocket().getId()));
         log.info("Pin comment created. commentId : {}, text : {}", created.getId(), created.getText());
         return new PinCommentDTO.PinCommentDetailResponse(pinComment);
     }
@@ -63,7 +81,8 @@ public class PinCommentServiceImpl implements PinCommentService {
 
     @Override
     @Transactional
-    public void deletePinComment(Long pinCommentId) {
+    public void deletePinComment(Users user, Long pinCommentId) {
+        validateWriter(user, pinCommentId);
 
         PinComment pinComment = pinCommentRepository.findById(pinCommentId).orElseThrow(() -> new EntityNotFoundException("존재하지 않는 핀 댓글 입니다."));
         if (pinComment == null) {
@@ -79,20 +98,25 @@ public class PinCommentServiceImpl implements PinCommentService {
 
         if (!pinComment.getCommentOrder().equals(pinComment.getParentCommentOrder())) {
             // 부모 댓글 확인
-            parentPinComment = pinCommentRepository.findByCommentOrder(pinComment.getParentCommentOrder());
+            parentPinComment = pinCommentRepository.findByCommentOrder(pinComment.getPin().getId(), pinComment.getParentCommentOrder());
             parentPinComment.minusChildCommentCount();
             // 자식 댓글이 없고, isDeleted = true인 부모 댓글은 삭제시킨다.
             if (parentPinComment.getChildCommentCount() == 0 && parentPinComment.getIsDeleted()) {
                 log.info("Parent pin comment deleted. parentPinCommentId : {}", parentPinComment.getId());
                 pinCommentRepository.delete(parentPinComment);
+                pinRepository.updateCommentCount(parentPinComment.getPin(), -1);
             }
         }
         pinCommentRepository.delete(pinComment);
+        pinRepository.updateCommentCount(pinComment.getPin(), -1);
+        eventPublisher.publishEvent(new PocketChangedEvent(pinComment.getPin().getPocket().getId()));
         log.info("Pin comment deleted. PinCommentId : {}", pinCommentId);
     }
 
     @Override
-    public void deletePinCommentWithStatus(Long pinCommentId) {
+    @Transactional
+    public void deletePinCommentWithStatus(Users user, Long pinCommentId) {
+        validateWriter(user, pinCommentId);
         PinComment pinComment = pinCommentRepository.findById(pinCommentId).orElse(null);
         if (pinComment == null) {
             log.error("Pin comment does not exist. PinCommentId : {}", pinCommentId);
@@ -100,11 +124,14 @@ public class PinCommentServiceImpl implements PinCommentService {
         }
 
         pinComment.setDeleted();
+        eventPublisher.publishEvent(new PocketChangedEvent(pinComment.getPin().getPocket().getId()));
         log.info("Pin comment status to be deleted. PinCommentId : {}", pinCommentId);
     }
 
     @Override
-    public PinCommentDTO.PinCommentDetailResponse updatePinComment(Long pinCommentId, PinCommentDTO.UpdatePinCommentRequest request) {
+    @Transactional
+    public PinCommentDTO.PinCommentDetailResponse updatePinComment(Users user, Long pinCommentId, PinCommentDTO.UpdatePinCommentRequest request) {
+        validateWriter(user, pinCommentId);
         PinComment pinComment = pinCommentRepository.findById(pinCommentId).orElse(null);
         if (pinComment == null) {
             log.error("Pin comment does not exist. PinCommentId : {}", pinCommentId);
@@ -114,7 +141,74 @@ public class PinCommentServiceImpl implements PinCommentService {
         if (request.getText() != null) {
             log.info("PinComment({}) text updated. {} -> {}", pinCommentId, pinComment.getText(), request.getText());
             pinComment.setText(request.getText());
+            eventPublisher.publishEvent(new PocketChangedEvent(pinComment.getPin().getPocket().getId()));
         }
         return new PinCommentDTO.PinCommentDetailResponse(pinComment);
     }
-}
\ No newline at end of file
+
+    /*
+     * 최상위 댓글을 댓글 순서 번호 기준 키셋 페이지로 조회하고, 자식 댓글 미리보기를 한 번의 쿼리로 붙인다.
+     * 작성자 정보는 각 쿼리에서 조인하므로 댓글 수와 관계없이 쿼리는 최대 2번 실행된다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PinCommentDTO.PinCommentThreadListResponse getPinCommentThreads(Long pinId, Long cursor, int size) {
+        validatePageSize(size);
+        validatePinExists(pinId);
+
+        List<PinCommentDTO.PinCommentDetailResponse> parents = pinCommentRepository.findParentComments(pinId, cursor, size + 1);
+        boolean hasNext = parents.size() > size;
+        if (hasNext) {
+            parents = parents.subList(0, size);
+        }
+
+        List<Long> parentOrders = parents.stream()
+                .filter(parent -> parent.getChildCommentCount() > 0)
+                .map(PinCommentDTO.PinCommentDetailResponse::getCommentOrder)
+                .toList();
+        Map<Long, List<PinCommentDTO.PinCommentDetailResponse>> previews = pinCommentRepository.findChildCommentPreviews(pinId, parentOrders, CHILD_PREVIEW_SIZE)
+                .stream()
+                .collect(Collectors.groupingBy(PinCommentDTO.PinCommentDetailResponse::getParentCommentOrder));
+
+        List<PinCommentDTO.PinCommentThreadResponse> threads = parents.stream()
+                .map(parent -> new PinCommentDTO.PinCommentThreadResponse(parent, previews.getOrDefault(parent.getCommentOrder(), List.of())))
+                .toList();
+        return new PinCommentDTO.PinCommentThreadListResponse(threads, size, hasNext);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PinCommentDTO.PinCommentCursorListResponse getChildPinComments(Long pinId, Long parentCommentOrder, Long cursor, int size) {
+        validatePageSize(size);
+        validatePinExists(pinId);
+
+        List<PinCommentDTO.PinCommentDetailResponse> children = pinCommentRepository.findChildComments(pinId, parentCommentOrder, cursor, size + 1);
+        boolean hasNext = children.size() > size;
+        if (hasNext) {
+            children = children.subList(0, size);
+        }
+        return new PinCommentDTO.PinCommentCursorListResponse(children, size, hasNext);
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_COMMENT_PAGE_SIZE) {
+            log.info("Invalid comment page size. size : {}", size);
+            throw new InvalidValueException("Comment page size must be between 1 and " + MAX_COMMENT_PAGE_SIZE + ".");
+        }
+    }
+
+    private void validatePinExists(Long pinId) {
+        if (!pinRepository.existsById(pinId)) {
+            log.error("pin does not exist. pinId : {}", pinId);
+            throw new EntityNotFoundException("Pin does not exist.");
+        }
+    }
+
+    // 자신이 작성한 댓글만 수정/삭제할 수 있다. 댓글이 없는 경우도 권한 없음으로 처리한다.
+    private void validateWriter(Users user, Long pinCommentId) {
+        if (!accessPolicy.isPinCommentWriter(user.getId(), pinCommentId)) {
+            log.warn("Pin comment access failed. userId : {}, pinCommentId : {}", user.getId(), pinCommentId);
+            throw new BusinessLogicException("Pin comment access failed.", ErrorCode.ACCESS_DENIED);
+        }
+    }
+}
@@ -51,13 +51,38 @@ public class PictureCommentController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = PictureCommentDTO.PictureCommentThreadListResponse.class)))})
+    @Operation(summary = "사진 댓글 스레드 조회", description = "사진의 최상위 댓글을 페이지 단위로 조회한다. 각 댓글에는 자식 댓글 일부가 미리보기로 포함된다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/picture/{pictureId}/threads")
+    @Permission
+    public ResponseEntity<PictureCommentDTO.PictureCommentThreadListResponse> getPictureCommentThreads(@AuthUser Users user, @Parameter(description = "사진의 ID") @PathVariable Long pictureId,
+                                                                                   @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) Long cursor,
+                                                                                   @Parameter(description = "페이지 크기 (1 ~ 50)") @RequestParam(defaultValue = "20") int size) {
+        PictureCommentDTO.PictureCommentThreadListResponse response = pictureCommentService.getPictureCommentThreads(pictureId, cursor, size);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = PictureCommentDTO.PictureCommentCursorListResponse.class)))})
+    @Operation(summary = "사진 자식 댓글 조회", description = "최상위 댓글에 달린 자식 댓글을 페이지 단위로 조회한다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/picture/{pictureId}/{parentCommentOrder}/children")
+    @Permission
+    public ResponseEntity<PictureCommentDTO.PictureCommentCursorListResponse> getChildPictureComments(@AuthUser Users user, @Parameter(description = "사진의 ID") @PathVariable Long pictureId,
+                                                                                  @Parameter(description = "부모 댓글의 순서 번호") @PathVariable Long parentCommentOrder,
+                                                                                  @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) Long cursor,
+                                                                                  @Parameter(description = "페이지 크기 (1 ~ 50)") @RequestParam(defaultValue = "20") int size) {
+        PictureCommentDTO.PictureCommentCursorListResponse response = pictureCommentService.getChildPictureComments(pictureId, parentCommentOrder, cursor, size);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = PictureCommentDTO.PictureCommentDetailResponse.class)))})
     @Operation(summary = "사진 댓글 삭제", description = "자신이 작성한 댓글 중 최상위 댓글이 아닐 경구, 영구 삭제한다.")
     @SecurityRequirement(name = "Bearer Authentication")
     @DeleteMapping("/{pictureCommentId}")
     @Permission
     public ResponseEntity<PictureCommentDTO.PictureCommentDetailResponse> deletePictureComment(@AuthUser Users user, @Parameter(description = "사진 댓글의 ID") @PathVariable Long pictureCommentId) {
-        pictureCommentService.deletePictureComment(pictureCommentId);
+        pictureCommentService.deletePictureComment(user, pictureCommentId);
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
@@ -67,7 +92,7 @@ public class PictureCommentController {
     @PostMapping("/{pictureCommentId}/status")
     @Permission
     public ResponseEntity<PictureCommentDTO.PictureCommentDetailResponse> deletePictureCommentWithStatus(@AuthUser Users user, @Parameter(description = "사진 댓글의 ID") @PathVariable Long pictureCommentId) {
-        pictureCommentService.deletePictureCommentWithStatus(pictureCommentId);
+        pictureCommentService.deletePictureCommentWithStatus(user, pictureCommentId);
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
@@ -77,7 +102,7 @@ public class PictureCommentController {
     @PatchMapping("/{pictureCommentId}")
     @Permission
     public ResponseEntity<PictureCommentDTO.PictureCommentDetailResponse> updatePictureComment(@AuthUser Users user, @Parameter(description = "사진 댓글의 ID") @PathVariable Long pictureCommentId, @RequestBody PictureCommentDTO.UpdatePictureCommentRequest request) {
-        PictureCommentDTO.PictureCommentDetailResponse response = pictureCommentService.updatePictureComment(pictureCommentId, request);
+        PictureCommentDTO.PictureCommentDetailResponse response = pictureCommentService.updatePictureComment(user, pictureCommentId, request);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
@@ -56,6 +56,31 @@ public class PinCommentController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = PinCommentDTO.PinCommentThreadListResponse.class)))})
+    @Operation(summary = "핀 댓글 스레드 조회", description = "핀의 최상위 댓글을 페이지 단위로 조회한다. 각 댓글에는 자식 댓글 일부가 미리보기로 포함된다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/pin/{pinId}/threads")
+    @Permission
+    public ResponseEntity<PinCommentDTO.PinCommentThreadListResponse> getPinCommentThreads(@AuthUser Users user, @Parameter(description = "핀의 ID") @PathVariable Long pinId,
+                                                                                   @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) Long cursor,
+                                                                                   @Parameter(description = "페이지 크기 (1 ~ 50)") @RequestParam(defaultValue = "20") int size) {
+        PinCommentDTO.PinCommentThreadListResponse response = pinCommentService.getPinCommentThreads(pinId, cursor, size);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = PinCommentDTO.PinCommentCursorListResponse.class)))})
+    @Operation(summary = "핀 자식 댓글 조회", description = "최상위 댓글에 달린 자식 댓글을 페이지 단위로 조회한다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/pin/{pinId}/{parentCommentOrder}/children")
+    @Permission
+    public ResponseEntity<PinCommentDTO.PinCommentCursorListResponse> getChildPinComments(@AuthUser Users user, @Parameter(description = "핀의 ID") @PathVariable Long pinId,
+                                                                                  @Parameter(description = "부모 댓글의 순서 번호") @PathVariable Long parentCommentOrder,
+                                                                                  @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) Long cursor,
+                                                                                  @Parameter(description = "페이지 크기 (1 ~ 50)") @RequestParam(defaultValue = "20") int size) {
+        PinCommentDTO.PinCommentCursorListResponse response = pinCommentService.getChildPinComments(pinId, parentCommentOrder, cursor, size);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = PinCommentDTO.PinCommentDetailResponse.class)))})
     @Operation(summary = "핀 댓글 삭제", description = "자신이 작성한 댓글 중 최상위 댓글이 아닐 경구, 영구 삭제한다.")
     @SecurityRequirement(name = "Bearer Authentication")
@@ -63,7 +88,7 @@ public class PinCommentController {
     @Permission
     public ResponseEntity<PinCommentDTO.PinCommentDetailResponse> deletePinComment(@AuthUser Users user, @Parameter(description = "핀 댓글의 ID") @PathVariable Long pinCommentId) {
 
-        pinCommentService.deletePinComment(pinCommentId);
+        pinCommentService.deletePinComment(user, pinCommentId);
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
@@ -73,7 +98,7 @@ public class PinCommentController {
     @PostMapping("/{pinCommentId}/status")
     @Permission
     public ResponseEntity<PinCommentDTO.PinCommentDetailResponse> deletePinCommentWithStatus(@AuthUser Users user, @Parameter(description = "핀 댓글의 ID") @PathVariable Long pinCommentId) {
-        pinCommentService.deletePinCommentWithStatus(pinCommentId);
+        pinCommentService.deletePinCommentWithStatus(user, pinCommentId);
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
@@ -84,7 +109,7 @@ public class PinCommentController {
     @Permission
     public ResponseEntity<PinCommentDTO.PinCommentDetailResponse> updatePinComment(@AuthUser Users user, @Parameter(description = "핀 댓글의 ID") @PathVariable Long pinCommentId, @RequestBody PinCommentDTO.UpdatePinCommentRequest request) {
 
-        PinCommentDTO.PinCommentDetailResponse response = pinCommentService.updatePinComment(pinCommentId, request);
+        PinCommentDTO.PinCommentDetailResponse response = pinCommentService.updatePinComment(user, pinCommentId, request);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 }
@@ -3,14 +3,18 @@ package com.project.domain.comment.dto;
 import com.project.domain.comment.entity.PictureComment;
 import com.project.domain.picture.entity.Picture;
 import com.project.domain.users.entity.Users;
+import com.project.common.entity.CursorPagingResponse;
+import com.querydsl.core.annotations.QueryProjection;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 public class PictureCommentDTO {
 
     @Data
+    @NoArgsConstructor
     public static class PictureCommentDetailResponse {
         private Long commentId;
         private Long writerId;
@@ -21,6 +25,18 @@ public class PictureCommentDTO {
         private Boolean isDeleted;
         private int childCommentCount;
 
+        @QueryProjection
+        public PictureCommentDetailResponse(Long commentId, Long writerId, String writerNickname, String text, Long parentCommentOrder, Long commentOrder, Boolean isDeleted, int childCommentCount) {
+            this.commentId = commentId;
+            this.writerId = writerId;
+            this.writerNickname = writerNickname;
+            this.text = text;
+            this.parentCommentOrder = parentCommentOrder;
+            this.commentOrder = commentOrder;
+            this.isDeleted = isDeleted;
+            this.childCommentCount = childCommentCount;
+        }
+
         public PictureCommentDetailResponse(PictureComment pictureComment) {
             this.commentId = pictureComment.getId();
             this.writerId = pictureComment.getWriter().getId();
@@ -52,6 +68,7 @@ public class PictureCommentDTO {
     }
 
     @Data
+    @NoArgsConstructor
     public static class PictureCommentListResponse {
         private List<PictureCommentDTO.PictureCommentDetailResponse> pictureCommentListResponse;
 
@@ -66,4 +83,45 @@ public class PictureCommentDTO {
         private String text;
     }
 
+    /*
+     * 최상위 댓글 하나와 그 자식 댓글 미리보기(앞에서부터 일부).
+     * 나머지 자식 댓글은 childCommentCount 를 보고 자식 댓글 조회 API 로 이어서 조회한다.
+     */
+    @Data
+    @NoArgsConstructor
+    public static class PictureCommentThreadResponse {
+        private PictureCommentDetailResponse parentComment;
+        private List<PictureCommentDetailResponse> childCommentPreviewList;
+
+        public PictureCommentThreadResponse(PictureCommentDetailResponse parentComment, List<PictureCommentDetailResponse> childCommentPreviewList) {
+            this.parentComment = parentComment;
+            this.childCommentPreviewList = childCommentPreviewList;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class PictureCommentThreadListResponse {
+        private List<PictureCommentThreadResponse> pictureCommentThreadList;
+        private CursorPagingResponse pagingResponse;
+
+        public PictureCommentThreadListResponse(List<PictureCommentThreadResponse> pictureCommentThreadList, int pageSize, boolean hasNext) {
+            this.pictureCommentThreadList = pictureCommentThreadList;
+            String nextCursor = hasNext ? String.valueOf(pictureCommentThreadList.get(pictureCommentThreadList.size() - 1).getParentComment().getCommentOrder()) : null;
+            this.pagingResponse = new CursorPagingResponse(nextCursor, pageSize, hasNext);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class PictureCommentCursorListResponse {
+        private List<PictureCommentDetailResponse> pictureCommentListResponse;
+        private CursorPagingResponse pagingResponse;
+
+        public PictureCommentCursorListResponse(List<PictureCommentDetailResponse> pictureCommentListResponse, int pageSize, boolean hasNext) {
+            this.pictureCommentListResponse = pictureCommentListResponse;
+            String nextCursor = hasNext ? String.valueOf(pictureCommentListResponse.get(pictureCommentListResponse.size() - 1).getCommentOrder()) : null;
+            this.pagingResponse = new CursorPagingResponse(nextCursor, pageSize, hasNext);
+        }
+    }
 }
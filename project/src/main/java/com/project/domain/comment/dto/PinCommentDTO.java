@@ -3,14 +3,18 @@ package com.project.domain.comment.dto;
 import com.project.domain.comment.entity.PinComment;
 import com.project.domain.pin.entity.Pin;
 import com.project.domain.users.entity.Users;
+import com.project.common.entity.CursorPagingResponse;
+import com.querydsl.core.annotations.QueryProjection;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 public class PinCommentDTO {
 
     @Data
+    @NoArgsConstructor
     public static class PinCommentDetailResponse {
         private Long commentId;
         private Long writerId;
@@ -21,6 +25,18 @@ public class PinCommentDTO {
         private Boolean isDeleted;
         private int childCommentCount;
 
+        @QueryProjection
+        public PinCommentDetailResponse(Long commentId, Long writerId, String writerNickname, String text, Long parentCommentOrder, Long commentOrder, Boolean isDeleted, int childCommentCount) {
+            this.commentId = commentId;
+            this.writerId = writerId;
+            this.writerNickname = writerNickname;
+            this.text = text;
+            this.parentCommentOrder = parentCommentOrder;
+            this.commentOrder = commentOrder;
+            this.isDeleted = isDeleted;
+            this.childCommentCount = childCommentCount;
+        }
+
         public PinCommentDetailResponse(PinComment pinComment) {
             this.commentId = pinComment.getId();
             this.writerId = pinComment.getWriter().getId();
@@ -53,6 +69,7 @@ public class PinCommentDTO {
     }
 
     @Data
+    @NoArgsConstructor
     public static class PinCommentListResponse {
         private List<PinCommentDetailResponse> pinCommentListResponse;
 
@@ -66,4 +83,46 @@ public class PinCommentDTO {
         @NotBlank(message = "최소 한 글자 이상을 입력해야 합니다.")
         private String text;
     }
+
+    /*
+     * 최상위 댓글 하나와 그 자식 댓글 미리보기(앞에서부터 일부).
+     * 나머지 자식 댓글은 childCommentCount 를 보고 자식 댓글 조회 API 로 이어서 조회한다.
+     */
+    @Data
+    @NoArgsConstructor
+    public static class PinCommentThreadResponse {
+        private PinCommentDetailResponse parentComment;
+        private List<PinCommentDetailResponse> childCommentPreviewList;
+
+        public PinCommentThreadResponse(PinCommentDetailResponse parentComment, List<PinCommentDetailResponse> childCommentPreviewList) {
+            this.parentComment = parentComment;
+            this.childCommentPreviewList = childCommentPreviewList;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class PinCommentThreadListResponse {
+        private List<PinCommentThreadResponse> pinCommentThreadList;
+        private CursorPagingResponse pagingResponse;
+
+        public PinCommentThreadListResponse(List<PinCommentThreadResponse> pinCommentThreadList, int pageSize, boolean hasNext) {
+            this.pinCommentThreadList = pinCommentThreadList;
+            String nextCursor = hasNext ? String.valueOf(pinCommentThreadList.get(pinCommentThreadList.size() - 1).getParentComment().getCommentOrder()) : null;
+            this.pagingResponse = new CursorPagingResponse(nextCursor, pageSize, hasNext);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class PinCommentCursorListResponse {
+        private List<PinCommentDetailResponse> pinCommentListResponse;
+        private CursorPagingResponse pagingResponse;
+
+        public PinCommentCursorListResponse(List<PinCommentDetailResponse> pinCommentListResponse, int pageSize, boolean hasNext) {
+            this.pinCommentListResponse = pinCommentListResponse;
+            String nextCursor = hasNext ? String.valueOf(pinCommentListResponse.get(pinCommentListResponse.size() - 1).getCommentOrder()) : null;
+            this.pagingResponse = new CursorPagingResponse(nextCursor, pageSize, hasNext);
+        }
+    }
 }
@@ -9,7 +9,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "picture_comment")
+@Table(name = "picture_comment", indexes = {
+        @Index(name = "idx_picture_comment_picture_order", columnList = "picture_id, comment_order"),
+        @Index(name = "idx_picture_comment_picture_parent_order", columnList = "picture_id, parent_comment_order, comment_order")
+})
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -10,7 +10,10 @@ import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "pin_comment")
+@Table(name = "pin_comment", indexes = {
+        @Index(name = "idx_pin_comment_pin_order", columnList = "pin_id, comment_order"),
+        @Index(name = "idx_pin_comment_pin_parent_order", columnList = "pin_id, parent_comment_order, comment_order")
+})
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
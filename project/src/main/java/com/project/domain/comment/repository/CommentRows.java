@@ -0,0 +1,26 @@
+package com.project.domain.comment.repository;
+
+/*
+ * 네이티브 쿼리 결과의 컬럼 값을 변환한다. DB 드라이버마다 숫자/불리언 컬럼의 자바 타입이 다르다.
+ */
+final class CommentRows {
+
+    private CommentRows() {
+    }
+
+    static Long toLong(Object value) {
+        return value == null ? null : ((Number) value).longValue();
+    }
+
+    static int toInt(Object value) {
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    // MySQL BIT(1) 은 Boolean, 그 외에는 숫자로 반환될 수 있다.
+    static Boolean toBoolean(Object value) {
+        if (value == null || value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return ((Number) value).intValue() != 0;
+    }
+}
@@ -4,4 +4,6 @@ import com.project.domain.comment.entity.PictureComment;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface PictureCommentRepository extends JpaRepository<PictureComment, Long>, PictureCommentRepositoryCustom {
+
+    boolean existsByIdAndWriterId(Long id, Long writerId);
 }
@@ -1,5 +1,6 @@
 package com.project.domain.comment.repository;
 
+import com.project.domain.comment.dto.PictureCommentDTO;
 import com.project.domain.comment.entity.PictureComment;
 
 import java.util.List;
@@ -8,8 +9,11 @@ public interface PictureCommentRepositoryCustom {
 
     List<PictureComment> findAllByPictureId(Long pictureId);
 
-    PictureComment findByCommentOrder(Long order);
+    PictureComment findByCommentOrder(Long pictureId, Long order);
 
-    Long getLastPictureCommentOrder(Long pictureId);
+    List<PictureCommentDTO.PictureCommentDetailResponse> findParentComments(Long pictureId, Long afterCommentOrder, int limit);
 
+    List<PictureCommentDTO.PictureCommentDetailResponse> findChildComments(Long pictureId, Long parentCommentOrder, Long afterCommentOrder, int limit);
+
+    List<PictureCommentDTO.PictureCommentDetailResponse> findChildCommentPreviews(Long pictureId, List<Long> parentCommentOrders, int previewSize);
 }
@@ -1,20 +1,42 @@
 package com.project.domain.comment.repository;
 
 
+import com.project.domain.comment.dto.PictureCommentDTO;
+import com.project.domain.comment.dto.QPictureCommentDTO_PictureCommentDetailResponse;
 import com.project.domain.comment.entity.PictureComment;
 import com.project.domain.comment.entity.QPictureComment;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
 import static com.project.domain.comment.entity.QPictureComment.pictureComment;
+import static com.project.domain.users.entity.QUsers.users;
 
 @RequiredArgsConstructor
 public class PictureCommentRepositoryCustomImpl implements PictureCommentRepositoryCustom{
 
+    /*
+     * 부모 댓글별로 앞에서부터 previewSize 개의 자식 댓글을 한 번에 조회한다.
+     * JPQL 은 윈도우 함수를 지원하지 않으므로 네이티브 쿼리를 사용한다. (picture_id, parent_comment_order, comment_order) 인덱스를 사용한다.
+     */
+    private static final String CHILD_PREVIEW_SQL = """
+            SELECT t.id, t.writer_id, t.nickname, t.text, t.parent_comment_order, t.comment_order, t.is_deleted, t.child_comment_count
+            FROM (SELECT c.id, c.writer_id, u.nickname, c.text, c.parent_comment_order, c.comment_order, c.is_deleted, c.child_comment_count,
+                         ROW_NUMBER() OVER (PARTITION BY c.parent_comment_order ORDER BY c.comment_order) AS rn
+                  FROM picture_comment c
+                           LEFT JOIN users u ON u.id = c.writer_id
+                  WHERE c.picture_id = :pictureId
+                    AND c.parent_comment_order IN (:parentCommentOrders)
+                    AND c.comment_order <> c.parent_comment_order) t
+            WHERE t.rn <= :previewSize
+            ORDER BY t.parent_comment_order, t.comment_order
+            """;
+
     private final JPAQueryFactory query;
+    private final EntityManager entityManager;
 
     @Override
     public List<PictureComment> findAllByPictureId(Long pictureId) {
@@ -25,20 +47,84 @@ public class PictureCommentRepositoryCustomImpl implements PictureCommentReposit
     }
 
     @Override
-    public PictureComment findByCommentOrder(Long order) {
+    public PictureComment findByCommentOrder(Long pictureId, Long order) {
         return query
                 .selectFrom(pictureComment)
+                .where(pictureComment.picture.id.eq(pictureId))
                 .where(pictureComment.commentOrder.eq(order))
                 .fetchOne();
 
     }
 
+    // 최상위 댓글(부모 번호 = 자신의 번호)을 댓글 순서 번호 기준 키셋으로 조회한다. 작성자는 같은 쿼리에서 조인한다.
     @Override
-    public Long getLastPictureCommentOrder(Long pictureId) {
+    public List<PictureCommentDTO.PictureCommentDetailResponse> findParentComments(Long pictureId, Long afterCommentOrder, int limit) {
         return query
-                .select(pictureComment.commentOrder.max().coalesce(0L))
-                .where(pictureComment.picture.id.eq(pictureId))
+                .select(detailResponse())
                 .from(pictureComment)
-                .fetchOne();
+                .leftJoin(pictureComment.writer, users)
+                .where(pictureComment.picture.id.eq(pictureId),
+                        pictureComment.parentCommentOrder.eq(pictureComment.commentOrder),
+                        isAfter(afterCommentOrder))
+                .orderBy(pictureComment.commentOrder.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<PictureCommentDTO.PictureCommentDetailResponse> findChildComments(Long pictureId, Long parentCommentOrder, Long afterCommentOrder, int limit) {
+        return query
+                .select(detailResponse())
+                .from(pictureComment)
+                .leftJoin(pictureComment.writer, users)
+                .where(pictureComment.picture.id.eq(pictureId),
+                        pictureComment.parentCommentOrder.eq(parentCommentOrder),
+                        pictureComment.commentOrder.ne(parentCommentOrder),
+                        isAfter(afterCommentOrder))
+                .orderBy(pictureComment.commentOrder.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PictureCommentDTO.PictureCommentDetailResponse> findChildCommentPreviews(Long pictureId, List<Long> parentCommentOrders, int previewSize) {
+        if (parentCommentOrders.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object[]> rows = entityManager.createNativeQuery(CHILD_PREVIEW_SQL)
+                .setParameter("pictureId", pictureId)
+                .setParameter("parentCommentOrders", parentCommentOrders)
+                .setParameter("previewSize", previewSize)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> new PictureCommentDTO.PictureCommentDetailResponse(
+                        CommentRows.toLong(row[0]),
+                        CommentRows.toLong(row[1]),
+                        (String) row[2],
+                        (String) row[3],
+                        CommentRows.toLong(row[4]),
+                        CommentRows.toLong(row[5]),
+                        CommentRows.toBoolean(row[6]),
+                        CommentRows.toInt(row[7])))
+                .toList();
+    }
+
+    private QPictureCommentDTO_PictureCommentDetailResponse detailResponse() {
+        return new QPictureCommentDTO_PictureCommentDetailResponse(
+                pictureComment.id,
+                users.id,
+                users.nickname,
+                pictureComment.text,
+                pictureComment.parentCommentOrder,
+                pictureComment.commentOrder,
+                pictureComment.isDeleted,
+                pictureComment.childCommentCount);
+    }
+
+    private BooleanExpression isAfter(Long afterCommentOrder) {
+        return afterCommentOrder == null ? null : pictureComment.commentOrder.gt(afterCommentOrder);
     }
 }
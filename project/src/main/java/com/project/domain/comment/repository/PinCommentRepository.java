@@ -5,4 +5,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface PinCommentRepository extends JpaRepository<PinComment, Long>, PinCommentRepositoryCustom {
 
+    boolean existsByIdAndWriterId(Long id, Long writerId);
 }
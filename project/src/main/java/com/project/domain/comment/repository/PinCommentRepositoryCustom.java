@@ -1,5 +1,6 @@
 package com.project.domain.comment.repository;
 
+import com.project.domain.comment.dto.PinCommentDTO;
 import com.project.domain.comment.entity.PinComment;
 
 import java.util.List;
@@ -8,7 +9,11 @@ public interface PinCommentRepositoryCustom {
 
     List<PinComment> findAllByPinId(Long pinId);
 
-    PinComment findByCommentOrder(Long order);
+    PinComment findByCommentOrder(Long pinId, Long order);
 
-    Long getLastPinCommentOrder(Long pinId);
+    List<PinCommentDTO.PinCommentDetailResponse> findParentComments(Long pinId, Long afterCommentOrder, int limit);
+
+    List<PinCommentDTO.PinCommentDetailResponse> findChildComments(Long pinId, Long parentCommentOrder, Long afterCommentOrder, int limit);
+
+    List<PinCommentDTO.PinCommentDetailResponse> findChildCommentPreviews(Long pinId, List<Long> parentCommentOrders, int previewSize);
 }
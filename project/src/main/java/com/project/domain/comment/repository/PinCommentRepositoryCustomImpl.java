@@ -1,5 +1,7 @@
 package com.project.domain.comment.repository;
 
+import com.project.domain.comment.dto.PinCommentDTO;
+import com.project.domain.comment.dto.QPinCommentDTO_PinCommentDetailResponse;
 import com.project.domain.comment.entity.PinComment;
 import com.project.domain.comment.entity.QPinComment;
 import com.querydsl.core.types.Expression;
@@ -8,16 +10,36 @@ import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
 import static com.project.domain.comment.entity.QPinComment.pinComment;
+import static com.project.domain.users.entity.QUsers.users;
 
 @RequiredArgsConstructor
 public class PinCommentRepositoryCustomImpl implements PinCommentRepositoryCustom {
 
+    /*
+     * 부모 댓글별로 앞에서부터 previewSize 개의 자식 댓글을 한 번에 조회한다.
+     * JPQL 은 윈도우 함수를 지원하지 않으므로 네이티브 쿼리를 사용한다. (pin_id, parent_comment_order, comment_order) 인덱스를 사용한다.
+     */
+    private static final String CHILD_PREVIEW_SQL = """
+            SELECT t.id, t.writer_id, t.nickname, t.text, t.parent_comment_order, t.comment_order, t.is_deleted, t.child_comment_count
+            FROM (SELECT c.id, c.writer_id, u.nickname, c.text, c.parent_comment_order, c.comment_order, c.is_deleted, c.child_comment_count,
+                         ROW_NUMBER() OVER (PARTITION BY c.parent_comment_order ORDER BY c.comment_order) AS rn
+                  FROM pin_comment c
+                           LEFT JOIN users u ON u.id = c.writer_id
+                  WHERE c.pin_id = :pinId
+                    AND c.parent_comment_order IN (:parentCommentOrders)
+                    AND c.comment_order <> c.parent_comment_order) t
+            WHERE t.rn <= :previewSize
+            ORDER BY t.parent_comment_order, t.comment_order
+            """;
+
     private final JPAQueryFactory query;
+    private final EntityManager entityManager;
 
     @Override
     public List<PinComment> findAllByPinId(Long pinId) {
@@ -28,21 +50,84 @@ public class PinCommentRepositoryCustomImpl implements PinCommentRepositoryCusto
     }
 
     @Override
-    public PinComment findByCommentOrder(Long order) {
+    public PinComment findByCommentOrder(Long pinId, Long order) {
         return query
                 .selectFrom(pinComment)
+                .where(pinComment.pin.id.eq(pinId))
                 .where(pinComment.commentOrder.eq(order))
                 .fetchOne();
 
     }
 
+    // 최상위 댓글(부모 번호 = 자신의 번호)을 댓글 순서 번호 기준 키셋으로 조회한다. 작성자는 같은 쿼리에서 조인한다.
     @Override
-    public Long getLastPinCommentOrder(Long pinId) {
+    public List<PinCommentDTO.PinCommentDetailResponse> findParentComments(Long pinId, Long afterCommentOrder, int limit) {
         return query
-                .select(pinComment.commentOrder.max().coalesce(0L))
-                .where(pinComment.pin.id.eq(pinId))
+                .select(detailResponse())
                 .from(pinComment)
-                .fetchOne();
+                .leftJoin(pinComment.writer, users)
+                .where(pinComment.pin.id.eq(pinId),
+                        pinComment.parentCommentOrder.eq(pinComment.commentOrder),
+                        isAfter(afterCommentOrder))
+                .orderBy(pinComment.commentOrder.asc())
+                .limit(limit)
+                .fetch();
     }
 
+    @Override
+    public List<PinCommentDTO.PinCommentDetailResponse> findChildComments(Long pinId, Long parentCommentOrder, Long afterCommentOrder, int limit) {
+        return query
+                .select(detailResponse())
+                .from(pinComment)
+                .leftJoin(pinComment.writer, users)
+                .where(pinComment.pin.id.eq(pinId),
+                        pinComment.parentCommentOrder.eq(parentCommentOrder),
+                        pinComment.commentOrder.ne(parentCommentOrder),
+                        isAfter(afterCommentOrder))
+                .orderBy(pinComment.commentOrder.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PinCommentDTO.PinCommentDetailResponse> findChildCommentPreviews(Long pinId, List<Long> parentCommentOrders, int previewSize) {
+        if (parentCommentOrders.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object[]> rows = entityManager.createNativeQuery(CHILD_PREVIEW_SQL)
+                .setParameter("pinId", pinId)
+                .setParameter("parentCommentOrders", parentCommentOrders)
+                .setParameter("previewSize", previewSize)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> new PinCommentDTO.PinCommentDetailResponse(
+                        CommentRows.toLong(row[0]),
+                        CommentRows.toLong(row[1]),
+                        (String) row[2],
+                        (String) row[3],
+                        CommentRows.toLong(row[4]),
+                        CommentRows.toLong(row[5]),
+                        CommentRows.toBoolean(row[6]),
+                        CommentRows.toInt(row[7])))
+                .toList();
+    }
+
+    private QPinCommentDTO_PinCommentDetailResponse detailResponse() {
+        return new QPinCommentDTO_PinCommentDetailResponse(
+                pinComment.id,
+                users.id,
+                users.nickname,
+                pinComment.text,
+                pinComment.parentCommentOrder,
+                pinComment.commentOrder,
+                pinComment.isDeleted,
+                pinComment.childCommentCount);
+    }
+
+    private BooleanExpression isAfter(Long afterCommentOrder) {
+        return afterCommentOrder == null ? null : pinComment.commentOrder.gt(afterCommentOrder);
+    }
 }
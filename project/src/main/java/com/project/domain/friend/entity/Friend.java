@@ -7,7 +7,9 @@ import lombok.*;
 import org.hibernate.annotations.Where;
 
 @Entity
-@Table(name = "friend")
+@Table(name = "friend", indexes = {
+        @Index(name = "idx_friend_me_mate", columnList = "me_id, mate_id")
+})
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
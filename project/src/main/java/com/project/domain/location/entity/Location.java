@@ -26,7 +26,8 @@ public class Location {
     @Column(name = "name")
     private String name;
 
-    @Column(name = "point")
+    // MySQL 에서는 SPATIAL INDEX 를 위해 NOT NULL, SRID 0 인 POINT 컬럼이다. (V8 마이그레이션)
+    @Column(name = "point", nullable = false)
     private Point point;
 
     @OneToMany(mappedBy = "location")
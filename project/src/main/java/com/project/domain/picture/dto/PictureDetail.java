@@ -15,6 +15,8 @@ public class PictureDetail {
     private String name;
     private String format;
     private String path;
+    private String thumbnailPath;
+    private String mediumPath;
     private long bytes;
 
     @Builder.Default
@@ -28,6 +30,8 @@ public class PictureDetail {
                 .name(multipartFile.getOriginalFilename())
                 .format(format)
                 .path(FileUtils.createPath(fileId, format))
+                .thumbnailPath(FileUtils.createRenditionPath(fileId, "thumbnail"))
+                .mediumPath(FileUtils.createRenditionPath(fileId, "medium"))
                 .bytes(multipartFile.getSize())
                 .build();
     }
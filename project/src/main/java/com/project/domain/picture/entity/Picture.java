@@ -29,6 +29,13 @@ public class Picture extends BaseTimeEntity {
     @Column(name = "url")
     private String url;
 
+    // 목록 화면용 축소본. 업로드 후 비동기로 생성되므로 생성 전에는 null 이다.
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url")
+    private String mediumUrl;
+
     @ManyToOne(fetch = FetchType.LAZY)
     private Pin pin;
 
@@ -36,6 +43,20 @@ public class Picture extends BaseTimeEntity {
     @Builder.Default
     private List<PictureComment> commentList = new ArrayList<>();
 
+    // PictureRepositoryCustom.updateCommentCount 로만 갱신한다.
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer commentCount = 0;
+
+    // 마지막으로 발급한 댓글 순서 번호. PictureRepository.nextCommentOrder 로만 증가시킨다.
+    @Column(name = "last_comment_order", nullable = false, updatable = false)
+    @Builder.Default
+    private Long lastCommentOrder = 0L;
+
+    public void applyCommentCountDelta(int delta) {
+        this.commentCount += delta;
+    }
+
     public void setPin(Pin pin) {
         this.pin = pin;
     }
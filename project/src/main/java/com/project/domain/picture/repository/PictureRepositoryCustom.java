@@ -1,4 +1,14 @@
 package com.project.domain.picture.repository;
 
+import com.project.domain.picture.entity.Picture;
+
 public interface PictureRepositoryCustom {
+
+    void updateCommentCount(Picture target, int delta);
+
+    Long nextCommentOrder(Long pictureId);
+
+    long reconcileCounts();
+
+    void updateRenditionUrls(Long pictureId, String thumbnailUrl, String mediumUrl);
 }
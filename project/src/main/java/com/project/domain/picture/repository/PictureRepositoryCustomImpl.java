@@ -1,4 +1,62 @@
 package com.project.domain.picture.repository;
 
+import com.project.domain.picture.entity.Picture;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import static com.project.domain.comment.entity.QPictureComment.pictureComment;
+import static com.project.domain.picture.entity.QPicture.picture;
+
+@RequiredArgsConstructor
 public class PictureRepositoryCustomImpl implements PictureRepositoryCustom {
+
+    private final JPAQueryFactory query;
+
+    @Override
+    public void updateCommentCount(Picture target, int delta) {
+        query.update(picture)
+                .set(picture.commentCount, picture.commentCount.add(delta))
+                .where(picture.id.eq(target.getId()))
+                .execute();
+        target.applyCommentCountDelta(delta);
+    }
+
+    /*
+     * 사진의 댓글 순서 번호를 1 증가시키고 그 값을 반환한다.
+     * UPDATE 가 사진 행을 트랜잭션 종료까지 잠그므로, 같은 사진에 동시에 작성된 댓글도 서로 다른 번호를 받는다.
+     */
+    @Override
+    public Long nextCommentOrder(Long pictureId) {
+        query.update(picture)
+                .set(picture.lastCommentOrder, picture.lastCommentOrder.add(1L))
+                .where(picture.id.eq(pictureId))
+                .execute();
+        return query
+                .select(picture.lastCommentOrder)
+                .from(picture)
+                .where(picture.id.eq(pictureId))
+                .fetchOne();
+    }
+
+    // 실제 개수와 다른 사진만 다시 계산하여 갱신하고, 갱신된 사진 수를 반환한다.
+    @Override
+    public long reconcileCounts() {
+        JPQLQuery<Integer> actualCommentCount = JPAExpressions.select(pictureComment.count().intValue()).from(pictureComment).where(pictureComment.picture.id.eq(picture.id));
+
+        return query.update(picture)
+                .set(picture.commentCount, actualCommentCount)
+                .where(picture.commentCount.ne(actualCommentCount))
+                .execute();
+    }
+
+    @Override
+    public void updateRenditionUrls(Long pictureId, String thumbnailUrl, String mediumUrl) {
+        query.update(picture)
+                .set(picture.thumbnailUrl, thumbnailUrl)
+                .set(picture.mediumUrl, mediumUrl)
+                .where(picture.id.eq(pictureId))
+                .execute();
+    }
 }
@@ -0,0 +1,9 @@
+package com.project.domain.pin.api;
+
+import com.project.domain.pin.dto.PinDTO;
+
+public interface PinClusterService {
+    PinDTO.PinClusterListResponse getPinClusters(Long pocketId, PinDTO.PinClusterRequest request);
+
+    void evictPinClusters(Long pocketId);
+}
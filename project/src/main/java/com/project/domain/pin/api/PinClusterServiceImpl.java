@@ -0,0 +1,212 @@
+package com.project.domain.pin.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.common.exception.BusinessLogicException;
+import com.project.common.exception.ErrorCode;
+import com.project.common.exception.InvalidValueException;
+import com.project.common.handler.RedisHandler;
+import com.project.common.utils.GeomUtils;
+import com.project.domain.location.dto.PointDTO;
+import com.project.domain.pin.dto.PinDTO;
+import com.project.domain.pin.repository.PinRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 지도 타일(웹 메르카토르, z/x/y) 단위로 핀을 격자 클러스터링한다.
+ * 타일별 결과는 Redis 에 캐싱되며, 키에 포켓 버전을 포함시켜 핀이 바뀌면 버전 증가만으로 모든 타일을 무효화한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PinClusterServiceImpl implements PinClusterService {
+
+    private final PinRepository pinRepository;
+    private final RedisHandler redisHandler;
+    private final ObjectMapper objectMapper;
+
+    private static final String CLUSTER_VERSION_KEY_PREFIX = "pin-cluster:version:";
+    private static final String CLUSTER_TILE_KEY_PREFIX = "pin-cluster:tile:";
+    private static final long CLUSTER_TILE_TIMEOUT = 1000L * 60 * 10; // 10분
+
+    // 타일 하나를 GRID_SIZE x GRID_SIZE 개의 셀로 나누어 클러스터를 만든다.
+    private static final int GRID_SIZE = 8;
+    private static final int SAMPLE_PIN_SIZE = 5;
+    // 한 번의 요청에서 조회할 수 있는 최대 타일 수
+    private static final int MAX_TILE_COUNT = 64;
+
+    @Override
+    public PinDTO.PinClusterListResponse getPinClusters(Long pocketId, PinDTO.PinClusterRequest request) {
+        if (request.getMinLongitude() > request.getMaxLongitude() || request.getMinLatitude() > request.getMaxLatitude()) {
+            log.info("Invalid boundary. request : {}", request);
+            throw new InvalidValueException("Min coordinate must not be greater than max coordinate.");
+        }
+
+        int zoom = request.getZoom();
+        int minTileX = GeomUtils.getTileX(request.getMinLongitude(), zoom);
+        int maxTileX = GeomUtils.getTileX(request.getMaxLongitude(), zoom);
+        // 타일의 Y 번호는 북쪽에서 남쪽으로 증가한다.
+        int minTileY = GeomUtils.getTileY(request.getMaxLatitude(), zoom);
+        int maxTileY = GeomUtils.getTileY(request.getMinLatitude(), zoom);
+
+        long tileCount = (long) (maxTileX - minTileX + 1) * (maxTileY - minTileY + 1);
+        if (tileCount > MAX_TILE_COUNT) {
+            log.info("Too many tiles for clustering. zoom : {}, tileCount : {}", zoom, tileCount);
+            throw new InvalidValueException("Viewport is too large for zoom level " + zoom + ".");
+        }
+
+        String version = getClusterVersion(pocketId);
+        Map<String, Tile> tilesByKey = new LinkedHashMap<>();
+        for (int x = minTileX; x <= maxTileX; x++) {
+            for (int y = minTileY; y <= maxTileY; y++) {
+                Tile tile = new Tile(zoom, x, y);
+                tilesByKey.put(getTileKey(pocketId, version, tile), tile);
+            }
+        }
+
+        // 타일 캐시는 MGET 한 번으로 조회하고, 새로 계산한 타일은 파이프라인으로 한 번에 저장한다.
+        List<PinDTO.PinClusterResponse> clusterList = new ArrayList<>();
+        Map<String, String> cachedTiles = redisHandler.multiGetValues(new ArrayList<>(tilesByKey.keySet()));
+        List<Tile> missedTiles = new ArrayList<>();
+        tilesByKey.forEach((key, tile) -> {
+            String cached = cachedTiles.get(key);
+            if (cached == null) {
+                missedTiles.add(tile);
+            } else {
+                clusterList.addAll(readClusters(cached));
+            }
+        });
+
+        if (!missedTiles.isEmpty()) {
+            Map<String, String> computedTiles = new LinkedHashMap<>();
+            computeClusters(pocketId, missedTiles).forEach((tile, tileClusters) -> {
+                computedTiles.put(getTileKey(pocketId, version, tile), writeClusters(tileClusters));
+                clusterList.addAll(tileClusters);
+            });
+            redisHandler.multiSetValuesWithTimeout(computedTiles, CLUSTER_TILE_TIMEOUT);
+        }
+
+        log.info("Pin clusters. pocketId : {}, zoom : {}, tiles : {}, missed : {}", pocketId, zoom, tileCount, missedTiles.size());
+        return new PinDTO.PinClusterListResponse(zoom, clusterList);
+    }
+
+    @Override
+    public void evictPinClusters(Long pocketId) {
+        // 트랜잭션 커밋 전에 버전을 올리면 다른 요청이 변경 전 데이터로 새 버전의 캐시를 채울 수 있다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increaseClusterVersion(pocketId);
+                }
+            });
+        } else {
+            increaseClusterVersion(pocketId);
+        }
+    }
+
+    private Map<Tile, List<PinDTO.PinClusterResponse>> computeClusters(Long pocketId, List<Tile> tiles) {
+        // 캐시가 없는 타일 전체를 덮는 영역으로 한 번만 조회한다.
+        Envelope boundary = new Envelope();
+        Map<Tile, Map<Integer, Cell>> cellsByTile = new LinkedHashMap<>();
+        for (Tile tile : tiles) {
+            boundary.expandToInclude(tile.envelope());
+            cellsByTile.put(tile, new LinkedHashMap<>());
+        }
+
+        for (PinDTO.PinPointResponse pinPoint : pinRepository.findAllPinPointsByPocketIdInBoundary(pocketId, boundary)) {
+            Tile tile = Tile.of(tiles.get(0).zoom(), pinPoint.getLongitude(), pinPoint.getLatitude());
+            Map<Integer, Cell> cells = cellsByTile.get(tile);
+            if (cells == null) {
+                continue; // 캐시가 이미 있는 타일에 속한 핀
+            }
+            cells.computeIfAbsent(tile.cellIndex(pinPoint.getLongitude(), pinPoint.getLatitude()), index -> new Cell())
+                    .add(pinPoint);
+        }
+
+        Map<Tile, List<PinDTO.PinClusterResponse>> result = new LinkedHashMap<>();
+        cellsByTile.forEach((tile, cells) -> result.put(tile, cells.values().stream().map(Cell::toResponse).toList()));
+        return result;
+    }
+
+    private String getClusterVersion(Long pocketId) {
+        String version = redisHandler.getValues(CLUSTER_VERSION_KEY_PREFIX + pocketId);
+        return version == null ? "0" : version;
+    }
+
+    private void increaseClusterVersion(Long pocketId) {
+        Long version = redisHandler.increment(CLUSTER_VERSION_KEY_PREFIX + pocketId);
+        log.info("Pin clusters evicted. pocketId : {}, version : {}", pocketId, version);
+    }
+
+    private String getTileKey(Long pocketId, String version, Tile tile) {
+        return CLUSTER_TILE_KEY_PREFIX + pocketId + ":" + version + ":" + tile.zoom() + ":" + tile.x() + ":" + tile.y();
+    }
+
+    private List<PinDTO.PinClusterResponse> readClusters(String value) {
+        try {
+            return objectMapper.readValue(value, new TypeReference<List<PinDTO.PinClusterResponse>>() {});
+        } catch (JsonProcessingException e) {
+            log.error("Read pin clusters failed. {}", e.getMessage());
+            throw new BusinessLogicException("Read pin clusters failed.", ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private String writeClusters(List<PinDTO.PinClusterResponse> clusters) {
+        try {
+            return objectMapper.writeValueAsString(clusters);
+        } catch (JsonProcessingException e) {
+            log.error("Write pin clusters failed. {}", e.getMessage());
+            throw new BusinessLogicException("Write pin clusters failed.", ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private record Tile(int zoom, int x, int y) {
+
+        Envelope envelope() {
+            return GeomUtils.getTileEnvelope(x, y, zoom);
+        }
+
+        static Tile of(int zoom, double longitude, double latitude) {
+            return new Tile(zoom, GeomUtils.getTileX(longitude, zoom), GeomUtils.getTileY(latitude, zoom));
+        }
+
+        int cellIndex(double longitude, double latitude) {
+            Envelope envelope = envelope();
+            int cellX = (int) ((longitude - envelope.getMinX()) / envelope.getWidth() * GRID_SIZE);
+            int cellY = (int) ((envelope.getMaxY() - latitude) / envelope.getHeight() * GRID_SIZE);
+            return Math.max(0, Math.min(GRID_SIZE - 1, cellY)) * GRID_SIZE + Math.max(0, Math.min(GRID_SIZE - 1, cellX));
+        }
+    }
+
+    private static class Cell {
+        private int count;
+        private double longitudeSum;
+        private double latitudeSum;
+        private final List<Long> samplePinIds = new ArrayList<>();
+
+        void add(PinDTO.PinPointResponse pinPoint) {
+            count++;
+            longitudeSum += pinPoint.getLongitude();
+            latitudeSum += pinPoint.getLatitude();
+            if (samplePinIds.size() < SAMPLE_PIN_SIZE) {
+                samplePinIds.add(pinPoint.getPinId());
+            }
+        }
+
+        PinDTO.PinClusterResponse toResponse() {
+            return new PinDTO.PinClusterResponse(count, new PointDTO(longitudeSum / count, latitudeSum / count), samplePinIds);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.OutputStream;
 import java.util.List;
 
 public interface PinService {
@@ -16,11 +17,23 @@ public interface PinService {
 
     PinDTO.PinDetailListResponse getAllPinByMe(Users user);
 
+    PinDTO.PinDetailCursorListResponse getPinFeedByMe(Users user, String cursor, int size);
+
+    void streamAllPinByMe(Users user, OutputStream outputStream);
+
     PinDTO.PinDetailResponse updatePin(Users user, Long pinId, PinDTO.PinUpdateRequest request, List<MultipartFile> pictures) throws ParseException;
 
     void deletePin(Users user, Long pinId);
 
     Page<PinDTO.PinDetailResponse> getAllPinsByPocket(Long pocketId, Pageable pageable);
 
+    PinDTO.PinSummaryListResponse getAllPinSummariesByPocket(Long pocketId, Pageable pageable, List<String> expand);
+
+    PinDTO.PinDetailCursorListResponse getPinFeedByPocket(Long pocketId, String cursor, int size);
+
+    PinDTO.PinDetailListResponse getAllPinsInBoundary(Long pocketId, PinDTO.PinBoundarySearchRequest request);
+
+    PinDTO.PinDetailListResponse getAllPinsWithinDistance(Long pocketId, PinDTO.PinDistanceSearchRequest request);
+
     PinDTO.PinWithDistinctPictureResponse getPictureDetail(Users user, Long pictureId);
 }
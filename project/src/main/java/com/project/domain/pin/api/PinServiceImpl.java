@@ -1,10 +1,17 @@
 package com.project.domain.pin.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.auth.AccessPolicy;
 import com.project.common.exception.BusinessLogicException;
 import com.project.common.exception.EntityNotFoundException;
 import com.project.common.exception.ErrorCode;
+import com.project.common.exception.InvalidValueException;
 import com.project.common.handler.S3Uploader;
+import com.project.common.utils.CursorUtils;
+import com.project.common.utils.ExpandUtils;
+import com.project.domain.comment.dto.PinCommentDTO;
 import com.project.domain.pocket.entity.Pocket;
+import com.project.domain.pocket.event.PocketChangedEvent;
 import com.project.domain.pocket.repository.PocketRepository;
 import com.project.domain.location.entity.Location;
 import com.project.domain.location.repository.LocationRepository;
@@ -16,24 +23,27 @@ import com.project.domain.pin.repository.PinRepository;
 import com.project.domain.pintag.entity.PinTag;
 import com.project.domain.tag.entity.Tag;
 import com.project.domain.tag.repository.TagRepository;
-import com.project.domain.userpocket.repository.UserPocketRepository;
 import com.project.domain.users.entity.Users;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.locationtech.jts.io.ParseException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-
-import static java.lang.Runtime.getRuntime;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -42,14 +52,23 @@ public class PinServiceImpl implements PinService {
 
     private final PinRepository pinRepository;
     private final PocketRepository pocketRepository;
-    private final UserPocketRepository userPocketRepository;
+    private final AccessPolicy accessPolicy;
     private final S3Uploader s3Uploader;
     private final LocationRepository locationRepository;
     private final TagRepository tagRepository;
     private final PictureRepository pictureRepository;
+    private final PinClusterService pinClusterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
 
-    private final int THREAD_COUNT = getRuntime().availableProcessors() * 2 + 1;
-    private final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+    // 반경 검색의 최대 거리(m)
+    private static final double MAX_SEARCH_DISTANCE = 50_000;
+    // 커서 페이지의 최대 크기
+    private static final int MAX_FEED_SIZE = 100;
+    // 스트리밍 시 한 번에 상세 정보를 조회하여 내보내는 핀 수
+    private static final int STREAM_CHUNK_SIZE = 100;
 
     @Override
     @Transactional
@@ -75,11 +94,17 @@ public class PinServiceImpl implements PinService {
             pin.addPinTag(pinTag);
         }
 
-        List<Picture> pictureList = s3Uploader.uploadAndSavePictures(pictures);
+        // 업로드가 실패하면 예외로 트랜잭션을 롤백해 S3 에 없는 사진이 저장되지 않도록 한다.
+        // 포켓 카운터 UPDATE 는 포켓 행을 잠그므로, 업로드를 기다린 뒤에 실행해 잠금을 업로드 시간 동안 잡지 않는다.
+        List<Picture> pictureList = s3Uploader.uploadAndSavePictures(pictures).await();
         pictureList.forEach(pin::addPicture);
 
         Pin createdPin = pinRepository.save(pin);
         log.info("Pin created. pinId : {}", createdPin.getId());
+        pocketRepository.updatePinCount(pocket, 1);
+        pocketRepository.updatePictureCount(pocket, pictureList.size());
+        pinClusterService.evictPinClusters(pocket.getId());
+        eventPublisher.publishEvent(new PocketChangedEvent(pocket.getId()));
 
         return new PinDTO.PinDetailResponse(pin);
     }
@@ -93,23 +118,111 @@ public class PinServiceImpl implements PinService {
 
     @Override
     public Page<PinDTO.PinDetailResponse> getAllPinsByPocket(Long pocketId, Pageable pageable) {
-        // Pin을 모두 조회하고, 각 Pin에 존재하는 사진을 가져온다.
-        Page<Pin> allPins = pinRepository.findAllByPocketId(pocketId, pageable);
-        List<PinDTO.PinDetailResponse> pinDetailResponseList = allPins.getContent().stream().map(PinDTO.PinDetailResponse::new).toList();
-        return new PageImpl<>(pinDetailResponseList, pageable, allPins.getTotalElements());
+        // 페이지의 핀 ID 를 조회한 뒤, 사진/태그/댓글 등을 일괄 조회하여 응답을 만든다.
+        return pinRepository.findAllPinDetailsByPocketId(pocketId, pageable);
+    }
+
+    @Override
+    public PinDTO.PinSummaryListResponse getAllPinSummariesByPocket(Long pocketId, Pageable pageable, List<String> expand) {
+        Set<PinDTO.PinExpand> expands = ExpandUtils.parse(expand, PinDTO.PinExpand.class);
+        Page<PinDTO.PinSummaryResponse> summaries = pinRepository.findAllPinSummariesByPocketId(pocketId, pageable);
+
+        // 요청한 항목의 연관 엔티티만 일괄 조회하여 채운다.
+        List<Long> pinIds = summaries.map(PinDTO.PinSummaryResponse::getId).getContent();
+        if (expands.contains(PinDTO.PinExpand.PICTURES)) {
+            Map<Long, List<PinDTO.PinWithDistinctPictureResponse>> pictures = pinRepository.findPictureResponsesByPinIds(pinIds);
+            summaries.forEach(summary -> summary.setPictureList(pictures.getOrDefault(summary.getId(), List.of())));
+        }
+        if (expands.contains(PinDTO.PinExpand.TAGS)) {
+            Map<Long, List<String>> tags = pinRepository.findTagNamesByPinIds(pinIds);
+            summaries.forEach(summary -> summary.setTags(tags.getOrDefault(summary.getId(), List.of())));
+        }
+        if (expands.contains(PinDTO.PinExpand.COMMENTS)) {
+            Map<Long, List<PinCommentDTO.PinCommentDetailResponse>> comments = pinRepository.findCommentResponsesByPinIds(pinIds);
+            summaries.forEach(summary -> summary.setCommentList(new PinCommentDTO.PinCommentListResponse(comments.getOrDefault(summary.getId(), List.of()))));
+        }
+        return new PinDTO.PinSummaryListResponse(summaries);
+    }
+
+    @Override
+    public PinDTO.PinDetailCursorListResponse getPinFeedByPocket(Long pocketId, String cursor, int size) {
+        validateFeedSize(size);
+
+        CursorUtils.Cursor decodedCursor = cursor == null || cursor.isBlank() ? null : CursorUtils.decode(cursor);
+        Slice<PinDTO.PinDetailResponse> slice = pinRepository.findAllPinDetailsByPocketIdWithCursor(pocketId, decodedCursor, size);
+        return new PinDTO.PinDetailCursorListResponse(slice);
+    }
+
+    @Override
+    public PinDTO.PinDetailListResponse getAllPinsInBoundary(Long pocketId, PinDTO.PinBoundarySearchRequest request) {
+        if (request.getMinLongitude() > request.getMaxLongitude() || request.getMinLatitude() > request.getMaxLatitude()) {
+            log.info("Invalid boundary. request : {}", request);
+            throw new InvalidValueException("Min coordinate must not be greater than max coordinate.");
+        }
+
+        List<Long> pinIds = pinRepository.findPinIdsByPocketIdInBoundary(pocketId, request.toEnvelope());
+        log.info("Pins in boundary. pocketId : {}, size : {}", pocketId, pinIds.size());
+        return new PinDTO.PinDetailListResponse(pinRepository.findAllPinDetailsByIds(pinIds));
+    }
+
+    @Override
+    public PinDTO.PinDetailListResponse getAllPinsWithinDistance(Long pocketId, PinDTO.PinDistanceSearchRequest request) {
+        if (request.getDistance() > MAX_SEARCH_DISTANCE) {
+            log.info("Search distance is too large. distance : {}", request.getDistance());
+            throw new InvalidValueException("Search distance must not be greater than " + MAX_SEARCH_DISTANCE + "m.");
+        }
+
+        List<Long> pinIds = pinRepository.findPinIdsByPocketIdWithinDistance(pocketId, request.toCenter(), request.getDistance());
+        log.info("Pins within distance. pocketId : {}, size : {}", pocketId, pinIds.size());
+        return new PinDTO.PinDetailListResponse(pinRepository.findAllPinDetailsByIds(pinIds));
     }
 
     @Override
     public PinDTO.PinDetailListResponse getAllPinByMe(Users user) {
-        List<Pin> allPins = pinRepository.findByUserId(user.getId());
-        List<PinDTO.PinDetailResponse> pinDetailResponseList = allPins.stream().map(PinDTO.PinDetailResponse::new).toList();
-        return new PinDTO.PinDetailListResponse(pinDetailResponseList);
+        List<Long> pinIds = pinRepository.findPinIdsByUserId(user.getId());
+        return new PinDTO.PinDetailListResponse(pinRepository.findAllPinDetailsByIds(pinIds));
+    }
+
+    @Override
+    public PinDTO.PinDetailCursorListResponse getPinFeedByMe(Users user, String cursor, int size) {
+        validateFeedSize(size);
+
+        CursorUtils.Cursor decodedCursor = cursor == null || cursor.isBlank() ? null : CursorUtils.decode(cursor);
+        Slice<PinDTO.PinDetailResponse> slice = pinRepository.findAllPinDetailsByUserIdWithCursor(user.getId(), decodedCursor, size);
+        return new PinDTO.PinDetailCursorListResponse(slice);
+    }
+
+    /*
+     * 자신이 생성한 모든 핀을 NDJSON(한 줄에 핀 하나)으로 내보낸다.
+     * 핀 ID 를 커서로 읽으며 STREAM_CHUNK_SIZE 개씩 상세 정보를 조회해 바로 쓰고, 영속성 컨텍스트를 비운다.
+     * 핀 개수와 관계없이 메모리에는 한 묶음만 올라간다.
+     */
+    @Override
+    public void streamAllPinByMe(Users user, OutputStream outputStream) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Long> pinIds = pinRepository.streamPinIdsByUserId(user.getId())) {
+                List<Long> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+                Iterator<Long> iterator = pinIds.iterator();
+                while (iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                    if (chunk.size() == STREAM_CHUNK_SIZE) {
+                        writePinDetails(chunk, outputStream);
+                        chunk.clear();
+                    }
+                }
+                writePinDetails(chunk, outputStream);
+            }
+        });
+        log.info("Pins streamed. userId : {}", user.getId());
     }
 
     @Override
     @Transactional
     public PinDTO.PinDetailResponse updatePin(Users user, Long pinId, PinDTO.PinUpdateRequest request, List<MultipartFile> pictures) throws ParseException {
         Pin pin = getPin(pinId);
+        validatePinOwner(user, pinId);
 
         // Title, Location 정보의 변화가 있는가?
         if (request != null && request.getLocation() != null) {
@@ -122,9 +235,14 @@ public class PinServiceImpl implements PinService {
         // 사진 수정. 새로운 사진 목록에 최소 한 장 이상의 사진이 존재해야 한다.
         validatePictureInput(pictures);
 
-        List<Picture> pictureList = s3Uploader.uploadAndSavePictures(pictures);
+        List<Picture> pictureList = s3Uploader.uploadAndSavePictures(pictures).await();
+        int pictureCountDelta = pictureList.size() - pin.getPictures().size();
         pin.getPictures().clear();
         pictureList.forEach(pin::addPicture);
+        pinRepository.updatePictureCount(pin, pictureCountDelta);
+        pocketRepository.updatePictureCount(pin.getPocket(), pictureCountDelta);
+        pinClusterService.evictPinClusters(pin.getPocket().getId());
+        eventPublisher.publishEvent(new PocketChangedEvent(pin.getPocket().getId()));
 
         return new PinDTO.PinDetailResponse(pin);
     }
@@ -133,14 +251,18 @@ public class PinServiceImpl implements PinService {
     @Transactional
     public void deletePin(Users user, Long pinId) {
         Pin pin = getPin(pinId);
-        if (isPinCreatedByUser(user, pin)) {
-            pin.getPocket().removePin(pin); // 써클에서 해당 핀 삭제
-            user.removePin(pin); // 유저에서 해당 핀 삭제
-            log.info("User({}) deleted pin({})", user.getId(), pinId);
-        } else {
-            log.warn("Pin access failed, userId : {} pinId : {}", user.getId(), pin.getId());
-            throw new BusinessLogicException("Pin access failed.", ErrorCode.ACCESS_DENIED);
-        }
+        validatePinOwner(user, pinId);
+
+        Long pocketId = pin.getPocket().getId();
+        int pictureCount = pin.getPictures().size();
+        // 포켓/유저의 핀 목록을 불러오지 않도록 컬렉션을 거치지 않고 삭제한다. 하위 엔티티는 Pin 의 cascade 설정으로 삭제된다.
+        detachFromLoadedCollections(pin);
+        pinRepository.delete(pin);
+        pocketRepository.updatePinCount(pin.getPocket(), -1);
+        pocketRepository.updatePictureCount(pin.getPocket(), -pictureCount);
+        pinClusterService.evictPinClusters(pocketId);
+        eventPublisher.publishEvent(new PocketChangedEvent(pocketId));
+        log.info("User({}) deleted pin({})", user.getId(), pinId);
     }
 
     @Override
@@ -154,8 +276,51 @@ public class PinServiceImpl implements PinService {
         return new PinDTO.PinWithDistinctPictureResponse(picture);
     }
 
-    private boolean isPinCreatedByUser(Users user, Pin pin) {
-        return pinRepository.findByUserId(user.getId()).contains(pin);
+    // 같은 영속성 컨텍스트에서 이미 불러온 핀 목록에만 삭제를 반영한다. 불러오지 않은 목록과 프록시는 초기화하지 않는다.
+    private void detachFromLoadedCollections(Pin pin) {
+        Pocket pocket = pin.getPocket();
+        if (Hibernate.isInitialized(pocket) && Hibernate.isInitialized(pocket.getPinList())) {
+            pocket.getPinList().remove(pin);
+        }
+        Users owner = pin.getUser();
+        if (owner != null && Hibernate.isInitialized(owner) && Hibernate.isInitialized(owner.getPinList())) {
+            owner.getPinList().remove(pin);
+        }
+        Location location = pin.getLocation();
+        if (location != null && Hibernate.isInitialized(location) && Hibernate.isInitialized(location.getPins())) {
+            location.getPins().remove(pin);
+        }
+    }
+
+    private void validatePinOwner(Users user, Long pinId) {
+        if (!accessPolicy.isPinOwner(user.getId(), pinId)) {
+            log.warn("Pin access failed, userId : {} pinId : {}", user.getId(), pinId);
+            throw new BusinessLogicException("Pin access failed.", ErrorCode.ACCESS_DENIED);
+        }
+    }
+
+    private void writePinDetails(List<Long> pinIds, OutputStream outputStream) {
+        if (pinIds.isEmpty()) {
+            return;
+        }
+        try {
+            for (PinDTO.PinDetailResponse pinDetail : pinRepository.findAllPinDetailsByIds(pinIds)) {
+                outputStream.write(objectMapper.writeValueAsBytes(pinDetail));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊은 경우 등. 트랜잭션을 종료하고 커서를 닫는다.
+            throw new UncheckedIOException(e);
+        }
+        entityManager.clear();
+    }
+
+    private void validateFeedSize(int size) {
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            log.info("Invalid feed size. size : {}", size);
+            throw new InvalidValueException("Feed size must be between 1 and " + MAX_FEED_SIZE + ".");
+        }
     }
 
     private void validatePictureInput(List<MultipartFile> pictures) {
@@ -166,7 +331,7 @@ public class PinServiceImpl implements PinService {
     }
 
     private void validateUserMembershipOnPocket(Users user, Pocket pocket) {
-        if(userPocketRepository.findByUserIdAndPocketId(user.getId(), pocket.getId()).isEmpty()){
+        if (!accessPolicy.isPocketMember(user.getId(), pocket.getId())) {
             throw new BusinessLogicException("Access denied. Not joined group.", ErrorCode.ACCESS_DENIED);
         }
     }
@@ -2,6 +2,7 @@ package com.project.domain.pin.controller;
 
 import com.project.common.annotation.AuthUser;
 import com.project.common.annotation.Permission;
+import com.project.domain.pin.api.PinClusterService;
 import com.project.domain.pin.api.PinService;
 import com.project.domain.pin.dto.PinDTO;
 import com.project.domain.users.entity.Users;
@@ -13,14 +14,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -31,6 +35,7 @@ import java.util.List;
 public class PinController {
 
     private final PinService pinService;
+    private final PinClusterService pinClusterService;
 
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = PinDTO.PinDetailResponse.class)))})
     @Operation(summary = "신규 핀 생성", description = "새로운 핀을 생성한다.")
@@ -53,6 +58,59 @@ public class PinController {
 
     }
 
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = PinDTO.PinSummaryListResponse.class)))})
+    @Operation(summary = "특정 포켓에 속한 핀 요약 목록 조회", description = "특정 포켓에 속한 핀의 썸네일, 이름, 좌표, 개수만 조회한다. 사진/태그/댓글은 expand 로 요청한 경우에만 포함된다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/pocket/{pocketId}/summary")
+    @Permission
+    public ResponseEntity<PinDTO.PinSummaryListResponse> getAllPinSummariesByPocket(@AuthUser Users user, @Parameter(description = "포켓의 ID") @PathVariable Long pocketId, @PageableDefault(size = 20) Pageable pageable,
+                                                                                   @Parameter(description = "추가로 포함할 항목 (pictures, tags, comments)") @RequestParam(required = false) List<String> expand) {
+        PinDTO.PinSummaryListResponse response = pinService.getAllPinSummariesByPocket(pocketId, pageable, expand);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = PinDTO.PinDetailCursorListResponse.class)))})
+    @Operation(summary = "특정 포켓에 속한 핀 피드 조회", description = "특정 포켓에 속한 핀을 최신 순으로 커서 기반(무한 스크롤) 조회한다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달한다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/pocket/{pocketId}/feed")
+    @Permission
+    public ResponseEntity<PinDTO.PinDetailCursorListResponse> getPinFeedByPocket(@AuthUser Users user, @Parameter(description = "포켓의 ID") @PathVariable Long pocketId,
+                                                                                @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+                                                                                @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+        PinDTO.PinDetailCursorListResponse response = pinService.getPinFeedByPocket(pocketId, cursor, size);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = PinDTO.PinDetailListResponse.class)))})
+    @Operation(summary = "지도 영역 내 핀 조회", description = "특정 포켓에 속한 핀 중 지도 화면(경위도 사각 영역) 안에 있는 핀을 조회한다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/pocket/{pocketId}/boundary")
+    @Permission
+    public ResponseEntity<PinDTO.PinDetailListResponse> getAllPinInBoundary(@AuthUser Users user, @Parameter(description = "포켓의 ID") @PathVariable Long pocketId, @Valid PinDTO.PinBoundarySearchRequest request) {
+        PinDTO.PinDetailListResponse response = pinService.getAllPinsInBoundary(pocketId, request);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = PinDTO.PinDetailListResponse.class)))})
+    @Operation(summary = "반경 내 핀 조회", description = "특정 포켓에 속한 핀 중 중심 좌표로부터 N 미터 이내에 있는 핀을 조회한다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/pocket/{pocketId}/nearby")
+    @Permission
+    public ResponseEntity<PinDTO.PinDetailListResponse> getAllPinWithinDistance(@AuthUser Users user, @Parameter(description = "포켓의 ID") @PathVariable Long pocketId, @Valid PinDTO.PinDistanceSearchRequest request) {
+        PinDTO.PinDetailListResponse response = pinService.getAllPinsWithinDistance(pocketId, request);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = PinDTO.PinClusterListResponse.class)))})
+    @Operation(summary = "지도 영역 내 핀 클러스터 조회", description = "특정 포켓에 속한 핀을 줌 레벨의 지도 타일 격자로 묶어 클러스터(개수, 중심 좌표, 샘플 핀 ID)로 조회한다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/pocket/{pocketId}/cluster")
+    @Permission
+    public ResponseEntity<PinDTO.PinClusterListResponse> getPinClusters(@AuthUser Users user, @Parameter(description = "포켓의 ID") @PathVariable Long pocketId, @Valid PinDTO.PinClusterRequest request) {
+        PinDTO.PinClusterListResponse response = pinClusterService.getPinClusters(pocketId, request);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = PinDTO.PinDetailResponse.class)))})
     @Operation(summary = "특정 핀 상세 정보 조회", description = "특정 핀의 상세 정보를 조회한다.")
     @SecurityRequirement(name = "Bearer Authentication")
@@ -73,6 +131,28 @@ public class PinController {
         return new ResponseEntity<>(pinList, HttpStatus.OK);
     }
 
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = PinDTO.PinDetailCursorListResponse.class)))})
+    @Operation(summary = "자신이 생성한 핀 피드 조회", description = "자신이 생성한 핀을 최신 순으로 커서 기반(무한 스크롤) 조회한다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달한다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/my/feed")
+    @Permission
+    public ResponseEntity<PinDTO.PinDetailCursorListResponse> getPinFeedByMe(@AuthUser Users user,
+                                                                            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+                                                                            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+        PinDTO.PinDetailCursorListResponse response = pinService.getPinFeedByMe(user, cursor, size);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공 (한 줄에 핀 하나)", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = PinDTO.PinDetailResponse.class)))})
+    @Operation(summary = "자신이 생성한 핀 전체 스트리밍 조회", description = "자신이 생성한 모든 핀의 상세 정보를 최신 순으로 NDJSON 형식으로 나누어 전송한다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping(value = "/my/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Permission
+    public ResponseEntity<StreamingResponseBody> streamAllPinByMe(@AuthUser Users user) {
+        StreamingResponseBody body = outputStream -> pinService.streamAllPinByMe(user, outputStream);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = PinDTO.PinDetailResponse.class)))})
     @Operation(summary = "핀 수정", description = "특정 핀을 위치 정보, 사진 등을 수정한다.")
     @SecurityRequirement(name = "Bearer Authentication")
@@ -1,17 +1,32 @@
 package com.project.domain.pin.dto;
 
+import com.project.common.entity.CursorPagingResponse;
 import com.project.common.entity.PagingResponse;
+import com.project.common.utils.CursorUtils;
 import com.project.domain.comment.dto.PictureCommentDTO;
 import com.project.domain.comment.dto.PinCommentDTO;
+import com.project.domain.comment.entity.PictureComment;
+import com.project.domain.comment.entity.PinComment;
 import com.project.domain.location.dto.LocationDTO;
+import com.project.domain.location.dto.PointDTO;
 import com.project.domain.picture.entity.Picture;
 import com.project.domain.pin.entity.Pin;
+import com.project.domain.pintag.entity.PinTag;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.querydsl.core.annotations.QueryProjection;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Point;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -44,6 +59,124 @@ public class PinDTO {
     }
 
     @Data
+    public static class PinBoundarySearchRequest {
+        @NotNull(message = "최소 경도 값이 필요합니다.")
+        private Double minLongitude;
+        @NotNull(message = "최소 위도 값이 필요합니다.")
+        private Double minLatitude;
+        @NotNull(message = "최대 경도 값이 필요합니다.")
+        private Double maxLongitude;
+        @NotNull(message = "최대 위도 값이 필요합니다.")
+        private Double maxLatitude;
+
+        public Envelope toEnvelope() {
+            return new Envelope(minLongitude, maxLongitude, minLatitude, maxLatitude);
+        }
+    }
+
+    @Data
+    public static class PinDistanceSearchRequest {
+        @NotNull(message = "경도 값이 필요합니다.")
+        private Double longitude;
+        @NotNull(message = "위도 값이 필요합니다.")
+        private Double latitude;
+        @NotNull(message = "검색 반경(m) 값이 필요합니다.")
+        @Positive(message = "검색 반경(m)은 0보다 커야 합니다.")
+        private Double distance;
+
+        public Point toCenter() {
+            return PointDTO.toPoint(new PointDTO(longitude, latitude));
+        }
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class PinClusterRequest extends PinBoundarySearchRequest {
+        @NotNull(message = "줌 레벨 값이 필요합니다.")
+        @Min(value = 0, message = "줌 레벨은 0 이상이어야 합니다.")
+        @Max(value = 20, message = "줌 레벨은 20 이하여야 합니다.")
+        private Integer zoom;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PinClusterResponse {
+        private Integer count;
+        private PointDTO centroid;
+        private List<Long> samplePinIds;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class PinClusterListResponse {
+        private Integer zoom;
+        private List<PinClusterResponse> clusterList;
+    }
+
+    @Data
+    public static class PinPointResponse {
+        private Long pinId;
+        private Double longitude;
+        private Double latitude;
+
+        @QueryProjection
+        public PinPointResponse(Long pinId, Point point) {
+            this.pinId = pinId;
+            this.longitude = point.getX();
+            this.latitude = point.getY();
+        }
+    }
+
+    // 핀 목록 조회 시 선택적으로 포함할 수 있는 무거운 항목
+    public enum PinExpand {
+        PICTURES, TAGS, COMMENTS
+    }
+
+    /*
+     * 목록 화면용 핀 요약 정보. 썸네일, 이름, 좌표, 개수만 포함하며
+     * 사진/태그/댓글은 expand 로 요청한 경우에만 채워진다.
+     */
+    @Data
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class PinSummaryResponse {
+        private Long id;
+        private String name;
+        private PointDTO point;
+        private String thumbnailUrl;
+        private Integer pictureCount;
+        private Integer commentCount;
+        private LocalDateTime createdAt;
+
+        private List<PinWithDistinctPictureResponse> pictureList;
+        private List<String> tags;
+        private PinCommentDTO.PinCommentListResponse commentList;
+
+        @QueryProjection
+        public PinSummaryResponse(Long id, String name, Point point, String thumbnailUrl, Integer pictureCount, Integer commentCount, LocalDateTime createdAt) {
+            this.id = id;
+            this.name = name;
+            this.point = new PointDTO(point.getX(), point.getY());
+            this.thumbnailUrl = thumbnailUrl;
+            this.pictureCount = pictureCount;
+            this.commentCount = commentCount;
+            this.createdAt = createdAt;
+        }
+    }
+
+    @Data
+    public static class PinSummaryListResponse {
+        private List<PinSummaryResponse> pinSummaryResponseList;
+        private PagingResponse pagingResponse;
+
+        public PinSummaryListResponse(Page<PinSummaryResponse> page) {
+            this.pinSummaryResponseList = page.getContent();
+            this.pagingResponse = new PagingResponse(page);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
     public static class PinDetailResponse {
         private Long id;
         private List<PinDTO.PinWithDistinctPictureResponse> pictureList;
@@ -60,13 +193,26 @@ public class PinDTO {
             this.commentList = new PinCommentDTO.PinCommentListResponse(pin.getCommentList().stream().map(PinCommentDTO.PinCommentDetailResponse::new).collect(Collectors.toList()));
             this.location = new LocationDTO(pin.getLocation());
             this.tags = pin.getPinTags().stream().map((pinTag -> pinTag.getTag().getName())).toList();
-            this.commentCount = pin.getCommentList().size();
+            this.commentCount = pin.getCommentCount();
+            this.createdAt = pin.getCreatedAt();
+            this.updatedAt = pin.getModifiedAt();
+        }
+
+        // 연관 엔티티를 미리 일괄 조회한 경우, 지연 로딩 없이 응답을 만든다.
+        public PinDetailResponse(Pin pin, List<PinWithDistinctPictureResponse> pictureList, List<PinTag> pinTags, List<PinComment> comments) {
+            this.id = pin.getId();
+            this.pictureList = pictureList;
+            this.commentList = new PinCommentDTO.PinCommentListResponse(comments.stream().map(PinCommentDTO.PinCommentDetailResponse::new).collect(Collectors.toList()));
+            this.location = new LocationDTO(pin.getLocation());
+            this.tags = pinTags.stream().map((pinTag -> pinTag.getTag().getName())).toList();
+            this.commentCount = pin.getCommentCount();
             this.createdAt = pin.getCreatedAt();
             this.updatedAt = pin.getModifiedAt();
         }
     }
 
     @Data
+    @NoArgsConstructor
     public static class PinDetailListResponse {
         private List<PinDetailResponse> pinDetailResponseList;
         private PagingResponse pagingResponse;
@@ -75,16 +221,37 @@ public class PinDTO {
             this.pinDetailResponseList = pinDetailResponseList;
         }
 
-        public PinDetailListResponse(List<PinDetailResponse> pinDetailListResponse, Page page){
+        public PinDetailListResponse(List<PinDetailResponse> pinDetailResponseList, Page page){
             this.pinDetailResponseList = pinDetailResponseList;
             this.pagingResponse = new PagingResponse(page);
         }
     }
 
     @Data
+    public static class PinDetailCursorListResponse {
+        private List<PinDetailResponse> pinDetailResponseList;
+        private CursorPagingResponse pagingResponse;
+
+        public PinDetailCursorListResponse(Slice<PinDetailResponse> slice) {
+            this.pinDetailResponseList = slice.getContent();
+
+            String nextCursor = null;
+            if (slice.hasNext()) {
+                PinDetailResponse last = slice.getContent().get(slice.getNumberOfElements() - 1);
+                nextCursor = CursorUtils.encode(last.getCreatedAt(), last.getId());
+            }
+            this.pagingResponse = new CursorPagingResponse(nextCursor, slice.getSize(), slice.hasNext());
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
     public static class PinWithDistinctPictureResponse {
         private Long id;
         private String uri;
+        // 축소본이 아직 없으면 원본 uri 로 채운다.
+        private String thumbnailUri;
+        private String mediumUri;
         private Long pinId;
         private String pinName;
         private String originalName;
@@ -96,11 +263,27 @@ public class PinDTO {
         public PinWithDistinctPictureResponse(Picture picture) {
             this.id = picture.getId();
             this.uri = picture.getUrl();
+            this.thumbnailUri = picture.getThumbnailUrl() != null ? picture.getThumbnailUrl() : picture.getUrl();
+            this.mediumUri = picture.getMediumUrl() != null ? picture.getMediumUrl() : picture.getUrl();
             this.pinId = picture.getPin().getId();
             this.pinName = picture.getPin().getLocation().getName();
             this.originalName = picture.getOriginalName();
             this.pictureCommentList = new PictureCommentDTO.PictureCommentListResponse(picture.getCommentList().stream().map(PictureCommentDTO.PictureCommentDetailResponse::new).collect(Collectors.toList()));
-            this.pictureCommentCount = picture.getCommentList().size();
+            this.pictureCommentCount = picture.getCommentCount();
+            this.createdAt = picture.getCreatedAt();
+            this.updatedAt = picture.getModifiedAt();
+        }
+
+        public PinWithDistinctPictureResponse(Picture picture, List<PictureComment> comments) {
+            this.id = picture.getId();
+            this.uri = picture.getUrl();
+            this.thumbnailUri = picture.getThumbnailUrl() != null ? picture.getThumbnailUrl() : picture.getUrl();
+            this.mediumUri = picture.getMediumUrl() != null ? picture.getMediumUrl() : picture.getUrl();
+            this.pinId = picture.getPin().getId();
+            this.pinName = picture.getPin().getLocation().getName();
+            this.originalName = picture.getOriginalName();
+            this.pictureCommentList = new PictureCommentDTO.PictureCommentListResponse(comments.stream().map(PictureCommentDTO.PictureCommentDetailResponse::new).collect(Collectors.toList()));
+            this.pictureCommentCount = picture.getCommentCount();
             this.createdAt = picture.getCreatedAt();
             this.updatedAt = picture.getModifiedAt();
         }
@@ -16,7 +16,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "pin")
+@Table(name = "pin", indexes = {
+        @Index(name = "idx_pin_pocket_created", columnList = "pocket_id, created_at, id"),
+        @Index(name = "idx_pin_user_created", columnList = "user_id, created_at, id")
+})
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -49,6 +52,33 @@ public class Pin extends BaseTimeEntity {
     @Builder.Default
     private List<PinComment> commentList = new ArrayList<>();
 
+    // PinRepositoryCustom.updatePictureCount / updateCommentCount 로만 갱신한다.
+    @Column(name = "picture_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer pictureCount = 0;
+
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer commentCount = 0;
+
+    // 마지막으로 발급한 댓글 순서 번호. PinRepository.nextCommentOrder 로만 증가시킨다.
+    @Column(name = "last_comment_order", nullable = false, updatable = false)
+    @Builder.Default
+    private Long lastCommentOrder = 0L;
+
+    @PrePersist
+    private void initCount() {
+        this.pictureCount = getPictures().size();
+    }
+
+    public void applyPictureCountDelta(int delta) {
+        this.pictureCount += delta;
+    }
+
+    public void applyCommentCountDelta(int delta) {
+        this.commentCount += delta;
+    }
+
     public void setPocket(Pocket pocket) {
         this.pocket = pocket;
     }
@@ -1,10 +1,54 @@
 package com.project.domain.pin.repository;
 
+import com.project.common.utils.CursorUtils;
+import com.project.domain.comment.dto.PinCommentDTO;
+import com.project.domain.pin.dto.PinDTO;
 import com.project.domain.pin.entity.Pin;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Point;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface PinRepositoryCustom {
     Page<Pin> findAllByPocketId(Long pocketId, Pageable pageable);
 
+    Page<PinDTO.PinDetailResponse> findAllPinDetailsByPocketId(Long pocketId, Pageable pageable);
+
+    Page<PinDTO.PinSummaryResponse> findAllPinSummariesByPocketId(Long pocketId, Pageable pageable);
+
+    Slice<PinDTO.PinDetailResponse> findAllPinDetailsByPocketIdWithCursor(Long pocketId, CursorUtils.Cursor cursor, int size);
+
+    Slice<PinDTO.PinDetailResponse> findAllPinDetailsByUserIdWithCursor(Long userId, CursorUtils.Cursor cursor, int size);
+
+    Stream<Long> streamPinIdsByUserId(Long userId);
+
+    List<PinDTO.PinDetailResponse> findAllPinDetailsByIds(List<Long> pinIds);
+
+    Map<Long, List<PinDTO.PinWithDistinctPictureResponse>> findPictureResponsesByPinIds(List<Long> pinIds);
+
+    Map<Long, List<String>> findTagNamesByPinIds(List<Long> pinIds);
+
+    Map<Long, List<PinCommentDTO.PinCommentDetailResponse>> findCommentResponsesByPinIds(List<Long> pinIds);
+
+    List<Long> findPinIdsByPocketIdInBoundary(Long pocketId, Envelope boundary);
+
+    List<Long> findPinIdsByPocketIdWithinDistance(Long pocketId, Point center, double distanceMeters);
+
+    List<Long> findPinIdsByUserId(Long userId);
+
+    List<PinDTO.PinPointResponse> findAllPinPointsByPocketIdInBoundary(Long pocketId, Envelope boundary);
+
+    void updatePictureCount(Pin target, int delta);
+
+    void updateCommentCount(Pin target, int delta);
+
+    Long nextCommentOrder(Long pinId);
+
+    long reconcileCounts();
+
 }
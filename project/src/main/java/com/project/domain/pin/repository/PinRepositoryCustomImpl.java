@@ -1,26 +1,68 @@
 package com.project.domain.pin.repository;
 
+import com.project.common.utils.CursorUtils;
+import com.project.common.utils.GeomUtils;
+import com.project.domain.comment.entity.PictureComment;
+import com.project.domain.comment.dto.PinCommentDTO;
+import com.project.domain.comment.entity.PinComment;
+import com.project.domain.picture.entity.Picture;
+import com.project.domain.pin.dto.PinDTO;
+import com.project.domain.picture.entity.QPicture;
+import com.project.domain.pin.dto.QPinDTO_PinPointResponse;
+import com.project.domain.pin.dto.QPinDTO_PinSummaryResponse;
 import com.project.domain.pin.entity.Pin;
+import com.project.domain.pintag.entity.PinTag;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Point;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static com.project.domain.comment.entity.QPictureComment.pictureComment;
+import static com.project.domain.comment.entity.QPinComment.pinComment;
+import static com.project.domain.location.entity.QLocation.location;
+import static com.project.domain.picture.entity.QPicture.picture;
 import static com.project.domain.pin.entity.QPin.pin;
-import static com.project.domain.pocket.entity.QPocket.pocket;
+import static com.project.domain.pintag.entity.QPinTag.pinTag;
+import static com.project.domain.tag.entity.QTag.tag;
+import static com.project.domain.users.entity.QUsers.users;
 
 
 @Repository
 @RequiredArgsConstructor
 public class PinRepositoryCustomImpl implements PinRepositoryCustom {
 
+    private static final int STREAM_FETCH_SIZE = 500;
+
     private final JPAQueryFactory jpaQueryFactory;
+    private final DataSource dataSource;
+
+    private Boolean spatialFunctionSupported;
 
     @Override
     public Page<Pin> findAllByPocketId(Long pocketId, Pageable pageable) {
@@ -41,7 +83,356 @@ public class PinRepositoryCustomImpl implements PinRepositoryCustom {
 
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PinDTO.PinDetailResponse> findAllPinDetailsByPocketId(Long pocketId, Pageable pageable) {
+        // 페이지에 해당하는 핀 ID 만 먼저 조회한다.
+        List<Long> pinIds = jpaQueryFactory
+                .select(pin.id)
+                .from(pin)
+                .where(isPocketIdEquals(pocketId))
+                .orderBy(pin.createdAt.desc(), pin.id.desc()) // 최신 순 정렬
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(pin.count())
+                .from(pin)
+                .where(isPocketIdEquals(pocketId));
+
+        return PageableExecutionUtils.getPage(findAllPinDetailsByIds(pinIds), pageable, countQuery::fetchOne);
+    }
+
+    /*
+     * 목록 화면용 요약 조회. 연관 컬렉션을 로딩하지 않고 썸네일은 서브쿼리로, 개수는 카운터 컬럼으로 한 번에 조회한다.
+     */
+    @Override
+    public Page<PinDTO.PinSummaryResponse> findAllPinSummariesByPocketId(Long pocketId, Pageable pageable) {
+        QPicture thumbnail = new QPicture("thumbnail");
+
+        List<PinDTO.PinSummaryResponse> content = jpaQueryFactory
+                .select(new QPinDTO_PinSummaryResponse(
+                        pin.id,
+                        location.name,
+                        location.point,
+                        JPAExpressions.select(picture.thumbnailUrl.coalesce(picture.url)).from(picture)
+                                .where(picture.id.eq(JPAExpressions.select(thumbnail.id.min()).from(thumbnail).where(thumbnail.pin.id.eq(pin.id)))),
+                        pin.pictureCount,
+                        pin.commentCount,
+                        pin.createdAt))
+                .from(pin)
+                .innerJoin(pin.location, location)
+                .where(isPocketIdEquals(pocketId))
+                .orderBy(pin.createdAt.desc(), pin.id.desc()) // 최신 순 정렬
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 위치가 없는 핀은 목록에 나오지 않으므로, 전체 개수도 같은 조인으로 센다.
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(pin.count())
+                .from(pin)
+                .innerJoin(pin.location, location)
+                .where(isPocketIdEquals(pocketId));
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /*
+     * (createdAt, id) 키셋 페이지네이션. OFFSET 과 COUNT 쿼리 없이 커서 이후의 핀을 조회하므로 페이지 깊이와 무관하게 비용이 일정하다.
+     * 다음 페이지 존재 여부는 size + 1 개를 조회하여 판단한다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<PinDTO.PinDetailResponse> findAllPinDetailsByPocketIdWithCursor(Long pocketId, CursorUtils.Cursor cursor, int size) {
+        return findPinDetailSliceWithCursor(isPocketIdEquals(pocketId), cursor, size);
+    }
+
+    // 유저가 생성한 핀을 최신 순으로 커서 기반 조회한다. (user_id, created_at, id) 인덱스를 사용한다.
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<PinDTO.PinDetailResponse> findAllPinDetailsByUserIdWithCursor(Long userId, CursorUtils.Cursor cursor, int size) {
+        return findPinDetailSliceWithCursor(pin.user.id.eq(userId), cursor, size);
+    }
+
+    /*
+     * 유저가 생성한 핀 ID 를 최신 순으로 fetch size 단위로 나누어 읽는다. 트랜잭션 안에서 사용하고, 사용 후 닫아야 한다.
+     * MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 서버 커서로 나누어 읽으며, 없으면 드라이버가 ID 전체를 버퍼링한다.
+     */
+    @Override
+    public Stream<Long> streamPinIdsByUserId(Long userId) {
+        return jpaQueryFactory
+                .select(pin.id)
+                .from(pin)
+                .where(pin.user.id.eq(userId))
+                .orderBy(pin.createdAt.desc(), pin.id.desc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .stream();
+    }
+
+    private Slice<PinDTO.PinDetailResponse> findPinDetailSliceWithCursor(BooleanExpression condition, CursorUtils.Cursor cursor, int size) {
+        List<Long> pinIds = jpaQueryFactory
+                .select(pin.id)
+                .from(pin)
+                .where(condition, isBeforeCursor(cursor))
+                .orderBy(pin.createdAt.desc(), pin.id.desc())
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = pinIds.size() > size;
+        List<Long> pagePinIds = hasNext ? pinIds.subList(0, size) : pinIds;
+
+        return new SliceImpl<>(findAllPinDetailsByIds(pagePinIds), PageRequest.ofSize(size), hasNext);
+    }
+
+    /*
+     * 핀 상세 응답에 필요한 연관 엔티티를 핀 개수와 무관하게 고정된 쿼리 수로 일괄 조회한다.
+     * (핀 + 위치, 사진, 사진 댓글 + 작성자, 핀 태그 + 태그, 핀 댓글 + 작성자)
+     * 반환 순서는 pinIds 의 순서를 따른다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PinDTO.PinDetailResponse> findAllPinDetailsByIds(List<Long> pinIds) {
+        if (pinIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Pin> pins = jpaQueryFactory
+                .selectFrom(pin)
+                .leftJoin(pin.location, location).fetchJoin()
+                .where(pin.id.in(pinIds))
+                .fetch().stream()
+                .collect(Collectors.toMap(Pin::getId, Function.identity()));
+        Map<Long, List<PinDTO.PinWithDistinctPictureResponse>> pictureResponses = fetchPictureResponses(pinIds);
+        Map<Long, List<PinTag>> pinTags = fetchPinTags(pinIds);
+        Map<Long, List<PinComment>> pinComments = fetchPinComments(pinIds);
+
+        return pinIds.stream()
+                .map(pins::get)
+                .filter(Objects::nonNull)
+                .map(p -> new PinDTO.PinDetailResponse(p,
+                        pictureResponses.getOrDefault(p.getId(), List.of()),
+                        pinTags.getOrDefault(p.getId(), List.of()),
+                        pinComments.getOrDefault(p.getId(), List.of())))
+                .toList();
+    }
+
+    // 핀 요약 목록의 expand=pictures. 사진과 사진 댓글만 조회한다.
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<PinDTO.PinWithDistinctPictureResponse>> findPictureResponsesByPinIds(List<Long> pinIds) {
+        return pinIds.isEmpty() ? Map.of() : fetchPictureResponses(pinIds);
+    }
+
+    // 핀 요약 목록의 expand=tags. 핀 태그 + 태그만 조회한다.
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<String>> findTagNamesByPinIds(List<Long> pinIds) {
+        return pinIds.isEmpty() ? Map.of() : fetchPinTags(pinIds).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().stream().map(pt -> pt.getTag().getName()).toList()));
+    }
+
+    // 핀 요약 목록의 expand=comments. 핀 댓글 + 작성자만 조회한다.
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<PinCommentDTO.PinCommentDetailResponse>> findCommentResponsesByPinIds(List<Long> pinIds) {
+        return pinIds.isEmpty() ? Map.of() : fetchPinComments(pinIds).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().stream().map(PinCommentDTO.PinCommentDetailResponse::new).toList()));
+    }
+
+    // 사진 응답은 핀 id 와 위치 이름을 포함하므로 핀과 위치를 함께 조회한다.
+    private Map<Long, List<PinDTO.PinWithDistinctPictureResponse>> fetchPictureResponses(List<Long> pinIds) {
+        List<Picture> pictures = jpaQueryFactory
+                .selectFrom(picture)
+                .innerJoin(picture.pin, pin).fetchJoin()
+                .leftJoin(pin.location, location).fetchJoin()
+                .where(picture.pin.id.in(pinIds))
+                .orderBy(picture.id.asc())
+                .fetch();
+
+        Map<Long, List<PictureComment>> pictureComments = pictures.isEmpty() ? Map.of() : jpaQueryFactory
+                .selectFrom(pictureComment)
+                .innerJoin(pictureComment.writer, users).fetchJoin()
+                .where(pictureComment.picture.id.in(pictures.stream().map(Picture::getId).toList()))
+                .orderBy(pictureComment.id.asc())
+                .fetch().stream()
+                .collect(Collectors.groupingBy(comment -> comment.getPicture().getId()));
+
+        return pictures.stream()
+                .collect(Collectors.groupingBy(p -> p.getPin().getId(), Collectors.mapping(
+                        p -> new PinDTO.PinWithDistinctPictureResponse(p, pictureComments.getOrDefault(p.getId(), List.of())),
+                        Collectors.toList())));
+    }
+
+    private Map<Long, List<PinTag>> fetchPinTags(List<Long> pinIds) {
+        return jpaQueryFactory
+                .selectFrom(pinTag)
+                .innerJoin(pinTag.tag, tag).fetchJoin()
+                .where(pinTag.pin.id.in(pinIds))
+                .orderBy(pinTag.id.asc())
+                .fetch().stream()
+                .collect(Collectors.groupingBy(pt -> pt.getPin().getId()));
+    }
+
+    private Map<Long, List<PinComment>> fetchPinComments(List<Long> pinIds) {
+        return jpaQueryFactory
+                .selectFrom(pinComment)
+                .innerJoin(pinComment.writer, users).fetchJoin()
+                .where(pinComment.pin.id.in(pinIds))
+                .orderBy(pinComment.id.asc())
+                .fetch().stream()
+                .collect(Collectors.groupingBy(comment -> comment.getPin().getId()));
+    }
+
+    /*
+     * 영역/반경 검색과 내 핀 목록은 조건에 맞는 핀 ID 만 최신 순으로 조회한다.
+     * 응답에 필요한 연관 엔티티는 findAllPinDetailsByIds 로 일괄 조회하므로, 핀 엔티티를 두 번 불러오지 않는다.
+     */
+    @Override
+    public List<Long> findPinIdsByPocketIdInBoundary(Long pocketId, Envelope boundary) {
+        return jpaQueryFactory
+                .select(pin.id)
+                .from(pin)
+                .innerJoin(pin.location, location)
+                .where(isPocketIdEquals(pocketId), isPointInBoundary(pocketId, boundary))
+                .orderBy(pin.createdAt.desc(), pin.id.desc())
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findPinIdsByPocketIdWithinDistance(Long pocketId, Point center, double distanceMeters) {
+        return jpaQueryFactory
+                .select(pin.id)
+                .from(pin)
+                .innerJoin(pin.location, location)
+                .where(isPocketIdEquals(pocketId), isPointWithinDistance(pocketId, center, distanceMeters))
+                .orderBy(pin.createdAt.desc(), pin.id.desc())
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findPinIdsByUserId(Long userId) {
+        return jpaQueryFactory
+                .select(pin.id)
+                .from(pin)
+                .where(pin.user.id.eq(userId))
+                .orderBy(pin.createdAt.desc(), pin.id.desc())
+                .fetch();
+    }
+
+    @Override
+    public List<PinDTO.PinPointResponse> findAllPinPointsByPocketIdInBoundary(Long pocketId, Envelope boundary) {
+        // 클러스터링에는 좌표만 필요하므로 핀 엔티티 대신 (id, point) 만 조회한다.
+        return jpaQueryFactory
+                .select(new QPinDTO_PinPointResponse(pin.id, location.point))
+                .from(pin)
+                .innerJoin(pin.location, location)
+                .where(isPocketIdEquals(pocketId), isPointInBoundary(pocketId, boundary))
+                .orderBy(pin.id.desc())
+                .fetch();
+    }
+
+    @Override
+    public void updatePictureCount(Pin target, int delta) {
+        jpaQueryFactory.update(pin)
+                .set(pin.pictureCount, pin.pictureCount.add(delta))
+                .where(pin.id.eq(target.getId()))
+                .execute();
+        target.applyPictureCountDelta(delta);
+    }
+
+    @Override
+    public void updateCommentCount(Pin target, int delta) {
+        jpaQueryFactory.update(pin)
+                .set(pin.commentCount, pin.commentCount.add(delta))
+                .where(pin.id.eq(target.getId()))
+                .execute();
+        target.applyCommentCountDelta(delta);
+    }
+
+    /*
+     * 핀의 댓글 순서 번호를 1 증가시키고 그 값을 반환한다.
+     * UPDATE 가 핀 행을 트랜잭션 종료까지 잠그므로, 같은 핀에 동시에 작성된 댓글도 서로 다른 번호를 받는다.
+     */
+    @Override
+    public Long nextCommentOrder(Long pinId) {
+        jpaQueryFactory.update(pin)
+                .set(pin.lastCommentOrder, pin.lastCommentOrder.add(1L))
+                .where(pin.id.eq(pinId))
+                .execute();
+        return jpaQueryFactory
+                .select(pin.lastCommentOrder)
+                .from(pin)
+                .where(pin.id.eq(pinId))
+                .fetchOne();
+    }
+
+    // 실제 개수와 다른 핀만 다시 계산하여 갱신하고, 갱신된 핀 수를 반환한다.
+    @Override
+    public long reconcileCounts() {
+        JPQLQuery<Integer> actualPictureCount = JPAExpressions.select(picture.count().intValue()).from(picture).where(picture.pin.id.eq(pin.id));
+        JPQLQuery<Integer> actualCommentCount = JPAExpressions.select(pinComment.count().intValue()).from(pinComment).where(pinComment.pin.id.eq(pin.id));
+
+        return jpaQueryFactory.update(pin)
+                .set(pin.pictureCount, actualPictureCount)
+                .set(pin.commentCount, actualCommentCount)
+                .where(pin.pictureCount.ne(actualPictureCount).or(pin.commentCount.ne(actualCommentCount)))
+                .execute();
+    }
+
     private BooleanExpression isPocketIdEquals(Long pocketId) {
-        return pocketId == null ? null : pocket.id.eq(pocketId);
+        return pocketId == null ? null : pin.pocket.id.eq(pocketId);
+    }
+
+    private BooleanExpression isBeforeCursor(CursorUtils.Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return pin.createdAt.lt(cursor.createdAt())
+                .or(pin.createdAt.eq(cursor.createdAt()).and(pin.id.lt(cursor.id())));
+    }
+
+    private BooleanExpression isPointInBoundary(Long pocketId, Envelope boundary) {
+        if (isSpatialFunctionSupported()) {
+            // location.point 의 SPATIAL INDEX 를 사용한다.
+            return Expressions.booleanTemplate("function('ST_Intersects', function('ST_GeomFromText', {0}), {1}) = true",
+                    GeomUtils.toPolygonText(boundary), location.point);
+        }
+        return pin.id.in(getSpatialIndex(pocketId).findAllInBoundary(boundary));
+    }
+
+    private BooleanExpression isPointWithinDistance(Long pocketId, Point center, double distanceMeters) {
+        if (isSpatialFunctionSupported()) {
+            // 인덱스를 타는 사각 영역으로 후보를 먼저 줄인 뒤, 실제 구면 거리로 거른다.
+            return isPointInBoundary(pocketId, GeomUtils.createEnvelope(center, distanceMeters))
+                    .and(Expressions.numberTemplate(Double.class, "function('ST_Distance_Sphere', {0}, function('ST_GeomFromText', {1}))",
+                            location.point, GeomUtils.toPointText(center)).loe(distanceMeters));
+        }
+        return pin.id.in(getSpatialIndex(pocketId).findAllWithinDistance(center, distanceMeters));
+    }
+
+    private PinSpatialIndex getSpatialIndex(Long pocketId) {
+        List<Tuple> pinPoints = jpaQueryFactory
+                .select(pin.id, location.point)
+                .from(pin)
+                .innerJoin(pin.location, location)
+                .where(isPocketIdEquals(pocketId))
+                .fetch();
+
+        return new PinSpatialIndex(pinPoints.stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(pin.id), tuple -> tuple.get(location.point))));
+    }
+
+    private boolean isSpatialFunctionSupported() {
+        if (spatialFunctionSupported == null) {
+            try {
+                String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+                spatialFunctionSupported = "MySQL".equalsIgnoreCase(productName);
+            } catch (MetaDataAccessException e) {
+                spatialFunctionSupported = false;
+            }
+        }
+        return spatialFunctionSupported;
     }
 }
@@ -0,0 +1,44 @@
+package com.project.domain.pin.repository;
+
+import com.project.common.utils.GeomUtils;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 공간 함수를 지원하지 않는 DB(H2 등)에서 사용하는 인메모리 공간 인덱스.
+ * 포켓에 속한 핀의 좌표로 STRtree 를 만들어 영역/반경 검색을 대신한다.
+ */
+class PinSpatialIndex {
+
+    private final STRtree tree = new STRtree();
+
+    PinSpatialIndex(Map<Long, Point> pinPoints) {
+        pinPoints.forEach((pinId, point) -> tree.insert(point.getEnvelopeInternal(), new PinPoint(pinId, point)));
+        tree.build();
+    }
+
+    List<Long> findAllInBoundary(Envelope boundary) {
+        return query(boundary).stream()
+                .map(PinPoint::pinId)
+                .toList();
+    }
+
+    List<Long> findAllWithinDistance(Point center, double distanceMeters) {
+        return query(GeomUtils.createEnvelope(center, distanceMeters)).stream()
+                .filter(pinPoint -> GeomUtils.getDistance(center, pinPoint.point()) <= distanceMeters)
+                .map(PinPoint::pinId)
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PinPoint> query(Envelope envelope) {
+        return (List<PinPoint>) tree.query(envelope);
+    }
+
+    private record PinPoint(Long pinId, Point point) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.project.domain.pocket.api;
+
+import com.project.domain.pocket.dto.PocketDTO;
+
+import java.util.function.Supplier;
+
+public interface PocketCacheService {
+    PocketDTO.PocketDetailInfoResponse getPocketDetail(Long pocketId, Supplier<PocketDTO.PocketDetailInfoResponse> loader);
+
+    PocketDTO.PocketWithJoinUserResponse getJoinedUsers(Long pocketId, Supplier<PocketDTO.PocketWithJoinUserResponse> loader);
+
+    void evict(Long pocketId);
+}
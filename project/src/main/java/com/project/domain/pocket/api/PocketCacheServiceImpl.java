@@ -0,0 +1,189 @@
+package com.project.domain.pocket.api;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.common.handler.RedisFormat;
+import com.project.common.handler.RedisHandler;
+import com.project.common.handler.TypedRedisHandler;
+import com.project.domain.pocket.dto.PocketDTO;
+import com.project.domain.pocket.event.PocketChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/*
+ * 포켓 상세/참여 유저 응답의 2단계 캐시.
+ * L1 : 서버 로컬 Caffeine 캐시 (짧은 TTL). 응답 DTO 는 변경 가능하므로 직렬화한 값을 보관하고 조회마다 새 객체로 복원한다.
+ * L2 : Redis 에 직렬화한 응답 (JSON 또는 Smile). 키에 포켓 버전을 포함시켜 버전 증가만으로 무효화한다.
+ * 포켓 변경 이벤트가 커밋되면 버전을 올리고, Pub/Sub 으로 다른 서버의 L1 도 비운다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PocketCacheServiceImpl implements PocketCacheService, MessageListener {
+
+    private final RedisHandler redisHandler;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final String POCKET_VERSION_KEY_PREFIX = "pocket-cache:version:";
+    private static final String POCKET_DETAIL_KEY_PREFIX = "pocket-cache:detail:";
+    private static final String POCKET_MEMBER_KEY_PREFIX = "pocket-cache:member:";
+    private static final String POCKET_EVICT_CHANNEL = "pocket-cache:evict";
+    private static final long REDIS_CACHE_TIMEOUT = 1000L * 60 * 10; // 10분
+    private static final Duration LOCAL_CACHE_TIMEOUT = Duration.ofSeconds(30);
+    private static final long LOCAL_CACHE_MAXIMUM_SIZE = 1_000;
+
+    private final Cache<String, byte[]> localCache = Caffeine.newBuilder()
+            .maximumSize(LOCAL_CACHE_MAXIMUM_SIZE)
+            .expireAfterWrite(LOCAL_CACHE_TIMEOUT)
+            .build();
+
+    // 무효화 메시지로 전달받은 포켓별 최신 버전. 이보다 오래된 버전으로 조회한 값은 L1 에 넣지 않는다.
+    private final Cache<Long, Long> latestVersions = Caffeine.newBuilder()
+            .maximumSize(LOCAL_CACHE_MAXIMUM_SIZE * 10)
+            .expireAfterWrite(LOCAL_CACHE_TIMEOUT)
+            .build();
+
+    @Value("${pinnit.pocket-cache.format:SMILE}")
+    private RedisFormat redisFormat;
+
+    private TypedRedisHandler<PocketDTO.PocketDetailInfoResponse> pocketDetailCache;
+    private TypedRedisHandler<PocketDTO.PocketWithJoinUserResponse> pocketMemberCache;
+
+    // 캐시 미스일 때만 DB 커넥션을 사용하도록, 조회는 별도의 읽기 전용 트랜잭션에서 실행한다.
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        pocketDetailCache = redisHandler.typed(PocketDTO.PocketDetailInfoResponse.class, redisFormat);
+        pocketMemberCache = redisHandler.typed(PocketDTO.PocketWithJoinUserResponse.class, redisFormat);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(POCKET_EVICT_CHANNEL));
+    }
+
+    @Override
+    public PocketDTO.PocketDetailInfoResponse getPocketDetail(Long pocketId, Supplier<PocketDTO.PocketDetailInfoResponse> loader) {
+        return get(POCKET_DETAIL_KEY_PREFIX, pocketId, pocketDetailCache, loader);
+    }
+
+    @Override
+    public PocketDTO.PocketWithJoinUserResponse getJoinedUsers(Long pocketId, Supplier<PocketDTO.PocketWithJoinUserResponse> loader) {
+        return get(POCKET_MEMBER_KEY_PREFIX, pocketId, pocketMemberCache, loader);
+    }
+
+    @Override
+    public void evict(Long pocketId) {
+        Long version = redisHandler.increment(POCKET_VERSION_KEY_PREFIX + pocketId);
+        evictLocal(pocketId, version);
+        redisHandler.publish(POCKET_EVICT_CHANNEL, pocketId + ":" + version);
+        log.info("Pocket cache evicted. pocketId : {}, version : {}", pocketId, version);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPocketChanged(PocketChangedEvent event) {
+        try {
+            evict(event.pocketId());
+        } catch (DataAccessException e) {
+            // 무효화에 실패해도 L1/L2 TTL 이후에는 최신 데이터가 조회된다.
+            log.error("Pocket cache evict failed. pocketId : {}, {}", event.pocketId(), e.getMessage());
+        }
+    }
+
+    // 다른 서버(자신 포함)에서 발행한 무효화 메시지. body = "{pocketId}:{version}"
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            String[] values = body.split(":");
+            evictLocal(Long.parseLong(values[0]), Long.parseLong(values[1]));
+        } catch (RuntimeException e) {
+            log.warn("Invalid pocket cache evict message : {}", body);
+        }
+    }
+
+    private <T> T get(String keyPrefix, Long pocketId, TypedRedisHandler<T> redisCache, Supplier<T> loader) {
+        byte[] local = localCache.getIfPresent(keyPrefix + pocketId);
+        if (local != null) {
+            T value = read(redisCache, local);
+            if (value != null) {
+                return value;
+            }
+        }
+
+        long version;
+        String redisKey;
+        try {
+            version = getVersion(pocketId);
+            redisKey = keyPrefix + pocketId + ":" + version;
+            byte[] cached = redisCache.getRaw(redisKey);
+            T value = read(redisCache, cached);
+            if (value != null) {
+                putLocal(keyPrefix, pocketId, version, cached);
+                return value;
+            }
+        } catch (DataAccessException e) {
+            // Redis 장애 시에도 조회는 DB 로 처리한다.
+            log.warn("Pocket cache read failed. pocketId : {}, {}", pocketId, e.getMessage());
+            return readOnlyTransaction.execute(status -> loader.get());
+        }
+
+        T value = readOnlyTransaction.execute(status -> loader.get());
+        byte[] serialized = redisCache.serialize(value);
+        try {
+            redisCache.setRaw(redisKey, serialized, REDIS_CACHE_TIMEOUT);
+        } catch (DataAccessException e) {
+            log.warn("Pocket cache write failed. pocketId : {}, {}", pocketId, e.getMessage());
+        }
+        putLocal(keyPrefix, pocketId, version, serialized);
+        return value;
+    }
+
+    private long getVersion(Long pocketId) {
+        String version = redisHandler.getValues(POCKET_VERSION_KEY_PREFIX + pocketId);
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    private void putLocal(String keyPrefix, Long pocketId, long version, byte[] value) {
+        Long latestVersion = latestVersions.getIfPresent(pocketId);
+        if (latestVersion == null || latestVersion <= version) {
+            localCache.put(keyPrefix + pocketId, value);
+        }
+    }
+
+    private void evictLocal(Long pocketId, Long version) {
+        latestVersions.asMap().merge(pocketId, version, Math::max);
+        localCache.invalidate(POCKET_DETAIL_KEY_PREFIX + pocketId);
+        localCache.invalidate(POCKET_MEMBER_KEY_PREFIX + pocketId);
+    }
+
+    // 응답 구조나 직렬화 방식이 바뀌어 역직렬화할 수 없는 캐시는 없는 것으로 취급하고 다시 조회한다.
+    private <T> T read(TypedRedisHandler<T> redisCache, byte[] value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return redisCache.deserialize(value);
+        } catch (SerializationException e) {
+            log.warn("Read pocket cache failed. {}", e.getMessage());
+            return null;
+        }
+    }
+}
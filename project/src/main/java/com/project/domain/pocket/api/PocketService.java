@@ -4,12 +4,16 @@ import com.project.domain.pocket.dto.PocketDTO;
 import com.project.domain.users.entity.Users;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 public interface PocketService {
 
     PocketDTO.PocketSimpleInfoResponse createPocket(Users user, PocketDTO.CreatePocketRequest createPocketRequest);
 
     PocketDTO.PocketSimpleInfoListResponse getAllPocketByUser(Long userId);
 
+    PocketDTO.PocketSummaryListResponse getAllPocketSummariesByUser(Long userId, List<String> expand);
+
     PocketDTO.PocketDetailInfoResponse getPocketDetail(Long pocketId);
 
     PocketDTO.PocketWithJoinUserResponse getJoinedUserOfPocket(Long pocketId) throws Exception;
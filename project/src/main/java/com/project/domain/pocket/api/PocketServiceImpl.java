@@ -1,26 +1,37 @@
 package com.project.domain.pocket.api;
 
+import com.project.auth.AccessPolicy;
 import com.project.common.exception.BusinessLogicException;
 import com.project.common.exception.EntityNotFoundException;
 import com.project.common.exception.ErrorCode;
 import com.project.common.handler.S3Uploader;
+import com.project.common.utils.ExpandUtils;
 import com.project.domain.picture.entity.Picture;
+import com.project.domain.pin.entity.Pin;
+import com.project.domain.pin.repository.PinRepository;
 import com.project.domain.pocket.dto.PocketDTO;
 import com.project.domain.pocket.entity.Pocket;
+import com.project.domain.pocket.event.PocketChangedEvent;
 import com.project.domain.pocket.repository.PocketRepository;
 import com.project.domain.userpocket.entity.UserPocket;
+import com.project.domain.userpocket.event.MembershipChangedEvent;
 import com.project.domain.userpocket.repository.UserPocketRepository;
+import com.project.domain.users.dto.UserDTO;
 import com.project.domain.users.entity.Users;
 import com.project.domain.users.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,40 +40,51 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PocketServiceImpl implements PocketService {
 
+    private static final int MAX_POCKET_KEY_ATTEMPTS = 5;
+
     private final UserPocketRepository userPocketRepository;
     private final PocketRepository pocketRepository;
     private final UserRepository userRepository;
     private final S3Uploader s3Uploader;
+    private final PinRepository pinRepository;
+    private final PocketCacheService pocketCacheService;
+    private final AccessPolicy accessPolicy;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public PocketDTO.PocketSimpleInfoResponse createPocket(Users user, PocketDTO.CreatePocketRequest request) {
         Pocket pocket = request.toEntity();
-        pocket.setPocketKey(pocket.generatePocketKey());
+        pocket.setPocketKey(generateUniquePocketKey());
         pocket.setMaster(user);
 
         UserPocket userPocket = UserPocket.builder().user(user).activated(true).pocket(pocket).build();
         userPocket.addUserPocketToUserAndPocket(user, pocket);
 
+        Pocket saved = pocketRepository.save(pocket);
+        eventPublisher.publishEvent(new MembershipChangedEvent(user.getId(), saved.getId(), true));
+        log.info("Pocket created, pocket : {}", pocket);
+
         // 포켓 생성 시, 친구를 같이 초대하는 경우 처리
         if (request.getInvitedUserList() != null) {
-            request.getInvitedUserList().forEach((userId) -> {
-                Users u = userRepository.findById(userId).orElse(null);
-                if (u == null) {
-                    log.error("create pocket with friend, no userId : {}", userId);
-                }
-                UserPocket uc = UserPocket.builder().pocket(pocket).activated(false).user(u).build();
-                uc.addUserPocketToUserAndPocket(u, pocket);
-                log.info("create pocket with friend, userId : {}", userId);
-                userPocketRepository.save(uc);
-            });
+            addInvitations(saved, request.getInvitedUserList(), Set.of(user.getId()));
         }
-        Pocket saved = pocketRepository.save(pocket);
-        log.info("Pocket created, pocket : {}", pocket);
 
         return new PocketDTO.PocketSimpleInfoResponse(pocket);
     }
 
+    // 드물게 이미 사용 중인 키가 나오면 다시 생성한다. 동시에 같은 키가 저장되는 경우는 유니크 인덱스가 막는다.
+    private String generateUniquePocketKey() {
+        for (int attempt = 1; attempt <= MAX_POCKET_KEY_ATTEMPTS; attempt++) {
+            String pocketKey = Pocket.generatePocketKey();
+            if (!pocketRepository.existsByPocketKey(pocketKey)) {
+                return pocketKey;
+            }
+            log.warn("Pocket key collision. attempt : {}", attempt);
+        }
+        throw new BusinessLogicException("Failed to generate unique pocket key.", ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+
     @Override
     public PocketDTO.PocketSimpleInfoListResponse getAllPocketByUser(Long userId) {
         Users user = userRepository.findById(userId).orElse(null);
@@ -80,23 +102,47 @@ public class PocketServiceImpl implements PocketService {
     }
 
     @Override
-    public PocketDTO.PocketDetailInfoResponse getPocketDetail(Long pocketId) {
-        Pocket pocket = pocketRepository.findById(pocketId).orElse(null);
-        if (pocket == null) {
-            log.info("No pocket, pocketId : {}", pocketId);
-            throw new EntityNotFoundException("Group does not exists.");
+    public PocketDTO.PocketSummaryListResponse getAllPocketSummariesByUser(Long userId, List<String> expand) {
+        Set<PocketDTO.PocketExpand> expands = ExpandUtils.parse(expand, PocketDTO.PocketExpand.class);
+        List<PocketDTO.PocketSummaryResponse> summaries = pocketRepository.findAllPocketSummariesByUserId(userId);
+
+        // 요청한 경우에만 참여 유저 목록을 한 번의 쿼리로 조회하여 채운다.
+        if (expands.contains(PocketDTO.PocketExpand.MEMBERS) && !summaries.isEmpty()) {
+            Map<Long, List<UserDTO.UserSimpleInfoResponse>> members = pocketRepository
+                    .findAllActivatedUserPocketsByPocketIds(summaries.stream().map(PocketDTO.PocketSummaryResponse::getPocketId).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(up -> up.getPocket().getId(),
+                            Collectors.mapping(up -> new UserDTO.UserSimpleInfoResponse(up.getUser()), Collectors.toList())));
+            summaries.forEach(summary -> summary.setJoinedUserList(members.getOrDefault(summary.getPocketId(), List.of())));
         }
-        return new PocketDTO.PocketDetailInfoResponse(pocket);
+        return new PocketDTO.PocketSummaryListResponse(summaries);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PocketDTO.PocketDetailInfoResponse getPocketDetail(Long pocketId) {
+        return pocketCacheService.getPocketDetail(pocketId, () -> {
+            Pocket pocket = pocketRepository.findById(pocketId).orElse(null);
+            if (pocket == null) {
+                log.info("No pocket, pocketId : {}", pocketId);
+                throw new EntityNotFoundException("Group does not exists.");
+            }
+            List<Long> pinIds = pocket.getPinList().stream().map(Pin::getId).toList();
+            return new PocketDTO.PocketDetailInfoResponse(pocket, pinRepository.findAllPinDetailsByIds(pinIds));
+        });
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PocketDTO.PocketWithJoinUserResponse getJoinedUserOfPocket(Long pocketId) {
-        Pocket pocket = pocketRepository.findById(pocketId).orElse(null);
-        if (pocket == null) {
-            log.info("No pocket, pocketId : {}", pocketId);
-            throw new EntityNotFoundException("Group does not exists.");
-        }
-        return new PocketDTO.PocketWithJoinUserResponse(pocket);
+        return pocketCacheService.getJoinedUsers(pocketId, () -> {
+            Pocket pocket = pocketRepository.findById(pocketId).orElse(null);
+            if (pocket == null) {
+                log.info("No pocket, pocketId : {}", pocketId);
+                throw new EntityNotFoundException("Group does not exists.");
+            }
+            return new PocketDTO.PocketWithJoinUserResponse(pocket);
+        });
     }
 
     // 본인이 스스로 나감
@@ -120,8 +166,11 @@ public class PocketServiceImpl implements PocketService {
             pocketRepository.delete(pocket);
         } else {
             UserPocket userPocket = userPocketRepository.findByUserIdAndPocketId(user.getId(), pocket.getId()).orElseThrow();
+            decreaseUserCountIfActivated(userPocket, pocket);
             userPocket.removeUserPocketFromUserAndPocket(user, pocket);
         }
+        eventPublisher.publishEvent(new MembershipChangedEvent(user.getId(), pocketId, false));
+        eventPublisher.publishEvent(new PocketChangedEvent(pocketId));
 
         return new PocketDTO.PocketSimpleInfoResponse(pocket);
     }
@@ -135,7 +184,10 @@ public class PocketServiceImpl implements PocketService {
         // 방장 권한일 경우
         if (isMasterUser(pocket, user.getId())) {
             UserPocket userPocket = userPocketRepository.findByUserIdAndPocketId(banUserRequest.getUserId(), pocketId).orElseThrow();
+            decreaseUserCountIfActivated(userPocket, pocket);
             userPocket.removeUserPocketFromUserAndPocket(user, pocket);
+            eventPublisher.publishEvent(new MembershipChangedEvent(banUserRequest.getUserId(), pocketId, false));
+            eventPublisher.publishEvent(new PocketChangedEvent(pocketId));
         }
         return new PocketDTO.PocketSimpleInfoResponse(pocket);
     }
@@ -150,21 +202,10 @@ public class PocketServiceImpl implements PocketService {
             throw new EntityNotFoundException("Pocket does not exists");
         }
 
-        List<Long> invitedUserList = request.getInvitedUserList();
-
-        for (Long userId : invitedUserList) {
-            Users u = userRepository.findById(userId).orElse(null);
-            if (u == null) {
-                log.error("No user by userId : {}", userId);
-                throw new EntityNotFoundException("User does not exist.");
-            }
-            Optional<UserPocket> userPocket = userPocketRepository.findByUserIdAndPocketId(u.getId(), pocketId);
-            if (userPocket.isPresent()) {
-                continue;
-            }
-            UserPocket uc = UserPocket.builder().user(u).pocket(pocket).activated(false).build(); // activated = false : 수락 이전 상태
-            userPocketRepository.save(uc);
-        }
+        List<Long> invitedUserList = request.getInvitedUserList().stream().distinct().toList();
+        // 이미 참여 중이거나 초대된 유저는 건너뛴다.
+        Set<Long> joinedUserIds = new HashSet<>(userPocketRepository.findUserIdsByPocketIdAndUserIdIn(pocketId, invitedUserList));
+        addInvitations(pocket, invitedUserList, joinedUserIds);
 
         return new PocketDTO.InviteUserResponse(pocket, user);
     }
@@ -190,8 +231,13 @@ public class PocketServiceImpl implements PocketService {
         }
 
         UserPocket userPocket = userPocketRepository.findByUserIdAndPocketId(user.getId(), pocketId).orElseThrow();
-        userPocket.setActivated(userPocket.getActivated());
+        if (!Boolean.TRUE.equals(userPocket.getActivated())) {
+            pocketRepository.updateUserCount(pocket, 1);
+        }
+        userPocket.setActivated(true);
         userPocket.addUserPocketToUserAndPocket(user, pocket);
+        eventPublisher.publishEvent(new MembershipChangedEvent(user.getId(), pocketId, true));
+        eventPublisher.publishEvent(new PocketChangedEvent(pocketId));
 
         return new PocketDTO.acceptPocketInvitationResponse(user, userPocket);
     }
@@ -209,10 +255,11 @@ public class PocketServiceImpl implements PocketService {
             throw new EntityNotFoundException("User does not exist.");
         });
         // 요청을 보내는 유저가 해당 포켓에 속해있어야 초대 취소가 가능하다.
-        if (pocket.getUserPocketList().stream()
-                .filter(UserPocket::getActivated)
-                .map(UserPocket::getUser).toList().contains(user)) {
+        if (accessPolicy.isPocketMember(user.getId(), pocketId)) {
+            decreaseUserCountIfActivated(userPocket, pocket);
             userPocket.removeUserPocketFromUserAndPocket(user, pocket);
+            eventPublisher.publishEvent(new MembershipChangedEvent(cancelUserId, pocketId, false));
+            eventPublisher.publishEvent(new PocketChangedEvent(pocketId));
         }
 
         return new PocketDTO.cancelInvitePocketResponse(user, pocket);
@@ -231,9 +278,10 @@ public class PocketServiceImpl implements PocketService {
             pocket.setName(request.getPocketName());
             pocket.setDescription(request.getDescription());
             if (picture != null && !picture.isEmpty()) {
-                List<Picture> pictureList = s3Uploader.uploadAndSavePictures(Collections.singletonList(picture));
+                List<Picture> pictureList = s3Uploader.uploadAndSavePictures(Collections.singletonList(picture)).await();
                 pocket.setImageUrl(pictureList.get(0).getUrl());
             }
+            eventPublisher.publishEvent(new PocketChangedEvent(pocketId));
         } else {
             throw new BusinessLogicException("Only the manager can modify group settings.", ErrorCode.POCKET_MANAGER_ERROR);
         }
@@ -258,10 +306,11 @@ public class PocketServiceImpl implements PocketService {
             }
             log.info("Delegate manager target userId : {}", targetUser.getId());
             // 위임하려는 유저가 해당 포켓에 속해 있어야 한다.
-            if (!isUserInPocket(targetUser, pocketId)) {
+            if (!accessPolicy.isPocketMember(targetUser.getId(), pocketId)) {
                 throw new EntityNotFoundException("Delegate target user does not exist", ErrorCode.POCKET_MANAGER_ERROR);
             }
             pocket.setMaster(targetUser);
+            eventPublisher.publishEvent(new PocketChangedEvent(pocketId));
         }
         return new PocketDTO.PocketWithJoinUserResponse(pocket);
     }
@@ -276,18 +325,38 @@ public class PocketServiceImpl implements PocketService {
         return new PocketDTO.NotAcceptPocketInviteUserResponse(pocket);
     }
 
-    private boolean isMasterUser(Pocket pocket, Long userId) {
-        return pocket.getMaster().getId().equals(userId);
+    /*
+     * 초대할 유저를 한 번의 IN 쿼리로 조회하고, 초대 정보(activated = false : 수락 이전 상태)는 JDBC 배치로 저장한다.
+     * 초대 인원과 관계없이 쿼리 왕복 횟수가 일정하다.
+     */
+    private void addInvitations(Pocket pocket, List<Long> userIds, Set<Long> excludedUserIds) {
+        List<Long> targetUserIds = userIds.stream().distinct().filter(userId -> !excludedUserIds.contains(userId)).toList();
+        if (targetUserIds.isEmpty()) {
+            return;
+        }
+
+        List<Users> users = userRepository.findAllById(targetUserIds);
+        if (users.size() != targetUserIds.size()) {
+            Set<Long> foundUserIds = users.stream().map(Users::getId).collect(Collectors.toSet());
+            log.error("No user by userIds : {}", targetUserIds.stream().filter(userId -> !foundUserIds.contains(userId)).toList());
+            throw new EntityNotFoundException("User does not exist.");
+        }
+
+        List<UserPocket> invitations = users.stream()
+                .map(u -> UserPocket.builder().user(u).pocket(pocket).activated(false).build())
+                .toList();
+        pocket.getUserPocketList().addAll(invitations);
+        userPocketRepository.saveAll(invitations);
+        log.info("Users invited to pocket. pocketId : {}, userIds : {}", pocket.getId(), targetUserIds);
     }
 
-    private boolean isUserInPocket(Users user, Long pocketId) {
-        Pocket pocket = pocketRepository.findById(pocketId).orElse(null);
-        if (pocket == null) {
-            log.info("No pocket, pocketId : {}", pocketId);
-            throw new EntityNotFoundException("Pocket does not exists");
+    private void decreaseUserCountIfActivated(UserPocket userPocket, Pocket pocket) {
+        if (Boolean.TRUE.equals(userPocket.getActivated())) {
+            pocketRepository.updateUserCount(pocket, -1);
         }
+    }
 
-        return pocket.getUserPocketList().stream()
-                .map(UserPocket::getUser).toList().contains(user);
+    private boolean isMasterUser(Pocket pocket, Long userId) {
+        return pocket.getMaster().getId().equals(userId);
     }
 }
@@ -20,6 +20,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @Tag(name = "포켓 API", description = "Pocket Controller")
 @RestController
 @RequiredArgsConstructor
@@ -48,6 +50,16 @@ public class PocketController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = PocketDTO.PocketSummaryListResponse.class)))})
+    @Operation(summary = "자신이 속한 포켓 요약 목록 조회", description = "자신이 속한 포켓의 이름, 이미지, 참여 유저 수, 핀 개수만 조회한다. 참여 유저 목록은 expand=members 로 요청한 경우에만 포함된다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/my/summary")
+    @Permission
+    public ResponseEntity<PocketDTO.PocketSummaryListResponse> getAllPocketSummariesByUser(@AuthUser Users user, @Parameter(description = "추가로 포함할 항목 (members)") @RequestParam(required = false) List<String> expand) {
+        PocketDTO.PocketSummaryListResponse response = pocketService.getAllPocketSummariesByUser(user.getId(), expand);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = PocketDTO.PocketWithJoinUserResponse.class)))})
     @Operation(summary = "포켓에 속한 유저 리스트 조회", description = "특정 포켓에 속한 유저 리스트를 조회한다.")
     @SecurityRequirement(name = "Bearer Authentication")
@@ -6,6 +6,8 @@ import com.project.domain.pin.dto.PinDTO;
 import com.project.domain.userpocket.entity.UserPocket;
 import com.project.domain.users.dto.UserDTO.UserSimpleInfoResponse;
 import com.project.domain.users.entity.Users;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.querydsl.core.annotations.QueryProjection;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
@@ -46,7 +48,50 @@ public class PocketDTO {
         }
     }
 
+    // 포켓 목록 조회 시 선택적으로 포함할 수 있는 무거운 항목
+    public enum PocketExpand {
+        MEMBERS
+    }
+
+    /*
+     * 목록 화면용 포켓 요약 정보. 참여 유저 목록은 expand=members 로 요청한 경우에만 채워진다.
+     */
+    @Data
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class PocketSummaryResponse {
+        private Long pocketId;
+        private String pocketName;
+        private String pocketImageUrl;
+        private Integer joinedUserCount;
+        private Integer pinCount;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+
+        private List<UserSimpleInfoResponse> joinedUserList;
+
+        @QueryProjection
+        public PocketSummaryResponse(Long pocketId, String pocketName, String pocketImageUrl, Integer joinedUserCount, Integer pinCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+            this.pocketId = pocketId;
+            this.pocketName = pocketName;
+            this.pocketImageUrl = pocketImageUrl;
+            this.joinedUserCount = joinedUserCount;
+            this.pinCount = pinCount;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+        }
+    }
+
+    @Data
+    public static class PocketSummaryListResponse {
+        private List<PocketSummaryResponse> pocketSummaryResponseList;
+
+        public PocketSummaryListResponse(List<PocketSummaryResponse> pocketSummaryResponseList) {
+            this.pocketSummaryResponseList = pocketSummaryResponseList;
+        }
+    }
+
     @Data
+    @NoArgsConstructor
     public static class PocketDetailInfoResponse {
         private Long pocketId;
         private String pocketName;
@@ -65,9 +110,9 @@ public class PocketDTO {
             this.pocketName = pocket.getName();
             this.imageUrl = pocket.getImageUrl();
             this.description = pocket.getDescription();
-            this.userCount = pocket.getUserPocketList().size();
-            this.pinCount = pocket.getPinList().size();
-            this.pictureCount = pocket.getPinList().stream().mapToInt(pl -> pl.getPictures().size()).sum();
+            this.userCount = pocket.getUserCount();
+            this.pinCount = pocket.getPinCount();
+            this.pictureCount = pocket.getPictureCount();
             this.joinedUserList = pocket.getUserPocketList().stream().map(uc -> new UserSimpleInfoResponse(uc.getUser())).collect(Collectors.toList());
             this.pinList = new PinDTO.PinDetailListResponse(pocket.getPinList().stream()
                     .map(PinDTO.PinDetailResponse::new)
@@ -75,6 +120,21 @@ public class PocketDTO {
             this.createdAt = pocket.getCreatedAt();
             this.updatedAt = pocket.getModifiedAt();
         }
+
+        // 핀 상세 목록을 일괄 조회한 경우
+        public PocketDetailInfoResponse(Pocket pocket, List<PinDTO.PinDetailResponse> pinDetailList) {
+            this.pocketId = pocket.getId();
+            this.pocketName = pocket.getName();
+            this.imageUrl = pocket.getImageUrl();
+            this.description = pocket.getDescription();
+            this.userCount = pocket.getUserCount();
+            this.pinCount = pocket.getPinCount();
+            this.pictureCount = pocket.getPictureCount();
+            this.joinedUserList = pocket.getUserPocketList().stream().map(uc -> new UserSimpleInfoResponse(uc.getUser())).collect(Collectors.toList());
+            this.pinList = new PinDTO.PinDetailListResponse(pinDetailList);
+            this.createdAt = pocket.getCreatedAt();
+            this.updatedAt = pocket.getModifiedAt();
+        }
     }
 
     @Data
@@ -103,6 +163,7 @@ public class PocketDTO {
     }
 
     @Data
+    @NoArgsConstructor
     public static class PocketWithJoinUserResponse {
 
         private Long pocketId;
@@ -9,16 +9,20 @@ import lombok.*;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.security.SecureRandom;
 
 @Entity
-@Table(name = "pocket")
+@Table(name = "pocket", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_pocket_pocket_key", columnNames = "pocket_key")
+})
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Getter
 public class Pocket extends BaseTimeEntity {
 
+    private static final SecureRandom POCKET_KEY_RANDOM = new SecureRandom();
+
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Id
     private Long id;
@@ -45,6 +49,36 @@ public class Pocket extends BaseTimeEntity {
     @Column(name = "image_url")
     private String imageUrl;
 
+    // PocketRepositoryCustom 의 update*Count 로만 갱신한다.
+    @Column(name = "pin_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer pinCount = 0;
+
+    @Column(name = "picture_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer pictureCount = 0;
+
+    @Column(name = "user_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer userCount = 0;
+
+    @PrePersist
+    private void initCount() {
+        this.userCount = (int) getUserPocketList().stream().filter(userPocket -> Boolean.TRUE.equals(userPocket.getActivated())).count();
+    }
+
+    public void applyPinCountDelta(int delta) {
+        this.pinCount += delta;
+    }
+
+    public void applyPictureCountDelta(int delta) {
+        this.pictureCount += delta;
+    }
+
+    public void applyUserCountDelta(int delta) {
+        this.userCount += delta;
+    }
+
     public void addPin(Pin pin) {
         if (!getPinList().contains(pin)) {
             getPinList().add(pin);
@@ -78,9 +112,9 @@ public class Pocket extends BaseTimeEntity {
         this.pocketKey = key;
     }
 
-    public String generatePocketKey() {
-        Random random = new Random();
-        return random.ints(48, 122 + 1)
+    // 영문 대소문자/숫자 10자리. 중복 여부는 호출하는 쪽에서 확인하고, 유니크 인덱스가 최종적으로 보장한다.
+    public static String generatePocketKey() {
+        return POCKET_KEY_RANDOM.ints(48, 122 + 1)
                 .filter(i -> (i <= 57 || i >= 65) && (i <= 90 || i >= 97))
                 .limit(10)
                 .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
@@ -0,0 +1,8 @@
+package com.project.domain.pocket.event;
+
+/*
+ * 포켓 상세/참여 유저 응답에 포함되는 데이터(핀, 사진, 댓글, 멤버십, 포켓 정보)가 변경되었음을 알리는 도메인 이벤트.
+ * 트랜잭션 커밋 이후 포켓 캐시 무효화에 사용된다.
+ */
+public record PocketChangedEvent(Long pocketId) {
+}
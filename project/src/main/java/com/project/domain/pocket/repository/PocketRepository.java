@@ -5,4 +5,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface PocketRepository extends JpaRepository<Pocket, Long>, PocketRepositoryCustom {
 
+    boolean existsByPocketKey(String pocketKey);
+
 }
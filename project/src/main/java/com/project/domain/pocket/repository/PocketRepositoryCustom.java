@@ -1,7 +1,9 @@
 package com.project.domain.pocket.repository;
 
 
+import com.project.domain.pocket.dto.PocketDTO;
 import com.project.domain.pocket.entity.Pocket;
+import com.project.domain.userpocket.entity.UserPocket;
 import com.project.domain.users.entity.Users;
 
 import java.util.List;
@@ -12,4 +14,16 @@ public interface PocketRepositoryCustom {
 
     Pocket findPocketByKey(String key);
 
+    List<PocketDTO.PocketSummaryResponse> findAllPocketSummariesByUserId(Long userId);
+
+    List<UserPocket> findAllActivatedUserPocketsByPocketIds(List<Long> pocketIds);
+
+    void updatePinCount(Pocket target, int delta);
+
+    void updatePictureCount(Pocket target, int delta);
+
+    void updateUserCount(Pocket target, int delta);
+
+    long reconcileCounts();
+
 }
@@ -1,12 +1,20 @@
 package com.project.domain.pocket.repository;
 
+import com.project.domain.pocket.dto.PocketDTO;
+import com.project.domain.pocket.dto.QPocketDTO_PocketSummaryResponse;
 import com.project.domain.pocket.entity.Pocket;
+import com.project.domain.userpocket.entity.QUserPocket;
+import com.project.domain.userpocket.entity.UserPocket;
 import com.project.domain.users.entity.Users;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
+import static com.project.domain.picture.entity.QPicture.picture;
+import static com.project.domain.pin.entity.QPin.pin;
 import static com.project.domain.pocket.entity.QPocket.pocket;
 import static com.project.domain.userpocket.entity.QUserPocket.userPocket;
 import static com.project.domain.users.entity.QUsers.users;
@@ -38,4 +46,78 @@ public class PocketRepositoryCustomImpl implements PocketRepositoryCustom {
                 .where(pocket.pocketKey.eq(key))
                 .fetchOne();
     }
+
+    @Override
+    public List<PocketDTO.PocketSummaryResponse> findAllPocketSummariesByUserId(Long userId) {
+        return query
+                .select(new QPocketDTO_PocketSummaryResponse(
+                        pocket.id,
+                        pocket.name,
+                        pocket.imageUrl,
+                        pocket.userCount,
+                        pocket.pinCount,
+                        pocket.createdAt,
+                        pocket.modifiedAt))
+                .from(pocket)
+                .innerJoin(pocket.userPocketList, userPocket)
+                .where(userPocket.user.id.eq(userId))
+                .where(userPocket.activated.eq(true))
+                .orderBy(pocket.id.desc())
+                .fetch();
+    }
+
+    @Override
+    public List<UserPocket> findAllActivatedUserPocketsByPocketIds(List<Long> pocketIds) {
+        return query
+                .selectFrom(userPocket)
+                .innerJoin(userPocket.user, users).fetchJoin()
+                .where(userPocket.pocket.id.in(pocketIds))
+                .where(userPocket.activated.eq(true))
+                .fetch();
+    }
+
+    @Override
+    public void updatePinCount(Pocket target, int delta) {
+        query.update(pocket)
+                .set(pocket.pinCount, pocket.pinCount.add(delta))
+                .where(pocket.id.eq(target.getId()))
+                .execute();
+        target.applyPinCountDelta(delta);
+    }
+
+    @Override
+    public void updatePictureCount(Pocket target, int delta) {
+        query.update(pocket)
+                .set(pocket.pictureCount, pocket.pictureCount.add(delta))
+                .where(pocket.id.eq(target.getId()))
+                .execute();
+        target.applyPictureCountDelta(delta);
+    }
+
+    @Override
+    public void updateUserCount(Pocket target, int delta) {
+        query.update(pocket)
+                .set(pocket.userCount, pocket.userCount.add(delta))
+                .where(pocket.id.eq(target.getId()))
+                .execute();
+        target.applyUserCountDelta(delta);
+    }
+
+    // 실제 개수와 다른 포켓만 다시 계산하여 갱신하고, 갱신된 포켓 수를 반환한다.
+    @Override
+    public long reconcileCounts() {
+        QUserPocket member = new QUserPocket("member");
+        JPQLQuery<Integer> actualPinCount = JPAExpressions.select(pin.count().intValue()).from(pin).where(pin.pocket.id.eq(pocket.id));
+        JPQLQuery<Integer> actualPictureCount = JPAExpressions.select(picture.count().intValue()).from(picture).where(picture.pin.pocket.id.eq(pocket.id));
+        JPQLQuery<Integer> actualUserCount = JPAExpressions.select(member.count().intValue()).from(member).where(member.pocket.id.eq(pocket.id), member.activated.eq(true));
+
+        return query.update(pocket)
+                .set(pocket.pinCount, actualPinCount)
+                .set(pocket.pictureCount, actualPictureCount)
+                .set(pocket.userCount, actualUserCount)
+                .where(pocket.pinCount.ne(actualPinCount)
+                        .or(pocket.pictureCount.ne(actualPictureCount))
+                        .or(pocket.userCount.ne(actualUserCount)))
+                .execute();
+    }
 }
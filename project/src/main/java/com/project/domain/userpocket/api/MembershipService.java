@@ -0,0 +1,7 @@
+package com.project.domain.userpocket.api;
+
+public interface MembershipService {
+
+    // 유저가 포켓에 참여(초대 수락) 중인지 확인한다.
+    boolean isMember(Long userId, Long pocketId);
+}
@@ -0,0 +1,133 @@
+package com.project.domain.userpocket.api;
+
+import com.project.common.handler.RedisHandler;
+import com.project.domain.userpocket.event.MembershipChangedEvent;
+import com.project.domain.userpocket.repository.UserPocketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/*
+ * 유저별로 참여 중인 포켓 ID 를 Redis Set 에 두고, 참여 여부를 SISMEMBER 한 번으로 확인한다.
+ * Set 이 없으면 DB 에서 한 번 읽어 채운다. 참여 포켓이 없는 유저도 캐싱되도록 빈 값 표시(LOADED_MARKER)를 함께 넣는다.
+ * 참여 상태 변경 이벤트가 커밋되면 Set 이 있는 경우에만 추가/삭제하고, 갱신이 누락되더라도 TTL 이후에는 DB 에서 다시 읽는다.
+ * DB 를 읽는 동안 참여 상태가 바뀌면 읽은 값이 이미 오래된 값일 수 있으므로, 읽기 전에 적재 토큰을 두고
+ * 변경 이벤트가 토큰을 지우게 하여 토큰이 남아 있을 때만 Set 을 채운다.
+ * Redis 장애 시에는 인덱스를 사용하는 exists 쿼리로 확인한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class MembershipServiceImpl implements MembershipService {
+
+    private final UserPocketRepository userPocketRepository;
+    private final RedisHandler redisHandler;
+
+    private static final String MEMBERSHIP_KEY_PREFIX = "pocket-membership:";
+    private static final String LOAD_TOKEN_KEY_PREFIX = "pocket-membership-load:";
+    private static final String LOADED_MARKER = "-";
+    private static final long MEMBERSHIP_TIMEOUT = 1000L * 60 * 30; // 30분
+    private static final long LOAD_TOKEN_TIMEOUT = 1000L * 10; // 10초
+
+    // 1 : 참여 중, 0 : 참여하지 않음, -1 : 캐시 없음(적재 토큰 획득), -2 : 캐시 없음(다른 요청이 적재 중)
+    // KEYS[1] = 캐시 키, KEYS[2] = 적재 토큰 키, ARGV[1] = 포켓 ID, ARGV[2] = 적재 토큰, ARGV[3] = 토큰 TTL(ms)
+    private static final RedisScript<Long> LOOKUP_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                return 1
+            end
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            if redis.call('SET', KEYS[2], ARGV[2], 'NX', 'PX', ARGV[3]) then
+                return -1
+            end
+            return -2
+            """, Long.class);
+
+    // 적재 토큰이 그대로 남아 있을 때만(DB 를 읽는 동안 변경이 없었을 때만) 채운다.
+    // KEYS[1] = 캐시 키, KEYS[2] = 적재 토큰 키, ARGV[1] = 적재 토큰, ARGV[2] = TTL(ms), ARGV[3..] = 빈 값 표시와 포켓 ID
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[2])
+            redis.call('DEL', KEYS[1])
+            redis.call('SADD', KEYS[1], unpack(ARGV, 3))
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // 진행 중인 적재를 무효화하고, 캐시가 있는 경우에만 갱신한다. 캐시가 없을 때 추가하면 일부 포켓만 담긴 Set 이 만들어진다.
+    // KEYS[1] = 캐시 키, KEYS[2] = 적재 토큰 키, ARGV[1] = 포켓 ID, ARGV[2] = 참여 여부
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[2])
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            if ARGV[2] == '1' then
+                return redis.call('SADD', KEYS[1], ARGV[1])
+            end
+            return redis.call('SREM', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    @Override
+    public boolean isMember(Long userId, Long pocketId) {
+        List<String> keys = List.of(MEMBERSHIP_KEY_PREFIX + userId, LOAD_TOKEN_KEY_PREFIX + userId);
+        try {
+            String loadToken = UUID.randomUUID().toString();
+            Long result = redisHandler.execute(LOOKUP_SCRIPT, keys, String.valueOf(pocketId), loadToken, String.valueOf(LOAD_TOKEN_TIMEOUT));
+            if (result != null && result >= 0) {
+                return result == 1;
+            }
+            if (result == null || result != -1) {
+                // 다른 요청이 적재 중이면 기다리지 않고 DB 에서 확인한다.
+                return userPocketRepository.existsActiveMembership(userId, pocketId);
+            }
+            List<Long> pocketIds = userPocketRepository.findActivePocketIdsByUserId(userId);
+            load(keys, loadToken, pocketIds);
+            return pocketIds.contains(pocketId);
+        } catch (DataAccessException e) {
+            log.warn("Membership cache read failed. userId : {}, {}", userId, e.getMessage());
+            return userPocketRepository.existsActiveMembership(userId, pocketId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        List<String> keys = List.of(MEMBERSHIP_KEY_PREFIX + event.userId(), LOAD_TOKEN_KEY_PREFIX + event.userId());
+        try {
+            redisHandler.execute(UPDATE_SCRIPT, keys, String.valueOf(event.pocketId()), event.active() ? "1" : "0");
+        } catch (DataAccessException e) {
+            log.error("Membership cache update failed. userId : {}, pocketId : {}, {}", event.userId(), event.pocketId(), e.getMessage());
+            keys.forEach(this::evict);
+        }
+    }
+
+    private void load(List<String> keys, String loadToken, List<Long> pocketIds) {
+        String[] args = Stream.concat(
+                        Stream.of(loadToken, String.valueOf(MEMBERSHIP_TIMEOUT), LOADED_MARKER),
+                        pocketIds.stream().map(String::valueOf))
+                .toArray(String[]::new);
+        Long loaded = redisHandler.execute(LOAD_SCRIPT, keys, args);
+        if (loaded == null || loaded == 0) {
+            log.debug("Membership cache load skipped. membership changed while loading. key : {}", keys.get(0));
+        }
+    }
+
+    private void evict(String key) {
+        try {
+            redisHandler.deleteValues(key);
+        } catch (DataAccessException e) {
+            log.error("Membership cache evict failed. key : {}, {}", key, e.getMessage());
+        }
+    }
+}
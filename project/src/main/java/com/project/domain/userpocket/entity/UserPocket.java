@@ -7,14 +7,19 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "user_pocket")
+@Table(name = "user_pocket", indexes = {
+        @Index(name = "idx_user_pocket_user_pocket", columnList = "user_id, pocket_id, activated")
+})
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Getter
 public class UserPocket extends BaseTimeEntity {
 
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 INSERT 마다 키를 받아야 해서 JDBC 배치가 꺼진다. 키를 미리 할당받아 초대 시 여러 행을 한 번에 저장한다.
+    @TableGenerator(name = "user_pocket_id_generator", table = "id_generator", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "user_pocket", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_pocket_id_generator")
     @Id
     private Long id;
 
@@ -71,7 +76,6 @@ public class UserPocket extends BaseTimeEntity {
     }
 
     public void setActivated(Boolean status) {
-        status = true;
         this.activated = status;
     }
 }
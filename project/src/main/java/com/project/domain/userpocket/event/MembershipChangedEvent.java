@@ -0,0 +1,9 @@
+package com.project.domain.userpocket.event;
+
+/*
+ * 유저의 포켓 참여 상태가 바뀌었음을 알리는 도메인 이벤트. (참여/수락 : active = true, 나가기/추방/초대 취소 : active = false)
+ * 초대만 된 상태(activated = false)는 참여로 보지 않는다.
+ * 트랜잭션 커밋 이후 유저별 참여 포켓 캐시 갱신에 사용된다.
+ */
+public record MembershipChangedEvent(Long userId, Long pocketId, boolean active) {
+}
@@ -1,4 +1,13 @@
 package com.project.domain.userpocket.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface UserPocketRepositoryCustom {
+
+    List<Long> findUserIdsByPocketIdAndUserIdIn(Long pocketId, Collection<Long> userIds);
+
+    boolean existsActiveMembership(Long userId, Long pocketId);
+
+    List<Long> findActivePocketIdsByUserId(Long userId);
 }
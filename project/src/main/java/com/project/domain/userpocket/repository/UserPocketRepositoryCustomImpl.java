@@ -1,5 +1,52 @@
 package com.project.domain.userpocket.repository;
 
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.project.domain.userpocket.entity.QUserPocket.userPocket;
+
+@RequiredArgsConstructor
 public class UserPocketRepositoryCustomImpl implements UserPocketRepositoryCustom {
 
+    private final JPAQueryFactory query;
+
+    // 포켓에 이미 참여 중이거나 초대된 유저의 ID 를 한 번의 IN 쿼리로 조회한다.
+    @Override
+    public List<Long> findUserIdsByPocketIdAndUserIdIn(Long pocketId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return query
+                .select(userPocket.user.id)
+                .from(userPocket)
+                .where(userPocket.pocket.id.eq(pocketId),
+                        userPocket.user.id.in(userIds))
+                .fetch();
+    }
+
+    // (user_id, pocket_id, activated) 인덱스만으로 확인한다.
+    @Override
+    public boolean existsActiveMembership(Long userId, Long pocketId) {
+        Integer found = query
+                .selectOne()
+                .from(userPocket)
+                .where(userPocket.user.id.eq(userId),
+                        userPocket.pocket.id.eq(pocketId),
+                        userPocket.activated.isTrue())
+                .fetchFirst();
+        return found != null;
+    }
+
+    @Override
+    public List<Long> findActivePocketIdsByUserId(Long userId) {
+        return query
+                .select(userPocket.pocket.id)
+                .from(userPocket)
+                .where(userPocket.user.id.eq(userId),
+                        userPocket.activated.isTrue())
+                .fetch();
+    }
 }
@@ -1,23 +1,22 @@
 package com.project.domain.users.api;
 
-import com.project.common.exception.EntityNotFoundException;
+import com.project.auth.LoginRateLimiter;
+import com.project.auth.PasswordHasher;
 import com.project.common.exception.ErrorCode;
 import com.project.common.exception.InvalidValueException;
 import com.project.common.handler.RedisHandler;
+import com.project.common.mail.MailDispatcher;
+import com.project.common.utils.ConstraintUtils;
 import com.project.domain.users.api.interfaces.AuthService;
 import com.project.domain.users.api.interfaces.TokenService;
 import com.project.domain.users.dto.TokenDTO;
 import com.project.domain.users.dto.UserDTO;
 import com.project.domain.users.entity.Users;
 import com.project.domain.users.repository.UserRepository;
-import jakarta.mail.internet.MimeMessage;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import javax.naming.AuthenticationException;
@@ -29,9 +28,10 @@ import java.util.Random;
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LoginRateLimiter loginRateLimiter;
     private final TokenService tokenService;
-    private final JavaMailSender javaMailSender;
+    private final MailDispatcher mailDispatcher;
     private final RedisHandler redisHandler;
 
     private static final Long expireTime = 6000 * 5L;
@@ -39,18 +39,8 @@ public class AuthServiceImpl implements AuthService {
     @Override
     @Transactional
     public UserDTO.SignUpResponse signUp(UserDTO.SignUpRequest signUpRequest) {
-        if (userRepository.findByEmail(signUpRequest.getEmail()).isPresent()) {
-            log.info("Already registered email, email : {}", signUpRequest.getEmail());
-            throw new InvalidValueException("Already registered email.", ErrorCode.EMAIL_DUPLICATION);
-        }
-
-        if (userRepository.findByNickname(signUpRequest.getNickname()).isPresent()) {
-            log.info("Already registered nickname, nickname : {}", signUpRequest.getNickname());
-            throw new InvalidValueException("Already existing nickname.", ErrorCode.NICKNAME_DUPLICATION);
-        }
-
-        signUpRequest.setPassword(passwordEncoder.encode(signUpRequest.getPassword()));
-        Users user = userRepository.save(signUpRequest.toEntity());
+        signUpRequest.setPassword(passwordHasher.encode(signUpRequest.getPassword()));
+        Users user = saveNewUser(signUpRequest.toEntity());
 
         // 토큰 발급
         TokenDTO tokenDTO = tokenService.generateAccessTokenAndRefreshToken(signUpRequest.getEmail(), user);
@@ -59,22 +49,46 @@ public class AuthServiceImpl implements AuthService {
         return new UserDTO.SignUpResponse(user, tokenDTO.getAccessToken(), tokenDTO.getRefreshToken());
     }
 
+    // 이메일/닉네임 중복은 미리 조회하지 않고 유니크 인덱스 위반으로 판단한다.
+    private Users saveNewUser(Users user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintUtils.isUniqueViolationOf(e, Users.ACTIVE_EMAIL_UNIQUE_KEY)) {
+                log.info("Already registered email, email : {}", user.getEmail());
+                throw new InvalidValueException("Already registered email.", ErrorCode.EMAIL_DUPLICATION);
+            }
+            if (ConstraintUtils.isUniqueViolationOf(e, Users.ACTIVE_NICKNAME_UNIQUE_KEY)) {
+                log.info("Already registered nickname, nickname : {}", user.getNickname());
+                throw new InvalidValueException("Already existing nickname.", ErrorCode.NICKNAME_DUPLICATION);
+            }
+            throw e;
+        }
+    }
+
     @Override
-    public UserDTO.LoginResponse login(UserDTO.LoginRequest loginRequest) {
+    public UserDTO.LoginResponse login(UserDTO.LoginRequest loginRequest, String clientIp) {
         String email = loginRequest.getEmail();
         String password = loginRequest.getPassword();
 
+        // 해싱 전에 시도 횟수를 먼저 확인한다.
+        loginRateLimiter.acquire(clientIp, email);
+
         Users user = userRepository.findByEmail(email).orElseThrow(() -> {
             log.info("Login email : {} is invalid", email);
             throw new InvalidValueException("Email or password is invalid.", ErrorCode.LOGIN_INPUT_INVALID);
 
         });
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            log.info("Login password : {} is invalid", password);
+        if (!passwordHasher.matches(password, user.getPassword())) {
+            log.info("Login password for email : {} is invalid", email);
             throw new InvalidValueException("Email or password is invalid.", ErrorCode.LOGIN_INPUT_INVALID);
         }
 
+        if (passwordHasher.upgradeEncoding(user.getPassword())) {
+            upgradePassword(user, password);
+        }
+
         // 토큰 발급
         TokenDTO tokenDTO = tokenService.generateAccessTokenAndRefreshToken(email, user);
         log.info("token for userId {} re-generated, token : {}", user.getId(), tokenDTO.getAccessToken());
@@ -82,12 +96,25 @@ public class AuthServiceImpl implements AuthService {
         return new UserDTO.LoginResponse(user, tokenDTO.getAccessToken(), tokenDTO.getRefreshToken());
     }
 
+    // 해싱 설정이 바뀐 경우 로그인에 성공한 평문 비밀번호로 다시 해싱해 저장한다. 실패해도 로그인은 진행한다.
+    private void upgradePassword(Users user, String password) {
+        try {
+            user.updatePassword(passwordHasher.encode(password));
+            userRepository.save(user);
+            log.info("Password hash upgraded. userId : {}", user.getId());
+        } catch (RuntimeException e) {
+            log.warn("Password hash upgrade failed. userId : {}, cause : {}", user.getId(), e.getMessage());
+        }
+    }
+
     @Override
     public TokenDTO reissue(String refreshToken) throws AuthenticationException {
-        tokenService.verifyToken(refreshToken);
-        String email = tokenService.getUserEmail(refreshToken);
-        Users user = userRepository.findByEmail(email).orElseThrow(() -> new EntityNotFoundException("User does not exist."));
-        return tokenService.generateAccessTokenAndRefreshToken(email, user);
+        return tokenService.reissue(refreshToken);
+    }
+
+    @Override
+    public void logout(String refreshToken) throws AuthenticationException {
+        tokenService.logout(refreshToken);
     }
 
 
@@ -98,16 +125,13 @@ public class AuthServiceImpl implements AuthService {
         String authEmailKey = String.valueOf(random.nextInt(888888) + 111111);
         String email = emailRequest.getEmail();
 
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-        MimeMessage message = messageHelper(mimeMessage, email, authEmailKey);
-        log.info("Auth email message : {}", message.getSubject());
-
-        try {
-            javaMailSender.send(message);
-        } catch (MailException e) {
-            log.error("Send Auth Email failed, {}", e.getMessage());
-        }
+        mailDispatcher.checkRateLimit(email);
         redisHandler.setValuesWithTimeout(email, authEmailKey, expireTime);
+
+        // 발송은 메일 전용 스레드 풀에서 처리하고, 요청은 대기열에 넣은 뒤 바로 반환한다.
+        String emailTitle = "[Pinnit] 회원가입을 위한 인증번호 안내";
+        String text = "Pinnit 에 오신 걸 환영합니다! 회원 가입을 위한 인증번호는 " + authEmailKey + "입니다. <br/>";
+        mailDispatcher.enqueue(email, emailTitle, text);
     }
 
     @Override
@@ -116,17 +140,4 @@ public class AuthServiceImpl implements AuthService {
         log.info("validated AuthEmail, authEmailKey : {}, savedEmailKey : {}", validateEmailRequest.getAuthEmailKey(), savedAuthEmailKey);
         return validateEmailRequest.getAuthEmailKey().equals(savedAuthEmailKey);
     }
-
-    private MimeMessage messageHelper(MimeMessage mimeMessage, String email, String authEmailKey) throws Exception {
-
-        String emailTitle = "[Pinnit] 회원가입을 위한 인증번호 안내";
-        String text = "Pinnit 에 오신 걸 환영합니다! 회원 가입을 위한 인증번호는 " + authEmailKey + "입니다. <br/>";
-        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "utf-8");
-        helper.setTo(email);
-        helper.setSubject(emailTitle);
-        helper.setText(text, true);
-        helper.setFrom("pinnit@naver.com");
-
-        return mimeMessage;
-    }
 }
@@ -0,0 +1,73 @@
+package com.project.domain.users.api;
+
+import com.project.common.handler.RedisHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+ * Refresh 토큰 저장소.
+ * 로그인(기기)마다 토큰 패밀리를 만들고, 패밀리별로 현재 유효한 refresh 토큰의 id(jti) 하나만 저장한다.
+ * 재발급 시 비교-교체를 Lua 스크립트로 원자적으로 수행하며(Redis 왕복 1회),
+ * 이미 교체된 토큰이 다시 사용되면 탈취된 것으로 보고 해당 패밀리를 폐기한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final String FAMILY_KEY_PREFIX = "refresh-token:family:";
+
+    // KEYS[1] = 패밀리 키, ARGV[1] = 제시된 jti, ARGV[2] = 새 jti, ARGV[3] = 만료 시간(ms)
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if not current then return 0 end " +
+            "if current ~= ARGV[1] then redis.call('DEL', KEYS[1]) return -1 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    // 패밀리 도입 이전에 이메일 키로 저장된 토큰을 비교 후 삭제한다. KEYS[1] = 이메일, ARGV[1] = 제시된 토큰
+    private static final RedisScript<Long> CONSUME_LEGACY_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisHandler redisHandler;
+
+    public enum RotateResult {
+        ROTATED,
+        // 만료되었거나 폐기된 패밀리
+        NOT_FOUND,
+        // 이미 교체된 토큰의 재사용. 패밀리가 폐기된다.
+        REUSED
+    }
+
+    public void save(String familyId, String tokenId, long timeout) {
+        redisHandler.setValuesWithTimeout(FAMILY_KEY_PREFIX + familyId, tokenId, timeout);
+    }
+
+    public RotateResult rotate(String familyId, String tokenId, String newTokenId, long timeout) {
+        Long result = redisHandler.execute(ROTATE_SCRIPT, List.of(FAMILY_KEY_PREFIX + familyId), tokenId, newTokenId, String.valueOf(timeout));
+        if (result == null || result == 0) {
+            return RotateResult.NOT_FOUND;
+        }
+        return result > 0 ? RotateResult.ROTATED : RotateResult.REUSED;
+    }
+
+    /**
+     * 이메일 키로 저장된 이전 버전 refresh 토큰을 한 번만 사용할 수 있도록 비교와 삭제를 원자적으로 수행합니다.
+     * @return 저장된 토큰과 일치하여 삭제했으면 true
+     */
+    public boolean consumeLegacy(String email, String token) {
+        Long result = redisHandler.execute(CONSUME_LEGACY_SCRIPT, List.of(email), token);
+        return result != null && result > 0;
+    }
+
+    public void revoke(String familyId) {
+        redisHandler.deleteValues(FAMILY_KEY_PREFIX + familyId);
+    }
+}
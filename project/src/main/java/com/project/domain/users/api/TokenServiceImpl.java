@@ -1,44 +1,52 @@
 package com.project.domain.users.api;
 
+import com.project.auth.AuthPrincipal;
+import com.project.auth.JwtCodec;
 import com.project.auth.JwtConfigurer;
 import com.project.common.exception.InvalidValueException;
-import com.project.common.handler.RedisHandler;
 import com.project.domain.users.api.interfaces.TokenService;
+import com.project.domain.users.api.interfaces.UserPrincipalCache;
 import com.project.domain.users.dto.TokenDTO;
+import com.project.domain.users.dto.UserDTO;
 import com.project.domain.users.entity.Users;
-import com.project.domain.users.repository.UserRepository;
 import com.project.common.entity.Role;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
 import javax.naming.AuthenticationException;
 import java.util.Date;
+import java.util.UUID;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class TokenServiceImpl implements TokenService {
 
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
     private final JwtConfigurer jwtConfigurer;
-    private final RedisHandler redisHandler;
+    private final JwtCodec jwtCodec;
+    private final RefreshTokenStore refreshTokenStore;
 
+    // 액세스 토큰에 담아 요청마다 DB 조회 없이 사용자를 식별한다.
+    // 역할은 바뀔 수 있으므로 토큰에 담지 않고 사용자 캐시에서 읽는다.
+    private static final String USER_ID_CLAIM = "userId";
+    private static final String FAMILY_CLAIM = "fam";
+    private static final String TOKEN_TYPE_CLAIM = "type";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
 
     @Override
     public JwtBuilder generateTokenBuilderByEmailAndExpiration(String email, Long expiredAt) {
         Claims claims = Jwts.claims();
 
-        final SecretKey signingKey = Keys.hmacShaKeyFor(jwtConfigurer.getSecret().getBytes());
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiredAt);
 
-        return Jwts.builder()
-                .signWith(signingKey)
+        return jwtCodec.builder()
                 .setClaims(claims)
                 .setSubject(email)
                 .setExpiration(expiryDate)
@@ -47,50 +55,110 @@ public class TokenServiceImpl implements TokenService {
 
     @Override
     public TokenDTO generateAccessTokenAndRefreshToken(String email, Users user) {
-        JwtBuilder accessTokenBuilder = generateTokenBuilderByEmailAndExpiration(email, jwtConfigurer.getAccessTokenExp());
-        JwtBuilder refreshTokenBuilder = generateTokenBuilderByEmailAndExpiration(email, jwtConfigurer.getRefreshTokenExp());
-        String accessToken = accessTokenBuilder.setAudience(user.getEmail()).claim("type", "access").compact();
-        String refreshToken = refreshTokenBuilder.setAudience(user.getEmail()).claim("type", "refresh").compact();
+        // 로그인할 때마다 새 패밀리를 만들어 기기별로 refresh 토큰을 관리한다.
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        refreshTokenStore.save(familyId, tokenId, jwtConfigurer.getRefreshTokenExp());
 
-        redisHandler.setValuesWithTimeout(user.getEmail(), refreshToken, jwtConfigurer.getRefreshTokenExp());
-        return new TokenDTO(accessToken, refreshToken);
+        return new TokenDTO(createAccessToken(email, user.getId()), createRefreshToken(email, familyId, tokenId));
     }
 
+    /**
+     * refresh 토큰을 새 토큰으로 교체하고 access 토큰을 재발급합니다.
+     * 같은 패밀리에서 이미 교체된 토큰이 제시되면 패밀리를 폐기하여 해당 기기의 재발급을 막습니다.
+     */
     @Override
-    public void verifyToken(String refreshToken) throws AuthenticationException {
-        try {
-            Claims body = parse(refreshToken).getBody();
-            Users user = userRepository.findByEmail(body.getSubject()).orElseThrow(() -> new EntityNotFoundException("User Does not exist."));
-            String email = user.getEmail();
+    public TokenDTO reissue(String refreshToken) throws AuthenticationException {
+        Claims claims = parseRefreshToken(refreshToken);
 
-            String savedRefreshToken = redisHandler.getValues(email);
-            if (savedRefreshToken == null) {
-                throw new AuthenticationException("No RTK in redis.");
-            }
-            if (!savedRefreshToken.equals(refreshToken)) {
-                redisHandler.deleteValues(email);
+        String email = claims.getSubject();
+        UserDTO.UserPrincipal user = userPrincipalCache.getByEmail(email)
+                .filter(principal -> Boolean.TRUE.equals(principal.getActivated()))
+                .orElseThrow(() -> new AuthenticationException("User does not exist."));
+
+        String familyId = claims.get(FAMILY_CLAIM, String.class);
+        if (familyId == null || claims.getId() == null) {
+            return reissueLegacyToken(refreshToken, email, user);
+        }
+
+        String newTokenId = UUID.randomUUID().toString();
+        switch (refreshTokenStore.rotate(familyId, claims.getId(), newTokenId, jwtConfigurer.getRefreshTokenExp())) {
+            case NOT_FOUND -> throw new AuthenticationException("Refresh token expired or revoked.");
+            case REUSED -> {
+                log.warn("Refresh token reuse detected. token family revoked. email : {}, familyId : {}", email, familyId);
+                throw new AuthenticationException("Refresh token reuse detected.");
             }
+        }
+        return new TokenDTO(createAccessToken(email, user.getUserId()), createRefreshToken(email, familyId, newTokenId));
+    }
+
+    /**
+     * refresh 토큰의 패밀리를 폐기하여 해당 기기에서 로그아웃합니다.
+     * 이후 같은 패밀리의 refresh 토큰으로는 재발급할 수 없습니다.
+     */
+    @Override
+    public void logout(String refreshToken) throws AuthenticationException {
+        Claims claims = parseRefreshToken(refreshToken);
+        String familyId = claims.get(FAMILY_CLAIM, String.class);
+        if (familyId == null) {
+            String token = refreshToken.replace(jwtConfigurer.getPrefix(), "").trim();
+            refreshTokenStore.consumeLegacy(claims.getSubject(), token);
+            return;
+        }
+        refreshTokenStore.revoke(familyId);
+    }
+
+    private Claims parseRefreshToken(String refreshToken) throws AuthenticationException {
+        Claims claims;
+        try {
+            claims = parse(refreshToken).getBody();
         } catch (MalformedJwtException | ExpiredJwtException | UnsupportedJwtException | IllegalArgumentException e) {
             throw new AuthenticationException(e.getMessage());
         }
+        if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            throw new AuthenticationException("Not a refresh token.");
+        }
+        return claims;
+    }
+
+    // 패밀리 도입 이전에 이메일 키로 저장된 refresh 토큰. 한 번 확인 후 새 패밀리로 옮긴다.
+    private TokenDTO reissueLegacyToken(String refreshToken, String email, UserDTO.UserPrincipal user) throws AuthenticationException {
+        String token = refreshToken.replace(jwtConfigurer.getPrefix(), "").trim();
+        if (!refreshTokenStore.consumeLegacy(email, token)) {
+            throw new AuthenticationException("No RTK in redis.");
+        }
+
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        refreshTokenStore.save(familyId, tokenId, jwtConfigurer.getRefreshTokenExp());
+        return new TokenDTO(createAccessToken(email, user.getUserId()), createRefreshToken(email, familyId, tokenId));
+    }
+
+    private String createAccessToken(String email, Long userId) {
+        return generateTokenBuilderByEmailAndExpiration(email, jwtConfigurer.getAccessTokenExp())
+                .claim(USER_ID_CLAIM, userId)
+                .setAudience(email)
+                .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
+                .compact();
+    }
+
+    private String createRefreshToken(String email, String familyId, String tokenId) {
+        return generateTokenBuilderByEmailAndExpiration(email, jwtConfigurer.getRefreshTokenExp())
+                .setId(tokenId)
+                .claim(FAMILY_CLAIM, familyId)
+                .setAudience(email)
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .compact();
     }
 
     @Override
     public Long getUserId(String authToken) {
-        String email = parse(authToken).getBody().getSubject();
-
-        return userRepository.findByEmail(email).orElseThrow(
-                IllegalArgumentException::new
-        ).getId();
+        return getPrincipal(authToken).userId();
     }
 
     @Override
     public Role getUserRole(String authToken) {
-        String email = parse(authToken).getBody().getSubject();
-
-        return userRepository.findByEmail(email).orElseThrow(
-                IllegalArgumentException::new
-        ).getRole();
+        return getPrincipal(authToken).role();
     }
 
     @Override
@@ -98,12 +166,31 @@ public class TokenServiceImpl implements TokenService {
         return parse(authToken).getBody().getSubject();
     }
 
+    /**
+     * 토큰을 한 번 검증하여 사용자 정보를 꺼냅니다.
+     * 탈퇴 여부와 역할은 바뀔 수 있으므로 토큰 클레임 대신 사용자 캐시의 값을 사용합니다.
+     * userId 클레임이 없는 이전 버전 토큰은 이메일로 사용자를 찾습니다.
+     * refresh 토큰 등 access 토큰이 아닌 토큰은 거부합니다.
+     */
+    @Override
+    public AuthPrincipal getPrincipal(String authToken) {
+        Claims claims = parse(authToken).getBody();
+        if (!ACCESS_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            throw new AccessDeniedException("Not an access token.");
+        }
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+
+        UserDTO.UserPrincipal user = (userId != null ? userPrincipalCache.getById(userId) : userPrincipalCache.getByEmail(claims.getSubject()))
+                .filter(principal -> Boolean.TRUE.equals(principal.getActivated()))
+                .orElseThrow(() -> new AccessDeniedException("Deactivated or unknown user."));
+        return new AuthPrincipal(user.getUserId(), user.getEmail(), user.getRole());
+    }
+
     @Override
     public Jws<Claims> parse(String authToken) {
-        final SecretKey signingKey = Keys.hmacShaKeyFor(jwtConfigurer.getSecret().getBytes());
         String token = authToken.replace(jwtConfigurer.getPrefix(), "").trim();
         try {
-            return Jwts.parserBuilder().setSigningKey(signingKey).build().parseClaimsJws(token);
+            return jwtCodec.parse(token);
         } catch (SignatureException e) {
             throw new AccessDeniedException(e.getMessage());
         }
@@ -0,0 +1,129 @@
+package com.project.domain.users.api;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.common.handler.RedisHandler;
+import com.project.domain.users.api.interfaces.UserPrincipalCache;
+import com.project.domain.users.dto.UserDTO;
+import com.project.domain.users.event.UserChangedEvent;
+import com.project.domain.users.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/*
+ * 인증에 쓰이는 사용자 정보(id, email, role, activated)의 서버 로컬 캐시.
+ * 사용자 변경 이벤트가 커밋되면 Redis Pub/Sub 으로 모든 서버(자신 포함)의 캐시를 비운다.
+ * 메시지가 유실되더라도 TTL 이후에는 DB 에서 다시 읽는다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UserPrincipalCacheImpl implements UserPrincipalCache, MessageListener {
+
+    private final UserRepository userRepository;
+    private final RedisHandler redisHandler;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    private static final String USER_EVICT_CHANNEL = "user-cache:evict";
+    private static final Duration CACHE_TIMEOUT = Duration.ofMinutes(5);
+    private static final long CACHE_MAXIMUM_SIZE = 10_000;
+
+    // 존재하지 않거나 탈퇴한 사용자도 빈 값으로 캐싱해, 남아 있는 토큰으로 인한 반복 조회를 막는다.
+    private final Cache<Long, Optional<UserDTO.UserPrincipal>> principalsById = Caffeine.newBuilder()
+            .maximumSize(CACHE_MAXIMUM_SIZE)
+            .expireAfterWrite(CACHE_TIMEOUT)
+            .recordStats()
+            .build();
+
+    private final Cache<String, Long> userIdsByEmail = Caffeine.newBuilder()
+            .maximumSize(CACHE_MAXIMUM_SIZE)
+            .expireAfterWrite(CACHE_TIMEOUT)
+            .recordStats()
+            .build();
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(USER_EVICT_CHANNEL));
+        CaffeineCacheMetrics.monitor(meterRegistry, principalsById, "user-principal");
+        CaffeineCacheMetrics.monitor(meterRegistry, userIdsByEmail, "user-principal-email");
+    }
+
+    @Override
+    public Optional<UserDTO.UserPrincipal> getById(Long userId) {
+        return principalsById.get(userId, id -> userRepository.findById(id).map(UserDTO.UserPrincipal::new));
+    }
+
+    @Override
+    public Optional<UserDTO.UserPrincipal> getByEmail(String email) {
+        Long cachedUserId = userIdsByEmail.getIfPresent(email);
+        if (cachedUserId != null) {
+            Optional<UserDTO.UserPrincipal> principal = getById(cachedUserId).filter(cached -> email.equals(cached.getEmail()));
+            if (principal.isPresent()) {
+                return principal;
+            }
+            userIdsByEmail.invalidate(email);
+        }
+
+        // 가입 직후 조회될 수 있으므로 이메일로 찾지 못한 결과는 캐싱하지 않는다.
+        Optional<Long> userId = userRepository.findIdByEmail(email);
+        if (userId.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 사용자 정보는 getById 와 같은 Caffeine 로더로 불러와, 조회 중에 커밋된 무효화가 유실되지 않게 한다.
+        Optional<UserDTO.UserPrincipal> principal = getById(userId.get()).filter(loaded -> email.equals(loaded.getEmail()));
+        principal.ifPresent(loaded -> userIdsByEmail.put(email, loaded.getUserId()));
+        return principal;
+    }
+
+    @Override
+    public void evict(Long userId) {
+        evictLocal(userId);
+        redisHandler.publish(USER_EVICT_CHANNEL, String.valueOf(userId));
+        log.info("User principal cache evicted. userId : {}", userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        try {
+            evict(event.userId());
+        } catch (DataAccessException e) {
+            log.error("User principal cache evict failed. userId : {}, {}", event.userId(), e.getMessage());
+        }
+    }
+
+    // 다른 서버(자신 포함)에서 발행한 무효화 메시지. body = "{userId}"
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evictLocal(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid user cache evict message : {}", body);
+        }
+    }
+
+    private void evictLocal(Long userId) {
+        Optional<UserDTO.UserPrincipal> cached = principalsById.getIfPresent(userId);
+        if (cached != null) {
+            cached.ifPresent(principal -> userIdsByEmail.invalidate(principal.getEmail()));
+        }
+        principalsById.invalidate(userId);
+    }
+}
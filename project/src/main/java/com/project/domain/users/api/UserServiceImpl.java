@@ -4,9 +4,11 @@ import com.project.common.exception.EntityNotFoundException;
 import com.project.domain.users.api.interfaces.UserService;
 import com.project.domain.users.dto.UserDTO;
 import com.project.domain.users.entity.Users;
+import com.project.domain.users.event.UserChangedEvent;
 import com.project.domain.users.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserDTO.UserSimpleInfoResponse getUserByNickname(String nickname) {
@@ -43,10 +46,12 @@ public class UserServiceImpl implements UserService {
         if (request.getProfileImage() != null) {
             user.updateProfileImage(request.getProfileImage());
         }
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
         return new UserDTO.UserSimpleInfoResponse(user);
     }
 
     @Override
+    @Transactional
     public void deleteUser(Users user) {
         Users targetUser = userRepository.findById(user.getId()).orElse(null);
         if (targetUser == null) {
@@ -54,5 +59,6 @@ public class UserServiceImpl implements UserService {
             throw new EntityNotFoundException("User does not exist.");
         }
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
     }
 }
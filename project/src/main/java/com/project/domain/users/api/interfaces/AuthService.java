@@ -9,11 +9,13 @@ public interface AuthService {
 
     UserDTO.SignUpResponse signUp(UserDTO.SignUpRequest signUpRequest) throws Exception;
 
-    UserDTO.LoginResponse login(UserDTO.LoginRequest loginRequest) throws Exception;
+    UserDTO.LoginResponse login(UserDTO.LoginRequest loginRequest, String clientIp) throws Exception;
 
     void sendAuthEmail(UserDTO.EmailRequest emailRequest) throws Exception;
 
     Boolean validateAuthEmail(UserDTO.EmailValidateCodeRequest validateEmailRequest);
 
     TokenDTO reissue(String refreshToken) throws AuthenticationException;
+
+    void logout(String refreshToken) throws AuthenticationException;
 }
@@ -1,5 +1,6 @@
 package com.project.domain.users.api.interfaces;
 
+import com.project.auth.AuthPrincipal;
 import com.project.domain.users.dto.TokenDTO;
 import com.project.domain.users.entity.Users;
 import com.project.common.entity.Role;
@@ -13,12 +14,15 @@ public interface TokenService {
 
     JwtBuilder generateTokenBuilderByEmailAndExpiration(String email, Long expiredAt);
     TokenDTO generateAccessTokenAndRefreshToken(String email, Users user);
-    void verifyToken(String authToken) throws AuthenticationException;
+    TokenDTO reissue(String refreshToken) throws AuthenticationException;
+    void logout(String refreshToken) throws AuthenticationException;
     Long getUserId(String authToken);
 
     Role getUserRole(String authToken);
 
     String getUserEmail(String authToken);
+
+    AuthPrincipal getPrincipal(String authToken);
     Jws<Claims> parse(String authToken);
 
 }
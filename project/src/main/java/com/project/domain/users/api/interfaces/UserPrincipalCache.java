@@ -0,0 +1,14 @@
+package com.project.domain.users.api.interfaces;
+
+import com.project.domain.users.dto.UserDTO;
+
+import java.util.Optional;
+
+public interface UserPrincipalCache {
+
+    Optional<UserDTO.UserPrincipal> getById(Long userId);
+
+    Optional<UserDTO.UserPrincipal> getByEmail(String email);
+
+    void evict(Long userId);
+}
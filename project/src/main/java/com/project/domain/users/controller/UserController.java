@@ -1,5 +1,6 @@
 package com.project.domain.users.controller;
 
+import com.project.auth.ClientIpResolver;
 import com.project.common.annotation.AuthUser;
 import com.project.common.annotation.Permission;
 import com.project.domain.users.api.interfaces.UserService;
@@ -15,6 +16,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -32,6 +34,7 @@ public class UserController {
 
     private final AuthService authService;
     private final UserService userService;
+    private final ClientIpResolver clientIpResolver;
 
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = UserDTO.SignUpResponse.class)))})
     @Operation(summary = "회원가입", description = "이메일을 통해 회원가입을 한다.")
@@ -44,8 +47,8 @@ public class UserController {
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = UserDTO.LoginResponse.class)))})
     @Operation(summary = "로그인", description = "이메일, 비밀번호 기반으로 로그인을 한다.")
     @PostMapping("/login")
-    public ResponseEntity<UserDTO.LoginResponse> login(@Valid @RequestBody UserDTO.LoginRequest loginRequest) throws Exception {
-        UserDTO.LoginResponse response = authService.login(loginRequest);
+    public ResponseEntity<UserDTO.LoginResponse> login(@Valid @RequestBody UserDTO.LoginRequest loginRequest, HttpServletRequest request) throws Exception {
+        UserDTO.LoginResponse response = authService.login(loginRequest, clientIpResolver.resolve(request));
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
@@ -57,6 +60,14 @@ public class UserController {
         return new ResponseEntity<>(reissued, HttpStatus.OK);
     }
 
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = void.class)))})
+    @Operation(summary = "로그아웃", description = "Refresh 토큰의 패밀리를 폐기하여 해당 기기에서 로그아웃한다.")
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String refreshToken) throws AuthenticationException {
+        authService.logout(refreshToken);
+        return ResponseEntity.ok().build();
+    }
+
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = UserDTO.UserSimpleInfoResponse.class)))})
     @Operation(summary = "유저 조회", description = "닉네임을 통해 특정 유저를 조회한다.")
     @SecurityRequirement(name = "Bearer Authentication")
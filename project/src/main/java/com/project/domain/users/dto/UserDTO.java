@@ -7,6 +7,7 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 public class UserDTO {
     @Data
@@ -77,6 +78,7 @@ public class UserDTO {
     }
 
     @Data
+    @NoArgsConstructor
     public static class UserSimpleInfoResponse {
         private Long userId;
         private String userNickname;
@@ -89,6 +91,22 @@ public class UserDTO {
         }
     }
 
+    // 인증에 필요한 최소한의 사용자 정보. 요청마다 Users 엔티티를 조회하지 않도록 로컬 캐시에 보관한다.
+    @Data
+    public static class UserPrincipal {
+        private Long userId;
+        private String email;
+        private Role role;
+        private Boolean activated;
+
+        public UserPrincipal(Users user) {
+            this.userId = user.getId();
+            this.email = user.getEmail();
+            this.role = user.getRole();
+            this.activated = user.getActivated();
+        }
+    }
+
     @Data
     public static class UpdateUserRequest{
         @NotBlank(message = "닉네임을 입력해주세요.")
@@ -14,15 +14,25 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_email", columnList = "email"),
+        @Index(name = "idx_users_nickname", columnList = "nickname")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = Users.ACTIVE_EMAIL_UNIQUE_KEY, columnNames = "active_email"),
+        @UniqueConstraint(name = Users.ACTIVE_NICKNAME_UNIQUE_KEY, columnNames = "active_nickname")
+})
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Getter
 @Where(clause = "activated = 1")
-@SQLDelete(sql = "UPDATE user SET activated = 0 where id = ?")
+@SQLDelete(sql = "UPDATE users SET activated = 0 where id = ?")
 public class Users extends BaseTimeEntity {
 
+    // 활성 회원 사이에서 이메일/닉네임 중복을 막는 유니크 인덱스 (V2 마이그레이션)
+    public static final String ACTIVE_EMAIL_UNIQUE_KEY = "uk_users_active_email";
+    public static final String ACTIVE_NICKNAME_UNIQUE_KEY = "uk_users_active_nickname";
+
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Id
     private Long id;
@@ -42,6 +52,16 @@ public class Users extends BaseTimeEntity {
     @Column(name = "phone_number")
     private String phoneNumber;
 
+    // 활성 회원일 때만 값을 갖는 생성 컬럼. DB 가 계산하므로 읽기 전용으로 매핑한다.
+    // Hibernate 가 만드는 테스트 스키마(H2)에도 운영과 같은 유니크 인덱스를 두기 위해 선언한다.
+    @Column(name = "active_email", insertable = false, updatable = false,
+            columnDefinition = "varchar(255) generated always as (case when activated = 1 then email end)")
+    private String activeEmail;
+
+    @Column(name = "active_nickname", insertable = false, updatable = false,
+            columnDefinition = "varchar(255) generated always as (case when activated = 1 then nickname end)")
+    private String activeNickname;
+
     @Enumerated(EnumType.STRING)
     private Role role;
 
@@ -75,6 +95,10 @@ public class Users extends BaseTimeEntity {
         this.nickname = nickname;
     }
 
+    public void updatePassword(String password) {
+        this.password = password;
+    }
+
     public void updateProfileImage(String profileImage) {
         this.profileImage = profileImage;
     }
@@ -0,0 +1,8 @@
+package com.project.domain.users.event;
+
+/*
+ * 사용자 정보(이메일, 역할, 활성화 여부 등)가 변경되었음을 알리는 도메인 이벤트.
+ * 트랜잭션 커밋 이후 사용자 인증 정보 캐시 무효화에 사용된다.
+ */
+public record UserChangedEvent(Long userId) {
+}
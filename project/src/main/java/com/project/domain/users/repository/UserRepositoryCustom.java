@@ -1,5 +1,8 @@
 package com.project.domain.users.repository;
 
+import java.util.Optional;
+
 public interface UserRepositoryCustom {
 
+    Optional<Long> findIdByEmail(String email);
 }
@@ -1,5 +1,23 @@
 package com.project.domain.users.repository;
 
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+import static com.project.domain.users.entity.QUsers.users;
+
+@RequiredArgsConstructor
 public class UserRepositoryCustomImpl implements UserRepositoryCustom {
 
+    private final JPAQueryFactory query;
+
+    @Override
+    public Optional<Long> findIdByEmail(String email) {
+        return Optional.ofNullable(query
+                .select(users.id)
+                .from(users)
+                .where(users.email.eq(email))
+                .fetchOne());
+    }
 }
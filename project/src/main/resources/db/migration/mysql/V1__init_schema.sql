@@ -0,0 +1,151 @@
+-- Hibernate 가 생성하던 스키마. 기존 DB 는 이 버전으로 baseline 되어 실행되지 않는다.
+
+CREATE TABLE users
+(
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at    DATETIME(6),
+    modified_at   DATETIME(6),
+    email         VARCHAR(255),
+    password      VARCHAR(255),
+    nickname      VARCHAR(255),
+    profile_image VARCHAR(255),
+    phone_number  VARCHAR(255),
+    role          VARCHAR(255),
+    activated     BIT,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE friend
+(
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    me_id       BIGINT,
+    mate_id     BIGINT,
+    friend_name VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_friend_me FOREIGN KEY (me_id) REFERENCES users (id),
+    CONSTRAINT fk_friend_mate FOREIGN KEY (mate_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE pocket
+(
+    id            BIGINT NOT NULL AUTO_INCREMENT,
+    created_at    DATETIME(6),
+    modified_at   DATETIME(6),
+    name          VARCHAR(255),
+    master_id     BIGINT,
+    description   VARCHAR(255),
+    pocket_key    VARCHAR(255),
+    image_url     VARCHAR(255),
+    pin_count     INT    NOT NULL DEFAULT 0,
+    picture_count INT    NOT NULL DEFAULT 0,
+    user_count    INT    NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_pocket_master FOREIGN KEY (master_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_pocket
+(
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    user_id     BIGINT,
+    pocket_id   BIGINT,
+    activated   BIT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_user_pocket_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_pocket_pocket FOREIGN KEY (pocket_id) REFERENCES pocket (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE location
+(
+    id    BIGINT NOT NULL AUTO_INCREMENT,
+    name  VARCHAR(255),
+    point GEOMETRY,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE pin
+(
+    id            BIGINT NOT NULL AUTO_INCREMENT,
+    created_at    DATETIME(6),
+    modified_at   DATETIME(6),
+    user_id       BIGINT,
+    pocket_id     BIGINT,
+    location_id   BIGINT,
+    picture_count INT    NOT NULL DEFAULT 0,
+    comment_count INT    NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_pin_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_pin_pocket FOREIGN KEY (pocket_id) REFERENCES pocket (id),
+    CONSTRAINT fk_pin_location FOREIGN KEY (location_id) REFERENCES location (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tag
+(
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    name        VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE pin_tag
+(
+    id     BIGINT NOT NULL AUTO_INCREMENT,
+    pin_id BIGINT,
+    tag_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_pin_tag_pin FOREIGN KEY (pin_id) REFERENCES pin (id),
+    CONSTRAINT fk_pin_tag_tag FOREIGN KEY (tag_id) REFERENCES tag (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE picture
+(
+    id            BIGINT NOT NULL AUTO_INCREMENT,
+    created_at    DATETIME(6),
+    modified_at   DATETIME(6),
+    original_name VARCHAR(255),
+    url           VARCHAR(255),
+    thumbnail_url VARCHAR(255),
+    medium_url    VARCHAR(255),
+    pin_id        BIGINT,
+    comment_count INT    NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_picture_pin FOREIGN KEY (pin_id) REFERENCES pin (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE pin_comment
+(
+    id                   BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at           DATETIME(6),
+    modified_at          DATETIME(6),
+    text                 VARCHAR(255) NOT NULL,
+    writer_id            BIGINT,
+    pin_id               BIGINT,
+    parent_comment_order BIGINT,
+    comment_order        BIGINT,
+    child_comment_count  INT          NOT NULL,
+    is_deleted           BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_pin_comment_writer FOREIGN KEY (writer_id) REFERENCES users (id),
+    CONSTRAINT fk_pin_comment_pin FOREIGN KEY (pin_id) REFERENCES pin (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE picture_comment
+(
+    id                   BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at           DATETIME(6),
+    modified_at          DATETIME(6),
+    text                 VARCHAR(255) NOT NULL,
+    writer_id            BIGINT,
+    picture_id           BIGINT,
+    parent_comment_order BIGINT,
+    comment_order        BIGINT,
+    child_comment_count  INT          NOT NULL,
+    is_deleted           BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_picture_comment_writer FOREIGN KEY (writer_id) REFERENCES users (id),
+    CONSTRAINT fk_picture_comment_picture FOREIGN KEY (picture_id) REFERENCES picture (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,13 @@
+-- 탈퇴(activated = 0)한 회원의 이메일/닉네임은 다시 가입할 수 있어야 하므로,
+-- 활성 회원일 때만 값을 갖는 생성 컬럼에 유니크 인덱스를 건다. (NULL 은 중복 허용)
+-- 조회(email = ? AND activated = 1)는 일반 인덱스를 사용한다.
+ALTER TABLE users
+    ADD COLUMN active_email    VARCHAR(255) GENERATED ALWAYS AS (IF(activated = 1, email, NULL)) VIRTUAL,
+    ADD COLUMN active_nickname VARCHAR(255) GENERATED ALWAYS AS (IF(activated = 1, nickname, NULL)) VIRTUAL,
+    ADD INDEX idx_users_email (email),
+    ADD INDEX idx_users_nickname (nickname),
+    ADD UNIQUE INDEX uk_users_active_email (active_email),
+    ADD UNIQUE INDEX uk_users_active_nickname (active_nickname);
+
+ALTER TABLE pocket
+    ADD UNIQUE INDEX uk_pocket_pocket_key (pocket_key);
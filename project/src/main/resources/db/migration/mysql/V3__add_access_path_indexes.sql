@@ -0,0 +1,19 @@
+-- 리포지토리 쿼리의 조회 경로별 인덱스. 엔티티의 @Table(indexes) 와 이름/컬럼을 맞춘다.
+--
+-- 파티셔닝 : InnoDB 파티션 테이블은 외래 키를 지원하지 않으므로 지금은 적용하지 않는다.
+-- pin / pin_comment 가 커지면 외래 키를 제거하고 created_at 기준 RANGE 파티션을 검토한다.
+
+-- 포켓별 최신순 목록, (created_at, id) 커서 페이지네이션
+CREATE INDEX idx_pin_pocket_created ON pin (pocket_id, created_at, id);
+CREATE INDEX idx_pin_user ON pin (user_id);
+
+-- 유저가 속한 포켓 목록, 포켓 참여 여부 확인
+CREATE INDEX idx_user_pocket_user_pocket ON user_pocket (user_id, pocket_id, activated);
+
+CREATE INDEX idx_friend_me_mate ON friend (me_id, mate_id);
+
+-- 핀/사진별 댓글 목록, 댓글 순서 번호로 부모 댓글 조회
+CREATE INDEX idx_pin_comment_pin_order ON pin_comment (pin_id, comment_order);
+CREATE INDEX idx_picture_comment_picture_order ON picture_comment (picture_id, comment_order);
+
+CREATE INDEX idx_tag_name ON tag (name);
@@ -0,0 +1,10 @@
+-- 핀/사진별 댓글 순서 번호 카운터. 댓글 작성 시 MAX(comment_order) 조회 대신 이 값을 원자적으로 증가시킨다.
+ALTER TABLE pin
+    ADD COLUMN last_comment_order BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE picture
+    ADD COLUMN last_comment_order BIGINT NOT NULL DEFAULT 0;
+
+UPDATE pin p
+SET p.last_comment_order = (SELECT COALESCE(MAX(c.comment_order), 0) FROM pin_comment c WHERE c.pin_id = p.id);
+UPDATE picture p
+SET p.last_comment_order = (SELECT COALESCE(MAX(c.comment_order), 0) FROM picture_comment c WHERE c.picture_id = p.id);
@@ -0,0 +1,4 @@
+-- 부모 댓글별 자식 댓글 조회(스레드 미리보기, 자식 댓글 페이지)용 인덱스.
+-- 최상위 댓글 페이지는 기존 (pin_id, comment_order) 인덱스를 사용한다.
+CREATE INDEX idx_pin_comment_pin_parent_order ON pin_comment (pin_id, parent_comment_order, comment_order);
+CREATE INDEX idx_picture_comment_picture_parent_order ON picture_comment (picture_id, parent_comment_order, comment_order);
@@ -0,0 +1,12 @@
+-- UserPocket 키를 테이블 생성기(allocationSize 50)로 미리 할당받아 초대 시 INSERT 를 JDBC 배치로 보낸다.
+-- 기존 AUTO_INCREMENT 값과 겹치지 않도록 현재 최대 키 + 할당 크기 이후부터 시작한다.
+CREATE TABLE id_generator
+(
+    name     VARCHAR(64) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+INSERT INTO id_generator (name, next_val)
+SELECT 'user_pocket', COALESCE(MAX(id), 0) + 51
+FROM user_pocket;
@@ -0,0 +1,4 @@
+-- 자신이 생성한 핀의 최신순 목록, (created_at, id) 커서 페이지네이션과 스트리밍 조회용 인덱스.
+-- user_id 로 시작하므로 기존 idx_pin_user(외래 키 인덱스 역할 포함)를 대체한다.
+CREATE INDEX idx_pin_user_created ON pin (user_id, created_at, id);
+DROP INDEX idx_pin_user ON pin;
@@ -0,0 +1,18 @@
+-- 영역/반경 검색(PinRepositoryCustom.findAllByPocketIdInBoundary 등)의 ST_Intersects 가 공간 인덱스를 사용하도록 한다.
+-- SPATIAL INDEX 는 NOT NULL 이면서 SRID 가 지정된 컬럼에만 걸 수 있다. (좌표는 SRID 0 으로 저장된다)
+-- 좌표 없는 위치는 만들 수 없으므로 NULL 인 행은 없어야 한다. 남아 있다면 마이그레이션이 실패하므로 먼저 정리한다.
+--
+-- 이전에 애플리케이션이 기동 시 직접 인덱스를 만든 환경이 있으므로, 인덱스가 없을 때만 생성한다.
+SET @has_spatial_index = (SELECT COUNT(*)
+                          FROM information_schema.statistics
+                          WHERE table_schema = DATABASE()
+                            AND table_name = 'location'
+                            AND index_name = 'idx_location_point');
+
+SET @ddl = IF(@has_spatial_index = 0,
+              'ALTER TABLE location MODIFY point POINT NOT NULL SRID 0, ADD SPATIAL INDEX idx_location_point (point)',
+              'DO 0');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
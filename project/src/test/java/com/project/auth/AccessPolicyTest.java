@@ -0,0 +1,50 @@
+package com.project.auth;
+
+import com.project.domain.pin.repository.PinRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AccessPolicyTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long OWNED_PIN_ID = 10L;
+    private static final Long OTHER_PIN_ID = 20L;
+
+    private PinRepository pinRepository;
+
+    private AccessPolicy accessPolicy;
+
+    @BeforeEach()
+    public void init() {
+        pinRepository = mock(PinRepository.class);
+        // OWNER_ID 사용자는 OWNED_PIN_ID 핀만 소유한다.
+        when(pinRepository.existsByIdAndUserId(OWNED_PIN_ID, OWNER_ID)).thenReturn(true);
+        accessPolicy = new AccessPolicy(pinRepository, null, null, null);
+    }
+
+    @Test
+    @DisplayName("같은 요청 안에서 같은 권한 확인은 한 번만 조회하고, 거부 결과도 재사용한다.")
+    public void reuse_decision_in_request() {
+        assertTrue(accessPolicy.isPinOwner(OWNER_ID, OWNED_PIN_ID));
+        assertTrue(accessPolicy.isPinOwner(OWNER_ID, OWNED_PIN_ID));
+        verify(pinRepository, times(1)).existsByIdAndUserId(any(), any());
+
+        assertFalse(accessPolicy.isPinOwner(OWNER_ID, OTHER_PIN_ID));
+        assertFalse(accessPolicy.isPinOwner(OWNER_ID, OTHER_PIN_ID));
+        verify(pinRepository, times(2)).existsByIdAndUserId(any(), any());
+    }
+
+    @Test
+    @DisplayName("사용자가 다르면 같은 핀이라도 권한을 따로 확인한다.")
+    public void decide_per_user() {
+        assertTrue(accessPolicy.isPinOwner(OWNER_ID, OWNED_PIN_ID));
+        assertFalse(accessPolicy.isPinOwner(2L, OWNED_PIN_ID));
+
+        verify(pinRepository, times(2)).existsByIdAndUserId(any(), any());
+    }
+}
@@ -0,0 +1,93 @@
+package com.project.auth;
+
+import com.project.common.annotation.AuthUser;
+import com.project.common.annotation.Permission;
+import com.project.common.entity.Role;
+import com.project.common.handler.AuthUserResolver;
+import com.project.config.StatementRecorder;
+import com.project.config.TestConfig;
+import com.project.domain.users.api.interfaces.TokenService;
+import com.project.domain.users.entity.Users;
+import com.project.domain.users.repository.UserRepository;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/*
+ * 한 요청에서 PermissionInterceptor 와 AuthUserResolver 가 AuthContext 의 인증 결과를 공유하는지 확인한다.
+ */
+@DataJpaTest
+@Import({TestConfig.class, StatementRecorder.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class AuthContextTest {
+
+    private static final String AUTHORIZATION = "Bearer ACCESS_TOKEN";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    private TokenService tokenService;
+
+    private MockHttpServletRequest request;
+
+    private Users testUser;
+
+    @BeforeEach()
+    public void init() {
+        testUser = userRepository.save(Users.builder().email("TEST@EMAIL.COM").password("TEST_PASSWORD").nickname("TEST_NICKNAME").role(Role.USER).activated(true).phoneNumber("01000000000").build());
+        entityManager.flush();
+        entityManager.clear();
+
+        tokenService = mock(TokenService.class);
+        when(tokenService.getPrincipal(AUTHORIZATION)).thenReturn(new AuthPrincipal(testUser.getId(), testUser.getEmail(), Role.USER));
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", AUTHORIZATION);
+    }
+
+    @Test
+    @DisplayName("권한 확인과 사용자 인자 생성은 토큰을 한 번만 검증하고, id 만 사용하면 사용자를 조회하지 않는다.")
+    public void share_principal_and_skip_user_select() throws Exception {
+        AuthContext authContext = new AuthContext(request, tokenService);
+        PermissionInterceptor permissionInterceptor = new PermissionInterceptor(authContext);
+        AuthUserResolver authUserResolver = new AuthUserResolver(authContext, userRepository);
+        HandlerMethod handlerMethod = new HandlerMethod(new TestController(), TestController.class.getMethod("handle", Users.class));
+        MethodParameter userParameter = handlerMethod.getMethodParameters()[0];
+        statementRecorder.clear();
+
+        assertTrue(permissionInterceptor.preHandle(request, new MockHttpServletResponse(), handlerMethod));
+        assertTrue(authUserResolver.supportsParameter(userParameter));
+        Users user = (Users) authUserResolver.resolveArgument(userParameter, null, new ServletWebRequest(request), null);
+
+        assertEquals(testUser.getId(), user.getId());
+        assertFalse(Hibernate.isInitialized(user));
+        verify(tokenService, times(1)).getPrincipal(AUTHORIZATION);
+        assertTrue(statementRecorder.getStatements().stream().noneMatch(statement -> statement.sql().toLowerCase().contains("from users")));
+    }
+
+    static class TestController {
+
+        @Permission(role = Role.USER)
+        public void handle(@AuthUser Users user) {
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtCodecTest {
+
+    private static final String PREVIOUS_KEY_ID = "v1";
+    private static final String PREVIOUS_SECRET = "previous-secret-key-which-is-long-enough-for-hs256";
+    private static final String CURRENT_KEY_ID = "v2";
+    private static final String CURRENT_SECRET = "current-secret-key-which-is-long-enough-for-hs256!";
+    private static final String TEST_EMAIL = "TEST_USER@EMAIL.COM";
+
+    private JwtCodec jwtCodec;
+
+    @BeforeEach()
+    public void init() {
+        jwtCodec = new JwtCodec(CURRENT_KEY_ID, CURRENT_SECRET, Map.of(PREVIOUS_KEY_ID, PREVIOUS_SECRET), 100);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 kid 로 서명된 토큰은 거부한다.")
+    public void reject_unknown_key_id() {
+        String token = new JwtCodec("unknown", CURRENT_SECRET, Map.of(), 0).builder()
+                .setSubject(TEST_EMAIL)
+                .setExpiration(expiresIn(TimeUnit.HOURS.toMillis(1)))
+                .compact();
+
+        assertThrows(SignatureException.class, () -> jwtCodec.parse(token));
+    }
+
+    @Test
+    @DisplayName("이전 키로 서명된 토큰은 키 교체 후에도 검증한다.")
+    public void accept_token_signed_with_previous_secret() {
+        String token = new JwtCodec(PREVIOUS_KEY_ID, PREVIOUS_SECRET, Map.of(), 0).builder()
+                .setSubject(TEST_EMAIL)
+                .setExpiration(expiresIn(TimeUnit.HOURS.toMillis(1)))
+                .compact();
+
+        Jws<Claims> jws = jwtCodec.parse(token);
+
+        assertEquals(PREVIOUS_KEY_ID, jws.getHeader().getKeyId());
+        assertEquals(TEST_EMAIL, jws.getBody().getSubject());
+    }
+
+    @Test
+    @DisplayName("kid 가 없는 토큰은 현재 키로 검증한다.")
+    public void verify_token_without_key_id_with_current_key() {
+        String token = Jwts.builder()
+                .setSubject(TEST_EMAIL)
+                .setExpiration(expiresIn(TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(CURRENT_SECRET.getBytes()))
+                .compact();
+        String previousKeyToken = Jwts.builder()
+                .setSubject(TEST_EMAIL)
+                .setExpiration(expiresIn(TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(PREVIOUS_SECRET.getBytes()))
+                .compact();
+
+        assertEquals(TEST_EMAIL, jwtCodec.parse(token).getBody().getSubject());
+        assertThrows(SignatureException.class, () -> jwtCodec.parse(previousKeyToken));
+    }
+
+    @Test
+    @DisplayName("검증된 토큰 캐시는 토큰의 만료 시각이 지나면 캐시된 결과를 반환하지 않는다.")
+    public void cached_token_does_not_outlive_expiry() throws InterruptedException {
+        // exp 는 초 단위로 기록되므로 만료 시각은 발급 후 0.5 ~ 1.5초 사이이다.
+        String token = jwtCodec.builder()
+                .setSubject(TEST_EMAIL)
+                .setExpiration(expiresIn(1500))
+                .compact();
+
+        Jws<Claims> first = jwtCodec.parse(token);
+        assertSame(first, jwtCodec.parse(token));
+
+        Thread.sleep(2000);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtCodec.parse(token));
+    }
+
+    private Date expiresIn(long millis) {
+        return new Date(System.currentTimeMillis() + millis);
+    }
+}
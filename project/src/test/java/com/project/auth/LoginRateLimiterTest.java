@@ -0,0 +1,55 @@
+package com.project.auth;
+
+import com.project.common.exception.BusinessLogicException;
+import com.project.common.exception.ErrorCode;
+import com.project.config.RedisContainerTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginRateLimiterTest extends RedisContainerTest {
+
+    private static final String CLIENT_IP = "203.0.113.10";
+
+    private LoginRateLimiter loginRateLimiter;
+
+    private ClientIpResolver clientIpResolver;
+
+    @BeforeEach()
+    public void init() {
+        loginRateLimiter = new LoginRateLimiter(redisHandler, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(loginRateLimiter, "ipCapacity", 2L);
+        ReflectionTestUtils.setField(loginRateLimiter, "ipRefillPerMinute", 1L);
+        ReflectionTestUtils.setField(loginRateLimiter, "emailCapacity", 100L);
+        ReflectionTestUtils.setField(loginRateLimiter, "emailRefillPerMinute", 100L);
+        clientIpResolver = new ClientIpResolver("10.0.0.0/8");
+    }
+
+    @Test
+    @DisplayName("X-Forwarded-For 를 바꿔 보내도 같은 IP 버킷을 사용하므로 제한이 초기화되지 않는다.")
+    public void spoofed_forwarded_for_does_not_reset_bucket() {
+        for (int i = 0; i < 2; i++) {
+            loginRateLimiter.acquire(clientIpResolver.resolve(createRequest("198.51.100." + i)), "TEST" + i + "@EMAIL.COM");
+        }
+
+        String spoofedIp = clientIpResolver.resolve(createRequest("198.51.100.99"));
+        BusinessLogicException exception = assertThrows(BusinessLogicException.class,
+                () -> loginRateLimiter.acquire(spoofedIp, "TEST99@EMAIL.COM"));
+
+        assertEquals(CLIENT_IP, spoofedIp);
+        assertEquals(ErrorCode.LOGIN_RATE_LIMITED, exception.getErrorCode());
+    }
+
+    // 클라이언트가 조작한 X-Forwarded-For 뒤에 로드밸런서(10.0.0.5)가 실제 접속 주소를 덧붙인 요청
+    private MockHttpServletRequest createRequest(String spoofedIp) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.5");
+        request.addHeader("X-Forwarded-For", spoofedIp + ", " + CLIENT_IP);
+        return request;
+    }
+}
@@ -0,0 +1,90 @@
+package com.project.auth;
+
+import com.project.common.exception.BusinessLogicException;
+import com.project.common.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    private static final String TEST_PASSWORD = "TEST_PASSWORD";
+
+    private ThreadPoolTaskExecutor passwordHashExecutor;
+
+    private MeterRegistry meterRegistry;
+
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach()
+    public void init() {
+        passwordHashExecutor = new ThreadPoolTaskExecutor();
+        passwordHashExecutor.setCorePoolSize(1);
+        passwordHashExecutor.setMaxPoolSize(1);
+        passwordHashExecutor.setQueueCapacity(1);
+        passwordHashExecutor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(5)));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(5));
+
+        passwordHasher = new PasswordHasher(passwordEncoder, passwordHashExecutor, meterRegistry);
+        ReflectionTestUtils.setField(passwordHasher, "timeoutMillis", 5000L);
+    }
+
+    @AfterEach()
+    public void destroy() {
+        passwordHashExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("id 가 없는 기존 BCrypt 해시를 검증하고, 다시 해싱이 필요하다고 판단한다.")
+    public void matches_legacy_hash_and_upgrade() {
+        String legacyHash = new BCryptPasswordEncoder(4).encode(TEST_PASSWORD);
+
+        assertTrue(passwordHasher.matches(TEST_PASSWORD, legacyHash));
+        assertTrue(passwordHasher.upgradeEncoding(legacyHash));
+
+        String upgradedHash = passwordHasher.encode(TEST_PASSWORD);
+        assertTrue(upgradedHash.startsWith("{bcrypt}"));
+        assertTrue(passwordHasher.matches(TEST_PASSWORD, upgradedHash));
+        assertFalse(passwordHasher.upgradeEncoding(upgradedHash));
+        assertEquals(3, meterRegistry.get("pinnit.password.hash").tag("operation", "matches").timer().count()
+                + meterRegistry.get("pinnit.password.hash").tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    @DisplayName("해싱 대기 큐가 가득 차면 해싱하지 않고 바로 거절한다.")
+    public void reject_when_queue_is_full() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        passwordHashExecutor.execute(() -> await(latch));
+        passwordHashExecutor.execute(() -> await(latch));
+
+        BusinessLogicException exception = assertThrows(BusinessLogicException.class,
+                () -> passwordHasher.matches(TEST_PASSWORD, "{bcrypt}invalid"));
+        assertEquals(ErrorCode.LOGIN_BUSY, exception.getErrorCode());
+        assertEquals(1.0, meterRegistry.counter("pinnit.password.hash.rejected").count());
+
+        latch.countDown();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
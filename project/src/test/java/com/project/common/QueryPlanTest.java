@@ -0,0 +1,279 @@
+package com.project.common;
+
+import com.project.common.utils.CursorUtils;
+import com.project.config.FlywayConfig;
+import com.project.config.StatementRecorder;
+import com.project.config.TestConfig;
+import com.project.domain.comment.repository.PictureCommentRepository;
+import com.project.domain.comment.repository.PinCommentRepository;
+import com.project.domain.friend.repository.FriendRepository;
+import com.project.domain.pin.repository.PinRepository;
+import com.project.domain.pocket.repository.PocketRepository;
+import com.project.domain.tag.repository.TagRepository;
+import com.project.domain.userpocket.repository.UserPocketRepository;
+import com.project.domain.users.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * 리포지토리 메서드가 실제로 실행한 SQL 을 기록해 Flyway 마이그레이션(db/migration/mysql)으로 만든 MySQL 스키마에서 EXPLAIN 한다.
+ * 어떤 테이블이든 전체 스캔(type = ALL)하면 실패한다. 파생 테이블(<derivedN>)은 이미 인덱스로 걸러진 결과이므로 제외한다.
+ * 옵티마이저가 작은 테이블을 전체 스캔하지 않도록 포켓 50개, 핀 300개 규모의 데이터를 넣고 통계를 갱신한다.
+ * Docker 를 사용할 수 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest
+@Import({TestConfig.class, FlywayConfig.class, QueryPlanTest.StatementRecorderConfig.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class QueryPlanTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+
+    private static final String[] TABLES = {"users", "friend", "pocket", "user_pocket", "location", "pin", "tag", "pin_tag",
+            "picture", "pin_comment", "picture_comment"};
+
+    private static boolean seeded;
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
+    }
+
+    @TestConfiguration
+    static class StatementRecorderConfig {
+
+        @Bean
+        public static StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+    }
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FriendRepository friendRepository;
+
+    @Autowired
+    private PocketRepository pocketRepository;
+
+    @Autowired
+    private UserPocketRepository userPocketRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PinRepository pinRepository;
+
+    @Autowired
+    private PinCommentRepository pinCommentRepository;
+
+    @Autowired
+    private PictureCommentRepository pictureCommentRepository;
+
+    @BeforeEach()
+    public void init() {
+        if (!seeded) {
+            seed();
+            seeded = true;
+        }
+    }
+
+    @Test
+    @DisplayName("회원, 포켓, 태그 단건 조회는 인덱스를 사용한다.")
+    public void user_pocket_tag_lookups_use_index() {
+        assertNoFullScan(() -> {
+            userRepository.findByEmail("USER1@EMAIL.COM");
+            userRepository.findByNickname("NICKNAME1");
+            pocketRepository.findPocketByKey("POCKET_KEY1");
+            pocketRepository.existsByPocketKey("POCKET_KEY1");
+            tagRepository.findByName("TAG1");
+        });
+    }
+
+    @Test
+    @DisplayName("포켓별, 작성자별 핀 목록과 커서 페이지네이션은 인덱스를 사용한다.")
+    public void pin_queries_use_index() {
+        CursorUtils.Cursor cursor = new CursorUtils.Cursor(LocalDateTime.now().minusMinutes(100), 200L);
+        assertNoFullScan(() -> {
+            pinRepository.findAllPinDetailsByPocketId(1L, PageRequest.of(0, 3));
+            pinRepository.findAllPinSummariesByPocketId(1L, PageRequest.of(0, 3));
+            pinRepository.findAllPinDetailsByPocketIdWithCursor(1L, cursor, 3);
+            pinRepository.findPinIdsByUserId(1L);
+            pinRepository.findAllPinDetailsByUserIdWithCursor(1L, cursor, 3);
+            try (Stream<Long> pinIds = pinRepository.streamPinIdsByUserId(1L)) {
+                pinIds.forEach(pinId -> { });
+            }
+            pinRepository.findAllPinDetailsByIds(List.of(1L, 2L));
+            pinRepository.existsByIdAndUserId(1L, 1L);
+        });
+    }
+
+    @Test
+    @DisplayName("영역, 반경 내 핀 조회는 공간 인덱스를 사용한다.")
+    public void spatial_pin_queries_use_index() {
+        Envelope boundary = new Envelope(127.0, 127.02, 37.5, 37.52);
+        assertNoFullScan(() -> {
+            pinRepository.findPinIdsByPocketIdInBoundary(1L, boundary);
+            pinRepository.findAllPinPointsByPocketIdInBoundary(1L, boundary);
+        });
+    }
+
+    @Test
+    @DisplayName("포켓 참여 정보와 친구 관계 조회는 인덱스를 사용한다.")
+    public void user_pocket_and_friend_queries_use_index() {
+        assertNoFullScan(() -> {
+            pocketRepository.findAllPocketByUserId(1L);
+            pocketRepository.findAllPocketSummariesByUserId(1L);
+            pocketRepository.findAllActivatedUserPocketsByPocketIds(List.of(1L, 2L));
+            userPocketRepository.findByUserIdAndPocketId(1L, 1L);
+            userPocketRepository.findUserIdsByPocketIdAndUserIdIn(1L, List.of(1L, 2L, 3L));
+            userPocketRepository.existsActiveMembership(1L, 1L);
+            userPocketRepository.findActivePocketIdsByUserId(1L);
+            friendRepository.findByMeIdAndMateId(1L, 2L);
+            friendRepository.existsByUserIds(1L, 2L);
+            friendRepository.findAllFriendsOfUser(1L);
+        });
+    }
+
+    @Test
+    @DisplayName("댓글 목록, 댓글 순서 번호, 댓글 스레드 조회는 인덱스를 사용한다.")
+    public void comment_queries_use_index() {
+        assertNoFullScan(() -> {
+            pinCommentRepository.findAllByPinId(1L);
+            pinCommentRepository.findByCommentOrder(1L, 1L);
+            pinCommentRepository.findParentComments(1L, 0L, 21);
+            pinCommentRepository.findChildComments(1L, 1L, 0L, 21);
+            pinCommentRepository.findChildCommentPreviews(1L, List.of(1L), 3);
+            pinCommentRepository.existsByIdAndWriterId(1L, 1L);
+            pictureCommentRepository.findAllByPictureId(1L);
+            pictureCommentRepository.findByCommentOrder(1L, 1L);
+            pictureCommentRepository.findParentComments(1L, 0L, 21);
+            pictureCommentRepository.findChildComments(1L, 1L, 0L, 21);
+            pictureCommentRepository.findChildCommentPreviews(1L, List.of(1L), 3);
+            pictureCommentRepository.existsByIdAndWriterId(1L, 1L);
+        });
+    }
+
+    // 리포지토리 호출에서 실행된 조회 쿼리를 모두 EXPLAIN 하여 전체 스캔이 없는지 확인한다.
+    private void assertNoFullScan(Runnable repositoryCalls) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        statementRecorder.clear();
+        transactionTemplate.executeWithoutResult(status -> repositoryCalls.run());
+        List<StatementRecorder.RecordedStatement> queries = statementRecorder.getStatements().stream()
+                .filter(StatementRecorder.RecordedStatement::isQuery)
+                .toList();
+
+        assertFalse(queries.isEmpty(), "No query recorded.");
+        for (StatementRecorder.RecordedStatement query : queries) {
+            List<String> fullScans = explainFullScans(query);
+            assertTrue(fullScans.isEmpty(), () -> "Full scan detected on " + fullScans + ".\n" + query.sql());
+        }
+    }
+
+    private List<String> explainFullScans(StatementRecorder.RecordedStatement query) {
+        return jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            List<String> fullScans = new ArrayList<>();
+            try (PreparedStatement explain = query.prepare(connection, "EXPLAIN "); ResultSet plan = explain.executeQuery()) {
+                while (plan.next()) {
+                    String table = plan.getString("table");
+                    if ("ALL".equals(plan.getString("type")) && table != null && !table.startsWith("<")) {
+                        fullScans.add(table);
+                    }
+                }
+            }
+            return fullScans;
+        });
+    }
+
+    // 회원 20명, 포켓 50개(포켓당 참여자 3명), 핀 300개(핀마다 위치, 태그, 사진 1장, 댓글 3개, 사진 댓글 3개), 친구 관계 40개
+    private void seed() {
+        String sequence = "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d) ";
+        jdbcTemplate.execute("INSERT INTO users (created_at, email, password, nickname, role, activated) "
+                + sequence.formatted(20)
+                + "SELECT NOW(6), CONCAT('USER', n, '@EMAIL.COM'), 'PASSWORD', CONCAT('NICKNAME', n), 'USER', 1 FROM seq");
+        jdbcTemplate.execute("INSERT INTO friend (created_at, me_id, mate_id, friend_name) "
+                + sequence.formatted(40)
+                + "SELECT NOW(6), MOD(n - 1, 20) + 1, MOD(n - 1 + (n - 1) DIV 20 + 1, 20) + 1, 'FRIEND' FROM seq");
+        jdbcTemplate.execute("INSERT INTO pocket (created_at, name, master_id, description, pocket_key, image_url) "
+                + sequence.formatted(50)
+                + "SELECT NOW(6), CONCAT('POCKET', n), MOD(n - 1, 20) + 1, 'DESCRIPTION', CONCAT('POCKET_KEY', n), 'IMAGE_URL' FROM seq");
+        jdbcTemplate.execute("INSERT INTO user_pocket (created_at, user_id, pocket_id, activated) "
+                + sequence.formatted(150)
+                + "SELECT NOW(6), MOD((n - 1) DIV 3 + MOD(n - 1, 3), 20) + 1, (n - 1) DIV 3 + 1, 1 FROM seq");
+        jdbcTemplate.execute("INSERT INTO location (name, point) "
+                + sequence.formatted(300)
+                + "SELECT CONCAT('LOCATION', n), ST_GeomFromText(CONCAT('POINT(', 127 + n / 1000, ' ', 37.5 + n / 1000, ')')) FROM seq");
+        jdbcTemplate.execute("INSERT INTO pin (created_at, user_id, pocket_id, location_id, picture_count, comment_count, last_comment_order) "
+                + sequence.formatted(300)
+                + "SELECT NOW(6) - INTERVAL n MINUTE, MOD(n - 1, 20) + 1, MOD(n - 1, 50) + 1, n, 1, 3, 3 FROM seq");
+        jdbcTemplate.execute("INSERT INTO tag (created_at, name) "
+                + sequence.formatted(20)
+                + "SELECT NOW(6), CONCAT('TAG', n) FROM seq");
+        jdbcTemplate.execute("INSERT INTO pin_tag (pin_id, tag_id) "
+                + sequence.formatted(300)
+                + "SELECT n, MOD(n - 1, 20) + 1 FROM seq");
+        jdbcTemplate.execute("INSERT INTO picture (created_at, original_name, url, pin_id, comment_count, last_comment_order) "
+                + sequence.formatted(300)
+                + "SELECT NOW(6), 'ORIGINAL_NAME', 'PICTURE_URL', n, 3, 3 FROM seq");
+        // 대상마다 부모 댓글(1) 하나와 그 자식 댓글(2, 3)
+        for (String[] comment : new String[][]{{"pin_comment", "pin_id"}, {"picture_comment", "picture_id"}}) {
+            jdbcTemplate.execute("INSERT INTO " + comment[0] + " (created_at, text, writer_id, " + comment[1] + ", parent_comment_order, comment_order, child_comment_count, is_deleted) "
+                    + sequence.formatted(900)
+                    + "SELECT NOW(6), 'COMMENT', MOD(n - 1, 20) + 1, (n - 1) DIV 3 + 1, 1, MOD(n - 1, 3) + 1, IF(MOD(n - 1, 3) = 0, 2, 0), 0 FROM seq");
+        }
+        jdbcTemplate.execute("ANALYZE TABLE " + String.join(", ", TABLES));
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.common.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExceptionManagerTest {
+
+    private final ExceptionManager exceptionManager = new ExceptionManager();
+
+    @Test
+    @DisplayName("유니크 인덱스 위반은 중복 값(409)으로 응답한다.")
+    public void unique_violation_is_conflict() {
+        SQLException cause = new SQLException("Duplicate entry 'TEST@EMAIL.COM' for key 'users.uk_users_active_email'", "23000", 1062);
+
+        ResponseEntity<ErrorResponse> response = exceptionManager.handleDataIntegrityViolationException(new DataIntegrityViolationException("could not execute statement", cause));
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("NOT NULL, 외래 키 위반은 중복 값으로 응답하지 않는다.")
+    public void other_integrity_violation_is_not_conflict() {
+        SQLException notNull = new SQLException("Column 'email' cannot be null", "23000", 1048);
+        SQLException foreignKey = new SQLException("Cannot add or update a child row: a foreign key constraint fails", "23000", 1452);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exceptionManager.handleDataIntegrityViolationException(new DataIntegrityViolationException("not null", notNull)).getStatusCode());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exceptionManager.handleDataIntegrityViolationException(new DataIntegrityViolationException("foreign key", foreignKey)).getStatusCode());
+    }
+}
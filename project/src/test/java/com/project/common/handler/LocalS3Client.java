@@ -0,0 +1,128 @@
+package com.project.common.handler;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 테스트용 인메모리 S3. PutObject, DeleteObject 와 멀티파트 업로드만 지원한다.
+ * failNextRequests 로 다음 요청들을 503 으로 실패시켜 재시도를 확인할 수 있다.
+ */
+public class LocalS3Client extends AbstractAmazonS3 {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, SortedMap<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+    private final List<Integer> uploadedPartSizes = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger remainingFailures = new AtomicInteger();
+
+    public void failNextRequests(int count) {
+        remainingFailures.set(count);
+    }
+
+    public byte[] getObjectBytes(String bucket, String key) {
+        return objects.get(toObjectKey(bucket, key));
+    }
+
+    public int getObjectCount() {
+        return objects.size();
+    }
+
+    public List<Integer> getUploadedPartSizes() {
+        return uploadedPartSizes;
+    }
+
+    public int getInProgressUploadCount() {
+        return multipartUploads.size();
+    }
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest putObjectRequest) {
+        failIfRequested();
+        objects.put(toObjectKey(putObjectRequest.getBucketName(), putObjectRequest.getKey()), readAll(putObjectRequest.getInputStream()));
+        return new PutObjectResult();
+    }
+
+    @Override
+    public void deleteObject(String bucketName, String key) {
+        objects.remove(toObjectKey(bucketName, key));
+    }
+
+    @Override
+    public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        multipartUploads.put(uploadId, new TreeMap<>());
+
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        result.setUploadId(uploadId);
+        return result;
+    }
+
+    @Override
+    public UploadPartResult uploadPart(UploadPartRequest request) {
+        failIfRequested();
+        byte[] part = readAll(request.getInputStream());
+        getUpload(request.getUploadId()).put(request.getPartNumber(), part);
+        uploadedPartSizes.add(part.length);
+
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(request.getPartNumber());
+        result.setETag(Integer.toHexString(Arrays.hashCode(part)));
+        return result;
+    }
+
+    @Override
+    public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        SortedMap<Integer, byte[]> parts = getUpload(request.getUploadId());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        request.getPartETags().forEach(partETag -> outputStream.writeBytes(parts.get(partETag.getPartNumber())));
+        objects.put(toObjectKey(request.getBucketName(), request.getKey()), outputStream.toByteArray());
+        multipartUploads.remove(request.getUploadId());
+
+        CompleteMultipartUploadResult result = new CompleteMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        return result;
+    }
+
+    @Override
+    public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+        multipartUploads.remove(request.getUploadId());
+    }
+
+    private void failIfRequested() {
+        if (remainingFailures.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+            AmazonS3Exception exception = new AmazonS3Exception("Slow Down");
+            exception.setStatusCode(503);
+            throw exception;
+        }
+    }
+
+    private SortedMap<Integer, byte[]> getUpload(String uploadId) {
+        SortedMap<Integer, byte[]> parts = multipartUploads.get(uploadId);
+        if (parts == null) {
+            throw new AmazonS3Exception("NoSuchUpload : " + uploadId);
+        }
+        return parts;
+    }
+
+    private String toObjectKey(String bucket, String key) {
+        return bucket + "/" + key;
+    }
+
+    private byte[] readAll(InputStream inputStream) {
+        try (inputStream) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.project.common.handler;
+
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.project.common.exception.BusinessLogicException;
+import com.project.common.exception.ErrorCode;
+import com.project.domain.location.entity.Location;
+import com.project.domain.picture.dto.PictureDetail;
+import com.project.domain.picture.entity.Picture;
+import com.project.domain.picture.repository.PictureRepository;
+import com.project.domain.pin.dto.PinDTO;
+import com.project.domain.pin.entity.Pin;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class S3UploaderTest {
+
+    private static final String TEST_BUCKET = "TEST_BUCKET";
+
+    private LocalS3Client localS3Client;
+
+    private ThreadPoolTaskExecutor uploadExecutor;
+
+    private MeterRegistry meterRegistry;
+
+    private S3Uploader s3Uploader;
+
+    private List<Picture> savedPictures;
+
+    // updateRenditionUrls 호출 기록 : [pictureId, thumbnailUrl, mediumUrl, 트랜잭션 안에서 호출되었는지]
+    private List<Object[]> renditionUpdates;
+
+    private RecordingTransactionManager transactionManager;
+
+    @BeforeEach()
+    public void init() {
+        localS3Client = new LocalS3Client();
+        uploadExecutor = new ThreadPoolTaskExecutor();
+        uploadExecutor.setCorePoolSize(1);
+        uploadExecutor.setMaxPoolSize(1);
+        uploadExecutor.setQueueCapacity(1);
+        uploadExecutor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+
+        savedPictures = new ArrayList<>();
+        renditionUpdates = new ArrayList<>();
+        transactionManager = new RecordingTransactionManager();
+        s3Uploader = new S3Uploader(localS3Client, uploadExecutor, uploadExecutor, meterRegistry, createPictureRepository(), transactionManager);
+        ReflectionTestUtils.setField(s3Uploader, "bucket", TEST_BUCKET);
+        ReflectionTestUtils.setField(s3Uploader, "cloudFrontDomain", "cdn.pinnit.test");
+        ReflectionTestUtils.setField(s3Uploader, "partSize", S3Uploader.MIN_PART_SIZE);
+        ReflectionTestUtils.setField(s3Uploader, "maxAttempts", 3);
+        ReflectionTestUtils.setField(s3Uploader, "backoffMillis", 1L);
+        ReflectionTestUtils.setField(s3Uploader, "maxBackoffMillis", 1L);
+        ReflectionTestUtils.setField(s3Uploader, "thumbnailSize", 320);
+        ReflectionTestUtils.setField(s3Uploader, "mediumSize", 1080);
+        ReflectionTestUtils.setField(s3Uploader, "quality", 0.8f);
+    }
+
+    @AfterEach()
+    public void destroy() {
+        uploadExecutor.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("파트 크기보다 작은 이미지는 단일 요청으로 업로드한다.")
+    public void put_small_image_at_once() throws IOException {
+        byte[] image = createImage(1024);
+
+        s3Uploader.putS3(new ByteArrayInputStream(image), "images/small.png", "image/png");
+
+        assertArrayEquals(image, localS3Client.getObjectBytes(TEST_BUCKET, "images/small.png"));
+        assertEquals(0, localS3Client.getUploadedPartSizes().size());
+    }
+
+    @Test
+    @DisplayName("파트 크기보다 큰 이미지는 고정 크기 파트로 나누어 멀티파트 업로드한다.")
+    public void put_large_image_by_multipart() throws IOException {
+        int lastPartSize = 1234;
+        byte[] image = createImage(S3Uploader.MIN_PART_SIZE * 2 + lastPartSize);
+
+        s3Uploader.putS3(new ByteArrayInputStream(image), "images/large.png", "image/png");
+
+        assertArrayEquals(image, localS3Client.getObjectBytes(TEST_BUCKET, "images/large.png"));
+        assertEquals(List.of(S3Uploader.MIN_PART_SIZE, S3Uploader.MIN_PART_SIZE, lastPartSize), localS3Client.getUploadedPartSizes());
+        assertEquals(0, localS3Client.getInProgressUploadCount());
+    }
+
+    @Test
+    @DisplayName("일시적인 S3 오류는 재시도 후 업로드에 성공한다.")
+    public void retry_transient_failure() throws IOException {
+        byte[] image = createImage(1024);
+        localS3Client.failNextRequests(2);
+
+        s3Uploader.putS3(new ByteArrayInputStream(image), "images/retry.png", "image/png");
+
+        assertArrayEquals(image, localS3Client.getObjectBytes(TEST_BUCKET, "images/retry.png"));
+        assertEquals(2, meterRegistry.counter("pinnit.s3.upload.retry").count());
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘기면 멀티파트 업로드를 취소하고 실패한다.")
+    public void abort_multipart_upload_after_max_attempts() {
+        byte[] image = createImage(S3Uploader.MIN_PART_SIZE + 1);
+        localS3Client.failNextRequests(3);
+
+        assertThrows(AmazonS3Exception.class, () -> s3Uploader.putS3(new ByteArrayInputStream(image), "images/fail.png", "image/png"));
+        assertEquals(0, localS3Client.getInProgressUploadCount());
+    }
+
+    @Test
+    @DisplayName("업로드 큐가 사진을 모두 받을 수 없으면 하나도 업로드하거나 저장하지 않는다.")
+    public void reject_all_pictures_when_capacity_is_insufficient() {
+        // 스레드 1개 + 대기 큐 1칸
+        List<MultipartFile> pictures = List.of(createPicture(1), createPicture(2), createPicture(3));
+
+        BusinessLogicException exception = assertThrows(BusinessLogicException.class, () -> s3Uploader.uploadAndSavePictures(pictures));
+
+        assertEquals(ErrorCode.IMAGE_UPLOAD_BUSY, exception.getErrorCode());
+        assertEquals(0, localS3Client.getObjectCount());
+        assertTrue(savedPictures.isEmpty());
+    }
+
+    @Test
+    @DisplayName("업로드가 실패하면 완료를 기다리는 호출자에게 예외를 전달한다.")
+    public void await_throws_when_upload_fails() {
+        TransactionSynchronizationManager.initSynchronization();
+        localS3Client.failNextRequests(3);
+
+        S3Uploader.PictureUploads uploads = s3Uploader.uploadAndSavePictures(List.of(createPicture(1)));
+        BusinessLogicException exception = assertThrows(BusinessLogicException.class, uploads::await);
+
+        assertEquals(ErrorCode.IMAGE_PROCESSING_ERROR, exception.getErrorCode());
+        assertEquals(1, uploads.pictures().size());
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 업로드한 객체를 삭제한다.")
+    public void delete_uploaded_objects_on_rollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        S3Uploader.PictureUploads uploads = s3Uploader.uploadAndSavePictures(List.of(createPicture(1), createPicture(2)));
+        uploads.await();
+        assertEquals(2, localS3Client.getObjectCount());
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(0, localS3Client.getObjectCount());
+    }
+
+    @Test
+    @DisplayName("원본 이미지로 썸네일/중간 크기 JPEG 를 올리고, 트랜잭션 안에서 사진의 축소본 URL 을 갱신한다.")
+    public void generate_renditions() throws Exception {
+        MultipartFile picture = new MockMultipartFile("pictures", "picture.png", "image/png", createPng(2400, 1200));
+        PictureDetail pictureDetail = PictureDetail.multipartOf(picture);
+
+        s3Uploader.generateRenditionsAsync(picture, 1L, pictureDetail).get(10, TimeUnit.SECONDS);
+
+        BufferedImage medium = ImageIO.read(new ByteArrayInputStream(localS3Client.getObjectBytes(TEST_BUCKET, pictureDetail.getMediumPath())));
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(localS3Client.getObjectBytes(TEST_BUCKET, pictureDetail.getThumbnailPath())));
+        assertEquals(1080, Math.max(medium.getWidth(), medium.getHeight()));
+        assertEquals(320, Math.max(thumbnail.getWidth(), thumbnail.getHeight()));
+
+        assertEquals(1, renditionUpdates.size());
+        assertArrayEquals(new Object[]{1L, "https://cdn.pinnit.test/" + pictureDetail.getThumbnailPath(), "https://cdn.pinnit.test/" + pictureDetail.getMediumPath(), true},
+                renditionUpdates.get(0));
+        assertEquals(1, transactionManager.commitCount);
+    }
+
+    @Test
+    @DisplayName("축소본을 만들 수 없는 이미지는 URL 을 갱신하지 않고, 응답은 원본 URL 로 대체된다.")
+    public void fallback_to_original_url_when_rendition_fails() throws Exception {
+        MultipartFile picture = createPicture(1);
+        PictureDetail pictureDetail = PictureDetail.multipartOf(picture);
+
+        s3Uploader.generateRenditionsAsync(picture, 1L, pictureDetail).get(10, TimeUnit.SECONDS);
+
+        assertTrue(renditionUpdates.isEmpty());
+        assertEquals(1.0, meterRegistry.timer("pinnit.image.rendition", "result", "unsupported").count());
+
+        Picture saved = Picture.builder().originalName("picture1.png").url("https://cdn.pinnit.test/" + pictureDetail.getPath()).build();
+        Pin pin = Pin.builder().location(Location.builder().name("TEST_LOCATION").build()).build();
+        pin.addPicture(saved);
+        PinDTO.PinWithDistinctPictureResponse response = new PinDTO.PinWithDistinctPictureResponse(saved, List.of());
+        assertEquals(saved.getUrl(), response.getThumbnailUri());
+        assertEquals(saved.getUrl(), response.getMediumUri());
+    }
+
+    @Test
+    @DisplayName("사진을 저장한 트랜잭션이 커밋된 뒤에 축소본을 생성한다.")
+    public void generate_renditions_after_commit() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+
+        S3Uploader.PictureUploads uploads = s3Uploader.uploadAndSavePictures(List.of(
+                new MockMultipartFile("pictures", "picture.png", "image/png", createPng(400, 200))));
+        uploads.await();
+        assertTrue(renditionUpdates.isEmpty());
+
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        uploadExecutor.getThreadPoolExecutor().shutdown();
+        assertTrue(uploadExecutor.getThreadPoolExecutor().awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(1, renditionUpdates.size());
+        assertEquals(uploads.pictures().get(0).getId(), renditionUpdates.get(0)[0]);
+    }
+
+    private MultipartFile createPicture(int index) {
+        return new MockMultipartFile("pictures", "picture" + index + ".png", "image/png", createImage(1024 + index));
+    }
+
+    // 저장된 Picture 에 id 를 붙여 기록하고, 렌디션 URL 갱신을 기록하는 PictureRepository
+    private PictureRepository createPictureRepository() {
+        PictureRepository pictureRepository = mock(PictureRepository.class);
+        when(pictureRepository.save(any(Picture.class))).thenAnswer(invocation -> {
+            Picture picture = invocation.getArgument(0);
+            ReflectionTestUtils.setField(picture, "id", (long) savedPictures.size() + 1);
+            savedPictures.add(picture);
+            return picture;
+        });
+        doAnswer(invocation -> {
+            renditionUpdates.add(new Object[]{invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), transactionManager.active});
+            return null;
+        }).when(pictureRepository).updateRenditionUrls(any(), any(), any());
+        return pictureRepository;
+    }
+
+    private byte[] createPng(int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private byte[] createImage(int size) {
+        byte[] image = new byte[size];
+        new Random(size).nextBytes(image);
+        return image;
+    }
+
+    // 트랜잭션 경계만 기록하는 트랜잭션 매니저
+    private static class RecordingTransactionManager implements PlatformTransactionManager {
+
+        private volatile boolean active;
+
+        private volatile int commitCount;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            active = true;
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            active = false;
+            commitCount++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            active = false;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.project.common.handler;
+
+import com.project.config.RedisContainerTest;
+import com.project.domain.location.dto.PointDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypedRedisHandlerTest extends RedisContainerTest {
+
+    private static final long TIMEOUT = 10_000;
+
+    private static final PointDTO SEOUL = new PointDTO(127.0276, 37.4979);
+    private static final PointDTO BUSAN = new PointDTO(129.0756, 35.1796);
+
+    private TypedRedisHandler<PointDTO> jsonHandler;
+
+    private TypedRedisHandler<PointDTO> smileHandler;
+
+    @BeforeEach()
+    public void init() {
+        jsonHandler = redisHandler.typed(PointDTO.class, RedisFormat.JSON);
+        smileHandler = redisHandler.typed(PointDTO.class, RedisFormat.SMILE);
+    }
+
+    @Test
+    @DisplayName("JSON / Smile 형식으로 저장한 값을 같은 타입으로 복원한다.")
+    public void round_trip_json_and_smile() {
+        jsonHandler.set("json", SEOUL, TIMEOUT);
+        smileHandler.set("smile", SEOUL, TIMEOUT);
+
+        assertEquals(SEOUL, jsonHandler.get("json"));
+        assertEquals(SEOUL, smileHandler.get("smile"));
+        assertEquals('{', (char) jsonHandler.getRaw("json")[0]);
+        // Smile 헤더 ":)\n"
+        assertArrayEquals(":)\n".getBytes(StandardCharsets.US_ASCII), Arrays.copyOf(smileHandler.getRaw("smile"), 3));
+    }
+
+    @Test
+    @DisplayName("MGET 결과는 요청한 키 순서를 유지하고, 값이 없는 키는 제외한다.")
+    public void multi_get_keeps_order_and_skips_missing_keys() {
+        jsonHandler.set("seoul", SEOUL, TIMEOUT);
+        jsonHandler.set("busan", BUSAN, TIMEOUT);
+
+        Map<String, PointDTO> values = jsonHandler.multiGet(List.of("busan", "missing", "seoul"));
+
+        assertEquals(List.of("busan", "seoul"), List.copyOf(values.keySet()));
+        assertEquals(BUSAN, values.get("busan"));
+        assertEquals(SEOUL, values.get("seoul"));
+        assertEquals(Map.of(), jsonHandler.multiGet(List.of()));
+    }
+
+    @Test
+    @DisplayName("MGET 결과 중 읽을 수 없는 값은 제외하고 나머지 값을 반환한다.")
+    public void multi_get_skips_unreadable_value() {
+        jsonHandler.set("seoul", SEOUL, TIMEOUT);
+        redisTemplate.opsForValue().set("broken", "not-a-point");
+
+        Map<String, PointDTO> values = jsonHandler.multiGet(List.of("broken", "seoul"));
+
+        assertEquals(Map.of("seoul", SEOUL), values);
+    }
+
+    @Test
+    @DisplayName("파이프라인으로 여러 값을 만료 시간과 함께 저장하고, 만료 시간을 한 번에 바꾼다.")
+    public void multi_set_and_expire_with_timeout() {
+        Map<String, PointDTO> values = new LinkedHashMap<>();
+        values.put("seoul", SEOUL);
+        values.put("busan", BUSAN);
+
+        smileHandler.multiSet(values, TIMEOUT);
+
+        assertEquals(values, smileHandler.multiGet(List.of("seoul", "busan")));
+        assertTtl("seoul", TIMEOUT);
+        assertTtl("busan", TIMEOUT);
+
+        smileHandler.expire(List.of("seoul", "busan"), 2_000);
+
+        assertTtl("seoul", 2_000);
+        assertTtl("busan", 2_000);
+
+        smileHandler.delete(List.of("seoul", "busan"));
+
+        assertEquals(Map.of(), smileHandler.multiGet(List.of("seoul", "busan")));
+    }
+
+    @Test
+    @DisplayName("해시 필드를 만료 시간과 함께 저장하고, HMGET 결과는 필드 순서를 유지한다.")
+    public void put_and_get_hash() {
+        Map<String, PointDTO> fields = new LinkedHashMap<>();
+        fields.put("seoul", SEOUL);
+        fields.put("busan", BUSAN);
+
+        jsonHandler.putHash("cities", fields, TIMEOUT);
+
+        assertTtl("cities", TIMEOUT);
+        assertEquals(fields, jsonHandler.getHash("cities"));
+        Map<String, PointDTO> values = jsonHandler.multiGetHash("cities", List.of("busan", "missing", "seoul"));
+        assertEquals(List.of("busan", "seoul"), List.copyOf(values.keySet()));
+
+        jsonHandler.deleteHash("cities", List.of("busan"));
+
+        assertEquals(Map.of("seoul", SEOUL), jsonHandler.getHash("cities"));
+    }
+
+    private void assertTtl(String key, long timeout) {
+        Long ttl = redisTemplate.execute((RedisCallback<Long>) connection -> connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8), TimeUnit.MILLISECONDS));
+        assertNotNull(ttl);
+        assertTrue(ttl > 0 && ttl <= timeout, "ttl : " + ttl);
+    }
+}
@@ -0,0 +1,104 @@
+package com.project.common.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Message;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MailDispatcherTest {
+
+    // 테스트용 로컬 SMTP 서버
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private static final String TEST_EMAIL = "TEST_USER@EMAIL.COM";
+
+    private InMemoryMailQueue mailQueue;
+
+    private ThreadPoolTaskExecutor mailExecutor;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach()
+    public void init() {
+        mailQueue = new InMemoryMailQueue(100);
+        mailExecutor = new ThreadPoolTaskExecutor();
+        mailExecutor.setCorePoolSize(1);
+        mailExecutor.setMaxPoolSize(1);
+        mailExecutor.setQueueCapacity(1);
+        mailExecutor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach()
+    public void destroy() {
+        mailExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열의 메일을 꺼내 발송한다.")
+    public void dispatch_queued_mails() throws Exception {
+        MailDispatcher mailDispatcher = createDispatcher(ServerSetupTest.SMTP.getPort());
+        for (int i = 0; i < 3; i++) {
+            mailDispatcher.enqueue(TEST_EMAIL, "TEST_SUBJECT_" + i, "TEST_TEXT");
+        }
+
+        mailDispatcher.dispatch();
+
+        assertTrue(greenMail.waitForIncomingEmail(5000, 3));
+        // 서버가 메일을 받은 뒤에 발송 스레드가 카운터를 올리므로, 발송 작업이 끝날 때까지 기다린 뒤 확인한다.
+        mailExecutor.getThreadPoolExecutor().shutdown();
+        assertTrue(mailExecutor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS));
+        MimeMessage[] receivedMessages = greenMail.getReceivedMessages();
+        assertEquals(3, receivedMessages.length);
+        assertEquals(TEST_EMAIL.toLowerCase(), receivedMessages[0].getRecipients(Message.RecipientType.TO)[0].toString().toLowerCase());
+        assertEquals(3.0, meterRegistry.counter("pinnit.mail.delivery", "result", "sent").count());
+        assertTrue(mailQueue.poll(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("발송에 실패한 메일은 재시도하고, 재시도를 모두 소진하면 dead-letter 로 옮긴다.")
+    public void dead_letter_after_max_attempts() {
+        // 열려 있지 않은 포트로 보내 연결 실패를 만든다.
+        MailDispatcher mailDispatcher = createDispatcher(ServerSetupTest.SMTP.getPort() + 1000);
+        mailDispatcher.enqueue(TEST_EMAIL, "TEST_SUBJECT", "TEST_TEXT");
+
+        mailDispatcher.deliver(mailQueue.poll(10));
+        assertTrue(mailQueue.getDeadLetters().isEmpty());
+
+        mailDispatcher.deliver(mailQueue.poll(10));
+        assertEquals(1, mailQueue.getDeadLetters().size());
+        assertEquals(2, mailQueue.getDeadLetters().get(0).attempt());
+        assertTrue(mailQueue.poll(10).isEmpty());
+        assertEquals(0, greenMail.getReceivedMessages().length);
+    }
+
+    private MailDispatcher createDispatcher(int port) {
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(port);
+
+        MailDispatcher mailDispatcher = new MailDispatcher(mailQueue, javaMailSender, mailExecutor, null, meterRegistry);
+        ReflectionTestUtils.setField(mailDispatcher, "from", "pinnit@naver.com");
+        ReflectionTestUtils.setField(mailDispatcher, "batchSize", 20);
+        ReflectionTestUtils.setField(mailDispatcher, "maxAttempts", 2);
+        ReflectionTestUtils.setField(mailDispatcher, "backoffMillis", 0L);
+        ReflectionTestUtils.setField(mailDispatcher, "maxBackoffMillis", 0L);
+        return mailDispatcher;
+    }
+}
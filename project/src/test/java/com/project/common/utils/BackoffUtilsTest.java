@@ -0,0 +1,31 @@
+package com.project.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BackoffUtilsTest {
+
+    @Test
+    @DisplayName("대기 시간은 0 이상, 시도 횟수에 따라 두 배씩 늘어난 상한 이하이다.")
+    public void full_jitter_within_exponential_bound() {
+        for (int i = 0; i < 1000; i++) {
+            long first = BackoffUtils.fullJitterMillis(200, 2000, 1);
+            long third = BackoffUtils.fullJitterMillis(200, 2000, 3);
+
+            assertTrue(first >= 0 && first <= 200, "first : " + first);
+            assertTrue(third >= 0 && third <= 800, "third : " + third);
+        }
+    }
+
+    @Test
+    @DisplayName("시도 횟수가 커져도 최대 대기 시간을 넘지 않는다.")
+    public void full_jitter_capped_by_max() {
+        for (int i = 0; i < 1000; i++) {
+            long backoff = BackoffUtils.fullJitterMillis(200, 2000, Integer.MAX_VALUE);
+
+            assertTrue(backoff >= 0 && backoff <= 2000, "backoff : " + backoff);
+        }
+    }
+}
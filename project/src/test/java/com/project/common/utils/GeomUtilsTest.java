@@ -0,0 +1,31 @@
+package com.project.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GeomUtilsTest {
+
+    @Test
+    @DisplayName("WKT 좌표는 로케일과 무관하게 지수 표기 없이 생성한다.")
+    public void create_plain_decimal_wkt() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.GERMANY);
+        try {
+            Envelope envelope = new Envelope(-0.00001, 126.9, 0.0000025, 37.5);
+
+            assertEquals("POLYGON((-0.00001 0.0000025, 126.9 0.0000025, 126.9 37.5, -0.00001 37.5, -0.00001 0.0000025))",
+                    GeomUtils.toPolygonText(envelope));
+            assertEquals("POINT(0.0001 37.5)",
+                    GeomUtils.toPointText(new GeometryFactory().createPoint(new Coordinate(0.0001, 37.5))));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.project.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageUtilsTest {
+
+    @Test
+    @DisplayName("긴 변이 기준 길이 아래로 내려가지 않는 선에서 서브샘플링하여 읽는다.")
+    public void read_with_subsampling() throws IOException {
+        byte[] png = toPng(new BufferedImage(2000, 1500, BufferedImage.TYPE_INT_RGB));
+
+        Optional<BufferedImage> image = ImageUtils.read(new ByteArrayInputStream(png), 500);
+
+        assertTrue(image.isPresent());
+        assertEquals(500, image.get().getWidth());
+        assertEquals(375, image.get().getHeight());
+    }
+
+    @Test
+    @DisplayName("ImageIO 가 읽을 수 없는 형식이면 빈 값을 반환한다.")
+    public void read_unsupported_format() throws IOException {
+        byte[] bytes = new byte[1024];
+        new Random(1).nextBytes(bytes);
+
+        assertTrue(ImageUtils.read(new ByteArrayInputStream(bytes), 500).isEmpty());
+    }
+
+    @Test
+    @DisplayName("헤더의 픽셀 수가 허용치를 넘는 이미지는 디코딩하지 않고 실패한다.")
+    public void read_rejects_pixel_bomb() throws IOException {
+        // 10000 x 10000 이라고 선언만 하고 픽셀 데이터는 없는 PNG
+        byte[] png = createPngHeader(10_000, 10_000);
+
+        IOException exception = assertThrows(IOException.class, () -> ImageUtils.read(new ByteArrayInputStream(png), 500));
+
+        assertTrue(exception.getMessage().contains("10000x10000"));
+    }
+
+    @Test
+    @DisplayName("긴 변을 기준 크기로 비율을 유지하여 축소하고, 작은 이미지는 확대하지 않는다.")
+    public void resize_keeps_ratio_without_upscaling() {
+        BufferedImage resized = ImageUtils.resize(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), 320);
+        BufferedImage small = ImageUtils.resize(new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB), 320);
+
+        assertEquals(320, resized.getWidth());
+        assertEquals(160, resized.getHeight());
+        assertEquals(100, small.getWidth());
+        assertEquals(50, small.getHeight());
+    }
+
+    @Test
+    @DisplayName("축소할 때 투명한 영역은 흰색으로 채운다.")
+    public void resize_fills_transparent_area_with_white() {
+        BufferedImage transparent = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage resized = ImageUtils.resize(transparent, 10);
+
+        assertEquals(0xFFFFFF, resized.getRGB(5, 5) & 0xFFFFFF);
+    }
+
+    @Test
+    @DisplayName("JPEG 로 인코딩한 결과를 다시 읽을 수 있다.")
+    public void to_jpeg() throws IOException {
+        byte[] jpeg = ImageUtils.toJpeg(new BufferedImage(320, 160, BufferedImage.TYPE_INT_RGB), 0.8f);
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(jpeg));
+
+        assertEquals((byte) 0xFF, jpeg[0]);
+        assertEquals((byte) 0xD8, jpeg[1]);
+        assertEquals(320, decoded.getWidth());
+        assertEquals(160, decoded.getHeight());
+    }
+
+    private byte[] toPng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    // PNG 시그니처와 IHDR 청크만 있는 데이터
+    private byte[] createPngHeader(int width, int height) throws IOException {
+        ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+        DataOutputStream chunkOutput = new DataOutputStream(chunk);
+        chunkOutput.writeBytes("IHDR");
+        chunkOutput.writeInt(width);
+        chunkOutput.writeInt(height);
+        chunkOutput.writeByte(8); // bit depth
+        chunkOutput.writeByte(2); // color type : RGB
+        chunkOutput.writeByte(0); // compression
+        chunkOutput.writeByte(0); // filter
+        chunkOutput.writeByte(0); // interlace
+        byte[] chunkBytes = chunk.toByteArray();
+
+        CRC32 crc = new CRC32();
+        crc.update(chunkBytes);
+
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(png);
+        output.write(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+        output.writeInt(chunkBytes.length - 4);
+        output.write(chunkBytes);
+        output.writeInt((int) crc.getValue());
+        return png.toByteArray();
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RequestUtilsTest {
+
+    private static final List<IpAddressMatcher> TRUSTED_PROXIES = List.of(new IpAddressMatcher("10.0.0.0/8"));
+
+    @Test
+    @DisplayName("신뢰하지 않는 주소에서 온 요청의 X-Forwarded-For 는 무시한다.")
+    public void ignore_forwarded_for_from_untrusted_remote() {
+        MockHttpServletRequest request = createRequest("203.0.113.10", "198.51.100.1");
+
+        assertEquals("203.0.113.10", RequestUtils.getClientIp(request, TRUSTED_PROXIES));
+        assertEquals("203.0.113.10", RequestUtils.getClientIp(request, List.of()));
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시를 거친 요청은 오른쪽부터 프록시를 건너뛴 첫 번째 주소를 사용한다.")
+    public void use_right_most_untrusted_hop() {
+        // 클라이언트가 조작한 값, 실제 클라이언트 주소, 내부 프록시 순
+        MockHttpServletRequest request = createRequest("10.0.0.2", "198.51.100.1, 203.0.113.10, 10.0.0.5");
+
+        assertEquals("203.0.113.10", RequestUtils.getClientIp(request, TRUSTED_PROXIES));
+    }
+
+    @Test
+    @DisplayName("IP 형식이 아닌 값은 프록시로 신뢰하지 않는다.")
+    public void do_not_trust_non_ip_hop() {
+        MockHttpServletRequest request = createRequest("10.0.0.2", "10.0.0.1, proxy.example.com");
+
+        assertEquals("proxy.example.com", RequestUtils.getClientIp(request, TRUSTED_PROXIES));
+    }
+
+    private MockHttpServletRequest createRequest(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+}
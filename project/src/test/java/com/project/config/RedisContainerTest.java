@@ -0,0 +1,44 @@
+package com.project.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.common.handler.RedisHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/*
+ * Lua 스크립트를 사용하는 컴포넌트를 실제 Redis 로 테스트하기 위한 기반 클래스.
+ * Docker 를 사용할 수 없는 환경에서는 테스트를 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class RedisContainerTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+
+    protected StringRedisTemplate redisTemplate;
+
+    protected RedisHandler redisHandler;
+
+    @BeforeEach()
+    public void initRedis() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        redisHandler = new RedisHandler(redisTemplate, new ObjectMapper());
+        redisHandler.init();
+    }
+
+    @AfterEach()
+    public void destroyRedis() {
+        connectionFactory.destroy();
+    }
+}
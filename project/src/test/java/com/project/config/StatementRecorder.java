@@ -0,0 +1,135 @@
+package com.project.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/*
+ * 애플리케이션(Hibernate, QueryDSL)이 DataSource 로 실행한 PreparedStatement 의 SQL 과 바인딩 값을 기록한다.
+ * 기록한 쿼리는 같은 바인딩 값으로 다시 준비할 수 있으므로 실제 실행된 쿼리를 EXPLAIN 할 수 있다.
+ * JDBC 배치는 executeBatch 한 번을 하나로 기록하고, 묶인 행 수를 batchSize 에 남긴다.
+ * 테스트 설정에 빈으로 등록(@Import)하면 DataSource 빈을 감싼다.
+ */
+public class StatementRecorder implements BeanPostProcessor {
+
+    private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+
+    public List<RecordedStatement> getStatements() {
+        return List.copyOf(statements);
+    }
+
+    public void clear() {
+        statements.clear();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof RecordingDataSource)) {
+            return new RecordingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    /**
+     * 실행된 PreparedStatement. 바인딩 값은 setXxx(parameterIndex, value, ...) 호출 그대로 보관한다.
+     * batchSize 는 executeBatch 로 실행된 경우 묶인 행 수이고, 그 외에는 0 이다. (배치의 바인딩 값은 마지막 행의 값)
+     */
+    public record RecordedStatement(String sql, List<Binding> bindings, int batchSize) {
+
+        /**
+         * prefix 를 붙인 SQL 을 준비하고 기록된 바인딩 값을 다시 설정합니다. ex) prefix = "EXPLAIN "
+         */
+        public PreparedStatement prepare(Connection connection, String prefix) throws SQLException {
+            PreparedStatement statement = connection.prepareStatement(prefix + sql);
+            for (Binding binding : bindings) {
+                try {
+                    binding.method().invoke(statement, binding.args());
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    statement.close();
+                    throw new SQLException("Failed to bind parameter. " + binding.method().getName(), e);
+                }
+            }
+            return statement;
+        }
+
+        public boolean isQuery() {
+            String head = sql.stripLeading().toLowerCase();
+            return head.startsWith("select") || head.startsWith("with");
+        }
+    }
+
+    public record Binding(Method method, Object[] args) {
+    }
+
+    private class RecordingDataSource extends DelegatingDataSource {
+
+        RecordingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrapConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrapConnection(super.getConnection(username, password));
+        }
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Connection.class}, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                return wrapStatement(statement, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement wrapStatement(PreparedStatement statement, String sql) {
+        Map<Integer, Binding> bindings = new TreeMap<>();
+        int[] pendingBatch = {0};
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bindings.put(index, new Binding(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if (name.equals("addBatch") && args == null) {
+                pendingBatch[0]++;
+            } else if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+                statements.add(new RecordedStatement(sql, new ArrayList<>(bindings.values()), pendingBatch[0]));
+                pendingBatch[0] = 0;
+            } else if (name.equals("clearBatch")) {
+                pendingBatch[0] = 0;
+            } else if ((name.equals("executeQuery") || name.equals("execute") || name.equals("executeUpdate")) && args == null) {
+                statements.add(new RecordedStatement(sql, new ArrayList<>(bindings.values()), 0));
+            }
+            return invoke(statement, method, args);
+        };
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{PreparedStatement.class}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.project.domain.comment.api;
+
+import com.project.auth.AccessPolicy;
+import com.project.common.exception.BusinessLogicException;
+import com.project.common.exception.EntityNotFoundException;
+import com.project.common.exception.ErrorCode;
+import com.project.config.TestConfig;
+import com.project.domain.comment.dto.PinCommentDTO;
+import com.project.domain.comment.entity.PinComment;
+import com.project.domain.comment.repository.PictureCommentRepository;
+import com.project.domain.comment.repository.PinCommentRepository;
+import com.project.domain.pin.entity.Pin;
+import com.project.domain.pin.repository.PinRepository;
+import com.project.domain.pocket.entity.Pocket;
+import com.project.domain.pocket.event.PocketChangedEvent;
+import com.project.domain.pocket.repository.PocketRepository;
+import com.project.domain.users.entity.Users;
+import com.project.domain.users.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 댓글 변경은 서비스 트랜잭션이 커밋된 뒤에 포켓 캐시를 비워야 한다.
+ * 커밋 시점을 확인하기 위해 테스트 메소드는 트랜잭션 없이 실행하고, 저장한 데이터는 테스트마다 지운다.
+ */
+@DataJpaTest
+@Import({TestConfig.class, PinCommentServiceImplTest.ServiceConfig.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PinCommentServiceImplTest {
+
+    @TestConfiguration
+    static class ServiceConfig {
+
+        @Bean
+        public AccessPolicy accessPolicy(PinRepository pinRepository, PinCommentRepository pinCommentRepository, PictureCommentRepository pictureCommentRepository) {
+            return new AccessPolicy(pinRepository, pinCommentRepository, pictureCommentRepository, null);
+        }
+
+        @Bean
+        public PinCommentServiceImpl pinCommentService(PinRepository pinRepository, PinCommentRepository pinCommentRepository,
+                                                       ApplicationEventPublisher eventPublisher, AccessPolicy accessPolicy) {
+            return new PinCommentServiceImpl(pinRepository, pinCommentRepository, eventPublisher, accessPolicy);
+        }
+
+        @Bean
+        public EvictionRecorder evictionRecorder(JdbcTemplate jdbcTemplate) {
+            return new EvictionRecorder(jdbcTemplate);
+        }
+    }
+
+    // 포켓 캐시 무효화(PocketCacheServiceImpl.onPocketChanged)와 같은 시점에 DB 에 보이는 댓글 상태를 기록한다.
+    static class EvictionRecorder {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        private final List<Map<String, Object>> commentsAtEviction = new CopyOnWriteArrayList<>();
+
+        EvictionRecorder(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+        public void onPocketChanged(PocketChangedEvent event) {
+            commentsAtEviction.add(jdbcTemplate.queryForMap("select text, is_deleted from pin_comment"));
+        }
+    }
+
+    @Autowired
+    private PinCommentService pinCommentService;
+
+    @Autowired
+    private EvictionRecorder evictionRecorder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PocketRepository pocketRepository;
+
+    @Autowired
+    private PinRepository pinRepository;
+
+    @Autowired
+    private PinCommentRepository pinCommentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Users testUser;
+
+    private PinComment testComment;
+
+    @BeforeEach()
+    public void init() {
+        testUser = userRepository.save(Users.builder().email("TEST@EMAIL.COM").password("TEST_PASSWORD").nickname("TEST_NICKNAME").activated(true).phoneNumber("01000000000").build());
+        Pocket pocket = pocketRepository.save(Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build());
+        Pin pin = pinRepository.save(Pin.builder().user(testUser).pocket(pocket).build());
+        testComment = pinCommentRepository.save(PinComment.builder().writer(testUser).pin(pin).text("TEST_TEXT").commentOrder(1L).parentCommentOrder(1L).isDeleted(false).build());
+        evictionRecorder.commentsAtEviction.clear();
+    }
+
+    @AfterEach()
+    public void destroy() {
+        for (String table : List.of("pin_comment", "pin", "pocket", "users")) {
+            jdbcTemplate.update("delete from " + table);
+        }
+    }
+
+    @Test
+    @DisplayName("댓글을 수정하면 수정이 커밋된 뒤에 포켓 캐시를 비운다.")
+    public void update_comment_evicts_cache_after_commit() {
+        PinCommentDTO.UpdatePinCommentRequest request = new PinCommentDTO.UpdatePinCommentRequest();
+        request.setText("UPDATED_TEXT");
+
+        pinCommentService.updatePinComment(testUser, testComment.getId(), request);
+
+        assertEquals(1, evictionRecorder.commentsAtEviction.size());
+        assertEquals("UPDATED_TEXT", evictionRecorder.commentsAtEviction.get(0).get("text"));
+    }
+
+    @Test
+    @DisplayName("댓글을 삭제 상태로 바꾸면 변경이 커밋된 뒤에 포켓 캐시를 비운다.")
+    public void delete_comment_with_status_evicts_cache_after_commit() {
+        pinCommentService.deletePinCommentWithStatus(testUser, testComment.getId());
+
+        assertEquals(1, evictionRecorder.commentsAtEviction.size());
+        assertEquals(true, evictionRecorder.commentsAtEviction.get(0).get("is_deleted"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 핀에는 댓글을 작성할 수 없다.")
+    public void create_comment_on_missing_pin() {
+        PinCommentDTO.CreatePinCommentRequest request = new PinCommentDTO.CreatePinCommentRequest();
+        request.setText("TEST_TEXT");
+
+        assertThrows(EntityNotFoundException.class, () -> pinCommentService.createPinComment(testUser, Long.MAX_VALUE, request));
+        assertTrue(evictionRecorder.commentsAtEviction.isEmpty());
+    }
+
+    @Test
+    @DisplayName("댓글 작성자가 아닌 사용자는 댓글을 수정하거나 삭제할 수 없다.")
+    public void update_and_delete_comment_by_non_writer_is_denied() {
+        Users otherUser = userRepository.save(Users.builder().email("OTHER@EMAIL.COM").password("TEST_PASSWORD").nickname("OTHER_NICKNAME").activated(true).phoneNumber("01011111111").build());
+        PinCommentDTO.UpdatePinCommentRequest request = new PinCommentDTO.UpdatePinCommentRequest();
+        request.setText("UPDATED_TEXT");
+
+        List<BusinessLogicException> exceptions = List.of(
+                assertThrows(BusinessLogicException.class, () -> pinCommentService.updatePinComment(otherUser, testComment.getId(), request)),
+                assertThrows(BusinessLogicException.class, () -> pinCommentService.deletePinCommentWithStatus(otherUser, testComment.getId())),
+                assertThrows(BusinessLogicException.class, () -> pinCommentService.deletePinComment(otherUser, testComment.getId())));
+
+        exceptions.forEach(exception -> assertEquals(ErrorCode.ACCESS_DENIED, exception.getErrorCode()));
+        Map<String, Object> comment = jdbcTemplate.queryForMap("select text, is_deleted from pin_comment");
+        assertEquals("TEST_TEXT", comment.get("text"));
+        assertEquals(false, comment.get("is_deleted"));
+        assertTrue(evictionRecorder.commentsAtEviction.isEmpty());
+    }
+}
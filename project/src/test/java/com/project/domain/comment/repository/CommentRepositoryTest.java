@@ -1,6 +1,7 @@
 package com.project.domain.comment.repository;
 
 import com.project.config.TestConfig;
+import com.project.domain.comment.dto.PinCommentDTO;
 import com.project.domain.comment.entity.PinComment;
 import com.project.domain.pin.entity.Pin;
 import com.project.domain.pin.repository.PinRepository;
@@ -16,7 +17,11 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
 @Import(TestConfig.class)
@@ -48,7 +53,7 @@ public class CommentRepositoryTest {
         Pocket testPocket = Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build();
         pocketRepository.save(testPocket);
 
-        pinRepository.save(Pin.builder().user(testUser).pocket(testPocket).build());
+        testPin = pinRepository.save(Pin.builder().user(testUser).pocket(testPocket).build());
     }
 
     @Test
@@ -58,22 +63,71 @@ public class CommentRepositoryTest {
         PinComment testPinComment = PinComment.builder().commentOrder(1L).text("TEST_COMMENT_TEXT").pin(testPin).writer(testUser).isDeleted(false).build();
         pinCommentRepository.save(testPinComment);
 
-        PinComment result = pinCommentRepository.findByCommentOrder(1L);
+        PinComment result = pinCommentRepository.findByCommentOrder(testPin.getId(), 1L);
 
         assertEquals(testPinComment, result);
     }
 
     @Test
-    @DisplayName("해당 핀이 가지고 있는 가장 마지막 댓글 순서 번호를 조회한다.")
-    public void get_last_pin_comment_order() {
+    @DisplayName("같은 핀의 댓글 순서 번호는 핀마다 1부터 차례로 발급된다.")
+    public void next_comment_order() {
+
+        Pin otherPin = pinRepository.save(Pin.builder().user(testUser).pocket(testPin.getPocket()).build());
+
+        assertEquals(1L, pinRepository.nextCommentOrder(testPin.getId()));
+        assertEquals(2L, pinRepository.nextCommentOrder(testPin.getId()));
+        assertEquals(1L, pinRepository.nextCommentOrder(otherPin.getId()));
+    }
+
+    @Test
+    @DisplayName("댓글 순서 번호로 조회할 때 다른 핀의 댓글은 조회하지 않는다.")
+    public void find_comment_by_comment_order_in_pin() {
 
+        Pin otherPin = pinRepository.save(Pin.builder().user(testUser).pocket(testPin.getPocket()).build());
         createTestPinComment(testPin, testUser, 1L);
-        createTestPinComment(testPin, testUser, 2L);
+        createTestPinComment(otherPin, testUser, 1L);
 
-        Long result = pinCommentRepository.getLastPinCommentOrder(testPin.getId());
+        PinComment result = pinCommentRepository.findByCommentOrder(otherPin.getId(), 1L);
+
+        assertEquals(otherPin, result.getPin());
+    }
 
-        assertEquals(2L, result);
+    @Test
+    @DisplayName("최상위 댓글을 커서 이후부터 조회하고, 부모 댓글별 자식 댓글은 미리보기 개수만큼 조회한다.")
+    public void find_comment_threads() {
+
+        // 1(자식 2, 3, 4), 5(자식 6), 7
+        createTestPinComment(testPin, testUser, 1L, 1L, 3);
+        createTestPinComment(testPin, testUser, 1L, 2L, 0);
+        createTestPinComment(testPin, testUser, 1L, 3L, 0);
+        createTestPinComment(testPin, testUser, 1L, 4L, 0);
+        createTestPinComment(testPin, testUser, 5L, 5L, 1);
+        createTestPinComment(testPin, testUser, 5L, 6L, 0);
+        createTestPinComment(testPin, testUser, 7L, 7L, 0);
+
+        List<PinCommentDTO.PinCommentDetailResponse> parents = pinCommentRepository.findParentComments(testPin.getId(), 1L, 10);
+        List<PinCommentDTO.PinCommentDetailResponse> previews = pinCommentRepository.findChildCommentPreviews(testPin.getId(), List.of(1L, 5L), 2);
+        List<PinCommentDTO.PinCommentDetailResponse> children = pinCommentRepository.findChildComments(testPin.getId(), 1L, 2L, 10);
+
+        assertEquals(List.of(5L, 7L), parents.stream().map(PinCommentDTO.PinCommentDetailResponse::getCommentOrder).toList());
+        assertEquals(testUser.getNickname(), parents.get(0).getWriterNickname());
+        assertEquals(List.of(2L, 3L, 6L), previews.stream().map(PinCommentDTO.PinCommentDetailResponse::getCommentOrder).toList());
+        assertEquals(List.of(3L, 4L), children.stream().map(PinCommentDTO.PinCommentDetailResponse::getCommentOrder).toList());
+    }
+
+    @Test
+    @DisplayName("댓글 작성자 여부를 확인한다.")
+    public void exists_by_id_and_writer_id() {
+
+        Users otherUser = userRepository.save(Users.builder().email("TEST2@EMAIL.COM").password("TEST_PASSWORD").nickname("TEST_NICKNAME2").activated(true).phoneNumber("01000000001").build());
+        PinComment pinComment = pinCommentRepository.save(PinComment.builder().commentOrder(1L).text("TEST_COMMENT_TEXT").pin(testPin).writer(testUser).isDeleted(false).build());
+
+        assertTrue(pinCommentRepository.existsByIdAndWriterId(pinComment.getId(), testUser.getId()));
+        assertFalse(pinCommentRepository.existsByIdAndWriterId(pinComment.getId(), otherUser.getId()));
+    }
 
+    private void createTestPinComment(Pin testPin, Users testUser, Long parentCommentOrder, Long commentOrder, int childCommentCount) {
+        pinCommentRepository.save(PinComment.builder().parentCommentOrder(parentCommentOrder).commentOrder(commentOrder).childCommentCount(childCommentCount).text("TEST_COMMENT_TEXT").pin(testPin).writer(testUser).isDeleted(false).build());
     }
 
     private void createTestPinComment(Pin testPin, Users testUser, Long commentOrder) {
@@ -0,0 +1,162 @@
+package com.project.domain.pin.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.common.exception.InvalidValueException;
+import com.project.common.utils.GeomUtils;
+import com.project.config.RedisContainerTest;
+import com.project.domain.location.dto.PointDTO;
+import com.project.domain.pin.dto.PinDTO;
+import com.project.domain.pin.repository.PinRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PinClusterServiceImplTest extends RedisContainerTest {
+
+    private static final Long POCKET_ID = 1L;
+    private static final int ZOOM = 10;
+
+    private PinRepository pinRepository;
+
+    private PinClusterServiceImpl pinClusterService;
+
+    // 서울(127.0, 37.5)이 속한 타일과 그 동쪽 타일
+    private int tileX;
+    private int tileY;
+    private Envelope tile;
+    private Envelope eastTile;
+
+    @BeforeEach()
+    public void init() {
+        pinRepository = mock(PinRepository.class);
+        pinClusterService = new PinClusterServiceImpl(pinRepository, redisHandler, new ObjectMapper());
+
+        tileX = GeomUtils.getTileX(127.0, ZOOM);
+        tileY = GeomUtils.getTileY(37.5, ZOOM);
+        tile = GeomUtils.getTileEnvelope(tileX, tileY, ZOOM);
+        eastTile = GeomUtils.getTileEnvelope(tileX + 1, tileY, ZOOM);
+    }
+
+    @Test
+    @DisplayName("뷰포트에 걸친 타일들을 한 번에 조회하고, 타일마다 격자 셀 단위로 핀 개수와 중심점을 계산한다.")
+    public void cluster_pins_by_grid_cell() {
+        // 서쪽 타일의 왼쪽 위 셀에 두 개, 오른쪽 아래 셀에 하나, 동쪽 타일의 왼쪽 위 셀에 하나
+        PinDTO.PinPointResponse first = pinPointAt(1L, tile, 0.01, 0.01);
+        PinDTO.PinPointResponse second = pinPointAt(2L, tile, 0.1, 0.1);
+        PinDTO.PinPointResponse third = pinPointAt(3L, tile, 0.95, 0.95);
+        PinDTO.PinPointResponse fourth = pinPointAt(4L, eastTile, 0.05, 0.05);
+        when(pinRepository.findAllPinPointsByPocketIdInBoundary(eq(POCKET_ID), any())).thenReturn(List.of(first, second, third, fourth));
+
+        PinDTO.PinClusterListResponse response = pinClusterService.getPinClusters(POCKET_ID, viewport(tile.centre().x, eastTile.centre().x));
+
+        ArgumentCaptor<Envelope> boundary = ArgumentCaptor.forClass(Envelope.class);
+        verify(pinRepository, times(1)).findAllPinPointsByPocketIdInBoundary(eq(POCKET_ID), boundary.capture());
+        Envelope expectedBoundary = new Envelope(tile);
+        expectedBoundary.expandToInclude(eastTile);
+        assertEquals(expectedBoundary, boundary.getValue());
+
+        List<PinDTO.PinClusterResponse> clusters = sortedBySamplePinId(response.getClusterList());
+        assertEquals(ZOOM, response.getZoom());
+        assertEquals(3, clusters.size());
+        assertCluster(clusters.get(0), List.of(first, second));
+        assertCluster(clusters.get(1), List.of(third));
+        assertCluster(clusters.get(2), List.of(fourth));
+    }
+
+    @Test
+    @DisplayName("한 셀의 샘플 핀은 최대 5개까지만 담는다.")
+    public void limit_sample_pins_per_cell() {
+        List<PinDTO.PinPointResponse> pinPoints = new ArrayList<>();
+        for (long pinId = 1; pinId <= 7; pinId++) {
+            pinPoints.add(pinPointAt(pinId, tile, 0.01 * pinId, 0.01));
+        }
+        when(pinRepository.findAllPinPointsByPocketIdInBoundary(eq(POCKET_ID), any())).thenReturn(pinPoints);
+
+        PinDTO.PinClusterListResponse response = pinClusterService.getPinClusters(POCKET_ID, viewport(tile.centre().x, tile.centre().x));
+
+        assertEquals(1, response.getClusterList().size());
+        assertEquals(7, response.getClusterList().get(0).getCount());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), response.getClusterList().get(0).getSamplePinIds());
+    }
+
+    @Test
+    @DisplayName("뷰포트가 64개보다 많은 타일에 걸치면 조회하지 않고 거부한다.")
+    public void reject_too_many_tiles() {
+        Envelope farTile = GeomUtils.getTileEnvelope(tileX + 8, tileY, ZOOM);
+        PinDTO.PinClusterRequest request = viewport(tile.centre().x, farTile.centre().x);
+        request.setMaxLatitude(GeomUtils.getTileEnvelope(tileX, tileY - 7, ZOOM).centre().y); // 9 x 8 = 72개
+
+        assertThrows(InvalidValueException.class, () -> pinClusterService.getPinClusters(POCKET_ID, request));
+        verifyNoInteractions(pinRepository);
+    }
+
+    @Test
+    @DisplayName("캐시된 타일은 다시 계산하지 않고, 핀 변경이 커밋된 뒤에만 다음 조회가 캐시를 놓친다.")
+    public void evict_clusters_after_commit() {
+        when(pinRepository.findAllPinPointsByPocketIdInBoundary(eq(POCKET_ID), any()))
+                .thenReturn(List.of(pinPointAt(1L, tile, 0.01, 0.01)))
+                .thenReturn(List.of(pinPointAt(1L, tile, 0.01, 0.01), pinPointAt(2L, tile, 0.02, 0.02)));
+        PinDTO.PinClusterRequest request = viewport(tile.centre().x, tile.centre().x);
+
+        assertEquals(1, pinClusterService.getPinClusters(POCKET_ID, request).getClusterList().get(0).getCount());
+        assertEquals(1, pinClusterService.getPinClusters(POCKET_ID, request).getClusterList().get(0).getCount());
+        verify(pinRepository, times(1)).findAllPinPointsByPocketIdInBoundary(eq(POCKET_ID), any());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            pinClusterService.evictPinClusters(POCKET_ID);
+            // 커밋 전에는 이전 버전의 캐시를 그대로 사용한다.
+            assertEquals(1, pinClusterService.getPinClusters(POCKET_ID, request).getClusterList().get(0).getCount());
+            verify(pinRepository, times(1)).findAllPinPointsByPocketIdInBoundary(eq(POCKET_ID), any());
+
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(2, pinClusterService.getPinClusters(POCKET_ID, request).getClusterList().get(0).getCount());
+        verify(pinRepository, times(2)).findAllPinPointsByPocketIdInBoundary(eq(POCKET_ID), any());
+    }
+
+    // 타일 안의 상대 위치(왼쪽에서 x, 위에서 y 비율)에 있는 핀
+    private PinDTO.PinPointResponse pinPointAt(Long pinId, Envelope tileEnvelope, double x, double y) {
+        double longitude = tileEnvelope.getMinX() + tileEnvelope.getWidth() * x;
+        double latitude = tileEnvelope.getMaxY() - tileEnvelope.getHeight() * y;
+        return new PinDTO.PinPointResponse(pinId, PointDTO.toPoint(new PointDTO(longitude, latitude)));
+    }
+
+    // 서쪽 타일의 위도 범위 안에서 경도만 지정한 뷰포트
+    private PinDTO.PinClusterRequest viewport(double minLongitude, double maxLongitude) {
+        PinDTO.PinClusterRequest request = new PinDTO.PinClusterRequest();
+        request.setMinLongitude(minLongitude);
+        request.setMaxLongitude(maxLongitude);
+        request.setMinLatitude(tile.centre().y);
+        request.setMaxLatitude(tile.centre().y);
+        request.setZoom(ZOOM);
+        return request;
+    }
+
+    private List<PinDTO.PinClusterResponse> sortedBySamplePinId(List<PinDTO.PinClusterResponse> clusters) {
+        return clusters.stream().sorted(Comparator.comparing(cluster -> cluster.getSamplePinIds().get(0))).toList();
+    }
+
+    private void assertCluster(PinDTO.PinClusterResponse cluster, List<PinDTO.PinPointResponse> pinPoints) {
+        assertEquals(pinPoints.size(), cluster.getCount());
+        assertEquals(pinPoints.stream().map(PinDTO.PinPointResponse::getPinId).toList(), cluster.getSamplePinIds());
+        assertEquals(pinPoints.stream().mapToDouble(PinDTO.PinPointResponse::getLongitude).average().orElseThrow(), cluster.getCentroid().getLongitude(), 1e-9);
+        assertEquals(pinPoints.stream().mapToDouble(PinDTO.PinPointResponse::getLatitude).average().orElseThrow(), cluster.getCentroid().getLatitude(), 1e-9);
+    }
+}
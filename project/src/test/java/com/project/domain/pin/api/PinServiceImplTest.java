@@ -0,0 +1,197 @@
+package com.project.domain.pin.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.auth.AccessPolicy;
+import com.project.common.exception.BusinessLogicException;
+import com.project.common.exception.ErrorCode;
+import com.project.config.StatementRecorder;
+import com.project.config.TestConfig;
+import com.project.domain.comment.repository.PictureCommentRepository;
+import com.project.domain.comment.repository.PinCommentRepository;
+import com.project.domain.location.dto.PointDTO;
+import com.project.domain.location.entity.Location;
+import com.project.domain.location.repository.LocationRepository;
+import com.project.domain.pin.dto.PinDTO;
+import com.project.domain.pin.entity.Pin;
+import com.project.domain.pin.repository.PinRepository;
+import com.project.domain.pocket.entity.Pocket;
+import com.project.domain.pocket.repository.PocketRepository;
+import com.project.domain.users.entity.Users;
+import com.project.domain.users.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({TestConfig.class, StatementRecorder.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PinServiceImplTest {
+
+    @Autowired
+    private PinRepository pinRepository;
+
+    @Autowired
+    private PocketRepository pocketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private PinCommentRepository pinCommentRepository;
+
+    @Autowired
+    private PictureCommentRepository pictureCommentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private PinServiceImpl pinService;
+
+    private Users testUser;
+
+    private Pocket testPocket;
+
+    @BeforeEach()
+    public void init() {
+        AccessPolicy accessPolicy = new AccessPolicy(pinRepository, pinCommentRepository, pictureCommentRepository, null);
+        pinService = new PinServiceImpl(pinRepository, pocketRepository, accessPolicy, null, locationRepository, null, null,
+                new NoOpPinClusterService(), event -> {
+        }, transactionManager, entityManager, objectMapper);
+
+        testUser = userRepository.save(Users.builder().email("TEST@EMAIL.COM").password("TEST_PASSWORD").nickname("TEST_NICKNAME").activated(true).phoneNumber("01000000000").build());
+        testPocket = pocketRepository.save(Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build());
+    }
+
+    @Test
+    @DisplayName("내 핀을 여러 묶음에 걸쳐 스트리밍해도 모든 핀을 한 줄에 하나씩 최신 순으로 내보낸다.")
+    public void stream_all_pin_by_me_over_chunks() throws Exception {
+        List<Long> pinIds = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            pinIds.add(createTestPin(testUser).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        pinService.streamAllPinByMe(testUser, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        List<Long> streamedIds = new ArrayList<>();
+        for (String line : lines) {
+            streamedIds.add(objectMapper.readTree(line).get("id").asLong());
+        }
+
+        // (생성 시각, ID) 역순이므로 생성 순서의 역순과 같다.
+        pinIds.sort(Comparator.reverseOrder());
+        assertEquals(250, lines.length);
+        assertEquals(pinIds, streamedIds);
+    }
+
+    @Test
+    @DisplayName("핀 요약 목록은 expand 로 요청한 항목의 연관 엔티티만 조회한다.")
+    public void expand_loads_only_requested_associations() {
+        createTestPin(testUser);
+        entityManager.flush();
+        entityManager.clear();
+        statementRecorder.clear();
+
+        PinDTO.PinSummaryListResponse response = pinService.getAllPinSummariesByPocket(testPocket.getId(), PageRequest.of(0, 10), List.of("tags"));
+
+        List<String> statements = statementRecorder.getStatements().stream().map(statement -> statement.sql().toLowerCase()).toList();
+        assertTrue(statements.stream().anyMatch(sql -> sql.contains("from pin_tag")));
+        assertTrue(statements.stream().noneMatch(sql -> sql.contains("from pin_comment") || sql.contains("from picture_comment")));
+        assertEquals(List.of(), response.getPinSummaryResponseList().get(0).getTags());
+        assertNull(response.getPinSummaryResponseList().get(0).getPictureList());
+        assertNull(response.getPinSummaryResponseList().get(0).getCommentList());
+    }
+
+    @Test
+    @DisplayName("핀 요약 목록의 전체 개수는 목록과 같은 조건(위치가 있는 핀)으로 센다.")
+    public void summary_count_matches_content() {
+        createTestPin(testUser);
+        pinRepository.save(Pin.builder().user(testUser).pocket(testPocket).build());
+
+        // 페이지가 가득 차야 전체 개수를 count 쿼리로 조회한다.
+        PinDTO.PinSummaryListResponse response = pinService.getAllPinSummariesByPocket(testPocket.getId(), PageRequest.of(0, 1), null);
+
+        assertEquals(1, response.getPinSummaryResponseList().size());
+        assertEquals(1, response.getPagingResponse().getTotalElements());
+    }
+
+    @Test
+    @DisplayName("핀 작성자가 아닌 사용자는 핀을 수정하거나 삭제할 수 없다.")
+    public void update_and_delete_pin_by_non_owner_is_denied() {
+        Users otherUser = userRepository.save(Users.builder().email("OTHER@EMAIL.COM").password("TEST_PASSWORD").nickname("OTHER_NICKNAME").activated(true).phoneNumber("01011111111").build());
+        Pin pin = createTestPin(testUser);
+
+        BusinessLogicException updateException = assertThrows(BusinessLogicException.class, () -> pinService.updatePin(otherUser, pin.getId(), null, null));
+        BusinessLogicException deleteException = assertThrows(BusinessLogicException.class, () -> pinService.deletePin(otherUser, pin.getId()));
+
+        assertEquals(ErrorCode.ACCESS_DENIED, updateException.getErrorCode());
+        assertEquals(ErrorCode.ACCESS_DENIED, deleteException.getErrorCode());
+        entityManager.flush();
+        entityManager.clear();
+        assertTrue(pinRepository.existsById(pin.getId()));
+    }
+
+    @Test
+    @DisplayName("이미 불러온 포켓의 핀 목록이 있어도 핀 삭제가 flush 되고, 목록에서도 빠진다.")
+    public void delete_pin_detaches_from_loaded_pin_list() {
+        Pin pin = createTestPin(testUser);
+        entityManager.flush();
+        entityManager.clear();
+
+        Pocket pocket = pocketRepository.findById(testPocket.getId()).orElseThrow();
+        assertEquals(1, pocket.getPinList().size());
+
+        pinService.deletePin(testUser, pin.getId());
+        entityManager.flush();
+
+        assertTrue(pocket.getPinList().isEmpty());
+        entityManager.clear();
+        assertFalse(pinRepository.existsById(pin.getId()));
+    }
+
+    private Pin createTestPin(Users user) {
+        Location location = locationRepository.save(Location.builder().name("TEST_LOCATION").point(PointDTO.toPoint(new PointDTO(127.0276, 37.4979))).build());
+        return pinRepository.save(Pin.builder().user(user).pocket(testPocket).location(location).build());
+    }
+
+    private static class NoOpPinClusterService implements PinClusterService {
+
+        @Override
+        public PinDTO.PinClusterListResponse getPinClusters(Long pocketId, PinDTO.PinClusterRequest request) {
+            return null;
+        }
+
+        @Override
+        public void evictPinClusters(Long pocketId) {
+        }
+    }
+}
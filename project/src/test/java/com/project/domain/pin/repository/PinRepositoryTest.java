@@ -1,14 +1,30 @@
 package com.project.domain.pin.repository;
 
+import com.project.common.utils.CursorUtils;
 import com.project.config.TestConfig;
+import com.project.domain.comment.entity.PictureComment;
+import com.project.domain.comment.entity.PinComment;
+import com.project.domain.location.dto.PointDTO;
+import com.project.domain.location.entity.Location;
+import com.project.domain.location.repository.LocationRepository;
+import com.project.domain.pin.dto.PinDTO;
+import com.project.domain.picture.entity.Picture;
+import com.project.domain.picture.repository.PictureRepository;
 import com.project.domain.pin.entity.Pin;
+import com.project.domain.pintag.entity.PinTag;
 import com.project.domain.pocket.entity.Pocket;
 import com.project.domain.pocket.repository.PocketRepository;
+import com.project.domain.tag.entity.Tag;
 import com.project.domain.users.entity.Users;
 import com.project.domain.users.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Point;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -16,10 +32,17 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
 @Import(TestConfig.class)
@@ -35,6 +58,15 @@ public class PinRepositoryTest {
     @Autowired
     private PocketRepository pocketRepository;
 
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private PictureRepository pictureRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private Users testUser;
 
     @BeforeEach
@@ -64,7 +96,270 @@ public class PinRepositoryTest {
         assertEquals(15, totalPinsSize);
     }
 
+    @Test
+    @DisplayName("커서 이후의 핀을 최신 순으로 중복 없이 조회한다.")
+    public void find_all_pin_details_by_pocket_id_with_cursor() {
+
+        Pocket pocket = Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build();
+        pocketRepository.save(pocket);
+
+        for (int i = 0; i < 15; i++) {
+            createTestPinAt(testUser, pocket, 127.0276, 37.4979);
+        }
+
+        Slice<PinDTO.PinDetailResponse> firstSlice = pinRepository.findAllPinDetailsByPocketIdWithCursor(pocket.getId(), null, 10);
+        PinDTO.PinDetailCursorListResponse firstResponse = new PinDTO.PinDetailCursorListResponse(firstSlice);
+        CursorUtils.Cursor cursor = CursorUtils.decode(firstResponse.getPagingResponse().getNextCursor());
+        Slice<PinDTO.PinDetailResponse> secondSlice = pinRepository.findAllPinDetailsByPocketIdWithCursor(pocket.getId(), cursor, 10);
+
+        assertEquals(10, firstSlice.getNumberOfElements());
+        assertTrue(firstSlice.hasNext());
+        assertEquals(5, secondSlice.getNumberOfElements());
+        assertFalse(secondSlice.hasNext());
+
+        Set<Long> pinIds = new HashSet<>();
+        firstSlice.forEach(pinDetail -> pinIds.add(pinDetail.getId()));
+        secondSlice.forEach(pinDetail -> pinIds.add(pinDetail.getId()));
+        assertEquals(15, pinIds.size());
+    }
+
+    @Test
+    @DisplayName("자신이 생성한 핀을 커서 기반으로 조회하고, 다른 유저의 핀은 제외한다.")
+    public void find_all_pin_details_by_user_id_with_cursor() {
+
+        Users otherUser = userRepository.save(Users.builder().email("TEST2@EMAIL.COM").password("TEST_PASSWORD").nickname("TEST_NICKNAME2").activated(true).phoneNumber("01000000001").build());
+        Pocket pocket = pocketRepository.save(Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build());
+        for (int i = 0; i < 3; i++) {
+            createTestPinAt(testUser, pocket, 127.0276, 37.4979);
+        }
+        createTestPinAt(otherUser, pocket, 127.0276, 37.4979);
+
+        Slice<PinDTO.PinDetailResponse> firstSlice = pinRepository.findAllPinDetailsByUserIdWithCursor(testUser.getId(), null, 2);
+        PinDTO.PinDetailCursorListResponse firstResponse = new PinDTO.PinDetailCursorListResponse(firstSlice);
+        CursorUtils.Cursor cursor = CursorUtils.decode(firstResponse.getPagingResponse().getNextCursor());
+        Slice<PinDTO.PinDetailResponse> secondSlice = pinRepository.findAllPinDetailsByUserIdWithCursor(testUser.getId(), cursor, 2);
+
+        assertEquals(2, firstSlice.getNumberOfElements());
+        assertTrue(firstSlice.hasNext());
+        assertEquals(1, secondSlice.getNumberOfElements());
+        assertFalse(secondSlice.hasNext());
+    }
+
+    @Test
+    @DisplayName("자신이 생성한 핀 ID 를 최신 순으로 스트림 조회한다.")
+    public void stream_pin_ids_by_user_id() {
+
+        Pocket pocket = pocketRepository.save(Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build());
+        Pin first = createTestPinAt(testUser, pocket, 127.0276, 37.4979);
+        Pin second = createTestPinAt(testUser, pocket, 127.0276, 37.4979);
+
+        try (Stream<Long> pinIds = pinRepository.streamPinIdsByUserId(testUser.getId())) {
+            List<Long> result = pinIds.toList();
+            assertEquals(2, result.size());
+            assertTrue(result.containsAll(List.of(first.getId(), second.getId())));
+        }
+    }
+
+    @Test
+    @DisplayName("핀 상세 페이지 조회는 핀 개수와 무관하게 일정한 수의 쿼리만 실행한다.")
+    public void find_all_pin_details_by_pocket_id_with_constant_query_count() {
+
+        Pocket pocket = Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build();
+        pocketRepository.save(pocket);
+        Tag testTag = Tag.builder().name("TEST_TAG").build();
+        entityManager.persist(testTag);
+
+        for (int i = 0; i < 2; i++) {
+            createTestPinWithDetails(testUser, pocket, testTag);
+        }
+        Statistics statistics = getStatistics();
+        Page<PinDTO.PinDetailResponse> smallPage = pinRepository.findAllPinDetailsByPocketId(pocket.getId(), PageRequest.of(0, 2));
+        long smallPageStatementCount = statistics.getPrepareStatementCount();
+
+        for (int i = 0; i < 8; i++) {
+            createTestPinWithDetails(testUser, pocket, testTag);
+        }
+        statistics = getStatistics();
+        Page<PinDTO.PinDetailResponse> largePage = pinRepository.findAllPinDetailsByPocketId(pocket.getId(), PageRequest.of(0, 10));
+        long largePageStatementCount = statistics.getPrepareStatementCount();
+
+        assertEquals(2, smallPage.getContent().size());
+        assertEquals(10, largePage.getContent().size());
+        assertEquals(10, largePage.getTotalElements());
+        // ID 페이지, 카운트, 핀+위치, 사진, 사진 댓글, 핀 태그, 핀 댓글
+        assertEquals(smallPageStatementCount, largePageStatementCount);
+        assertTrue(largePageStatementCount <= 7);
+
+        PinDTO.PinDetailResponse pinDetail = largePage.getContent().get(0);
+        assertEquals(1, pinDetail.getPictureList().size());
+        assertEquals(1, pinDetail.getPictureList().get(0).getPictureCommentCount());
+        assertEquals(List.of("TEST_TAG"), pinDetail.getTags());
+        assertEquals(1, pinDetail.getCommentCount());
+    }
+
+    @Test
+    @DisplayName("핀 요약 목록은 썸네일과 개수만 조회한다.")
+    public void find_all_pin_summaries_by_pocket_id() {
+
+        Pocket pocket = Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build();
+        pocketRepository.save(pocket);
+        Tag testTag = Tag.builder().name("TEST_TAG").build();
+        entityManager.persist(testTag);
+        createTestPinWithDetails(testUser, pocket, testTag);
+
+        Page<PinDTO.PinSummaryResponse> summaries = pinRepository.findAllPinSummariesByPocketId(pocket.getId(), PageRequest.of(0, 10));
+
+        PinDTO.PinSummaryResponse summary = summaries.getContent().get(0);
+        assertEquals(1, summaries.getTotalElements());
+        assertEquals("TEST_LOCATION", summary.getName());
+        assertEquals("PICTURE_URL", summary.getThumbnailUrl());
+        assertEquals(1, summary.getPictureCount());
+        assertEquals(1, summary.getCommentCount());
+        assertNull(summary.getPictureList());
+    }
+
+    @Test
+    @DisplayName("실제 개수와 어긋난 핀의 카운터를 바로잡는다.")
+    public void reconcile_pin_counts() {
+
+        Pocket pocket = Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build();
+        pocketRepository.save(pocket);
+        Tag testTag = Tag.builder().name("TEST_TAG").build();
+        entityManager.persist(testTag);
+        createTestPinWithDetails(testUser, pocket, testTag);
+        Pin driftedPin = createTestPinAt(testUser, pocket, 127.0276, 37.4979);
+        pinRepository.updateCommentCount(driftedPin, 3);
+
+        long reconciledCount = pinRepository.reconcileCounts();
+        entityManager.clear();
+
+        assertEquals(1, reconciledCount);
+        assertEquals(0, pinRepository.findById(driftedPin.getId()).orElseThrow().getCommentCount());
+    }
+
+    @Test
+    @DisplayName("실제 개수와 어긋난 사진의 댓글 카운터를 바로잡는다.")
+    public void reconcile_picture_counts() {
+
+        Pocket pocket = Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build();
+        pocketRepository.save(pocket);
+        Tag testTag = Tag.builder().name("TEST_TAG").build();
+        entityManager.persist(testTag);
+        createTestPinWithDetails(testUser, pocket, testTag);
+        Pin pin = createTestPinAt(testUser, pocket, 127.0276, 37.4979);
+        Picture driftedPicture = Picture.builder().originalName("ORIGINAL_NAME").url("PICTURE_URL").build();
+        pin.addPicture(driftedPicture);
+        entityManager.persist(driftedPicture);
+        pinRepository.updatePictureCount(pin, 1);
+        pictureRepository.updateCommentCount(driftedPicture, 2);
+        assertEquals(2, driftedPicture.getCommentCount());
+
+        long reconciledCount = pictureRepository.reconcileCounts();
+        entityManager.clear();
+
+        assertEquals(1, reconciledCount);
+        assertEquals(0, pictureRepository.findById(driftedPicture.getId()).orElseThrow().getCommentCount());
+    }
+
+    @Test
+    @DisplayName("지도 영역 안에 있는 핀만 조회한다.")
+    public void find_all_pin_by_pocket_id_in_boundary() {
+
+        Pocket pocket = Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build();
+        pocketRepository.save(pocket);
+
+        Pin gangnam = createTestPinAt(testUser, pocket, 127.0276, 37.4979); // 강남역
+        Pin nearGangnam = createTestPinAt(testUser, pocket, 127.0286, 37.4989);
+        createTestPinAt(testUser, pocket, 129.0756, 35.1796); // 부산
+
+        Envelope seoul = new Envelope(126.7, 127.2, 37.4, 37.7);
+        List<Long> pinIds = pinRepository.findPinIdsByPocketIdInBoundary(pocket.getId(), seoul);
+
+        assertEquals(List.of(nearGangnam.getId(), gangnam.getId()), pinIds);
+    }
+
+    @Test
+    @DisplayName("클러스터링을 위해 영역 안에 있는 핀의 ID 와 좌표만 조회한다.")
+    public void find_all_pin_points_by_pocket_id_in_boundary() {
+
+        Pocket pocket = Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build();
+        pocketRepository.save(pocket);
+
+        Pin gangnam = createTestPinAt(testUser, pocket, 127.0276, 37.4979);
+        createTestPinAt(testUser, pocket, 129.0756, 35.1796);
+
+        Envelope seoul = new Envelope(126.7, 127.2, 37.4, 37.7);
+        List<PinDTO.PinPointResponse> pinPoints = pinRepository.findAllPinPointsByPocketIdInBoundary(pocket.getId(), seoul);
+
+        assertEquals(1, pinPoints.size());
+        assertEquals(gangnam.getId(), pinPoints.get(0).getPinId());
+        assertEquals(127.0276, pinPoints.get(0).getLongitude());
+        assertEquals(37.4979, pinPoints.get(0).getLatitude());
+    }
+
+    @Test
+    @DisplayName("중심 좌표로부터 반경 N 미터 이내에 있는 핀만 조회한다.")
+    public void find_all_pin_by_pocket_id_within_distance() {
+
+        Pocket pocket = Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build();
+        pocketRepository.save(pocket);
+
+        createTestPinAt(testUser, pocket, 127.0276, 37.4979);
+        createTestPinAt(testUser, pocket, 127.0286, 37.4989); // 약 140m
+        createTestPinAt(testUser, pocket, 127.0376, 37.4979); // 약 880m
+
+        Point center = PointDTO.toPoint(new PointDTO(127.0276, 37.4979));
+        List<Long> pinIds = pinRepository.findPinIdsByPocketIdWithinDistance(pocket.getId(), center, 500);
+
+        assertEquals(2, pinIds.size());
+    }
+
     private void createTestPin(Users testUser, Pocket pocket) {
         pinRepository.save(Pin.builder().user(testUser).pocket(pocket).build());
     }
+
+    private Pin createTestPinAt(Users testUser, Pocket pocket, double longitude, double latitude) {
+        Location location = locationRepository.save(Location.builder().name("TEST_LOCATION").point(PointDTO.toPoint(new PointDTO(longitude, latitude))).build());
+        return pinRepository.save(Pin.builder().user(testUser).pocket(pocket).location(location).build());
+    }
+
+    private void createTestPinWithDetails(Users testUser, Pocket pocket, Tag tag) {
+        Pin pin = createTestPinAt(testUser, pocket, 127.0276, 37.4979);
+
+        Picture picture = Picture.builder().originalName("ORIGINAL_NAME").url("PICTURE_URL").build();
+        pin.addPicture(picture);
+        entityManager.persist(picture);
+        entityManager.persist(PictureComment.builder().picture(picture).writer(testUser).text("PICTURE_COMMENT").childCommentCount(0).isDeleted(false).build());
+        pictureRepository.updateCommentCount(picture, 1);
+        pinRepository.updatePictureCount(pin, 1);
+
+        PinTag pinTag = PinTag.builder().tag(tag).build();
+        pin.addPinTag(pinTag);
+        entityManager.persist(pinTag);
+        entityManager.persist(PinComment.builder().pin(pin).writer(testUser).text("PIN_COMMENT").childCommentCount(0).isDeleted(false).build());
+        pinRepository.updateCommentCount(pin, 1);
+    }
+
+    // 영속성 컨텍스트를 비우고 실행된 쿼리 수를 초기화한 통계를 반환한다.
+    private Statistics getStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+
+    @Test
+    @DisplayName("핀 작성자 여부를 유저의 핀 목록을 조회하지 않고 확인한다.")
+    public void exists_by_id_and_user_id() {
+
+        Users otherUser = userRepository.save(Users.builder().email("TEST2@EMAIL.COM").password("TEST_PASSWORD").nickname("TEST_NICKNAME2").activated(true).phoneNumber("01000000001").build());
+        Pocket pocket = pocketRepository.save(Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build());
+        Pin pin = pinRepository.save(Pin.builder().user(testUser).pocket(pocket).build());
+
+        assertTrue(pinRepository.existsByIdAndUserId(pin.getId(), testUser.getId()));
+        assertFalse(pinRepository.existsByIdAndUserId(pin.getId(), otherUser.getId()));
+    }
 }
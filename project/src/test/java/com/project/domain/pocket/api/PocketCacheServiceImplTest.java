@@ -0,0 +1,107 @@
+package com.project.domain.pocket.api;
+
+import com.project.common.handler.RedisFormat;
+import com.project.config.RedisContainerTest;
+import com.project.domain.pocket.dto.PocketDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PocketCacheServiceImplTest extends RedisContainerTest {
+
+    private static final Long POCKET_ID = 1L;
+
+    private PocketCacheServiceImpl pocketCacheService;
+
+    private AtomicInteger loadCount;
+
+    @BeforeEach()
+    public void init() {
+        pocketCacheService = new PocketCacheServiceImpl(redisHandler, new RedisMessageListenerContainer(), new NoOpTransactionManager());
+        ReflectionTestUtils.setField(pocketCacheService, "redisFormat", RedisFormat.SMILE);
+        pocketCacheService.init();
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에서 꺼낸 응답을 수정해도 다음 조회 결과에는 영향이 없다.")
+    public void local_cache_returns_copy() {
+        PocketDTO.PocketWithJoinUserResponse first = pocketCacheService.getJoinedUsers(POCKET_ID, loader("TEST_POCKET"));
+        first.setPocketName("MODIFIED_POCKET");
+
+        PocketDTO.PocketWithJoinUserResponse second = pocketCacheService.getJoinedUsers(POCKET_ID, loader("TEST_POCKET"));
+        second.setPocketName("MODIFIED_AGAIN");
+        PocketDTO.PocketWithJoinUserResponse third = pocketCacheService.getJoinedUsers(POCKET_ID, loader("TEST_POCKET"));
+
+        assertEquals(1, loadCount.get());
+        assertEquals("TEST_POCKET", third.getPocketName());
+        assertNotSame(second, third);
+    }
+
+    @Test
+    @DisplayName("포켓 캐시를 비우면 로컬/Redis 캐시 모두 다시 조회한다.")
+    public void evict_reloads_pocket() {
+        pocketCacheService.getJoinedUsers(POCKET_ID, loader("TEST_POCKET"));
+
+        pocketCacheService.evict(POCKET_ID);
+        PocketDTO.PocketWithJoinUserResponse response = pocketCacheService.getJoinedUsers(POCKET_ID, loader("UPDATED_POCKET"));
+
+        assertEquals(2, loadCount.get());
+        assertEquals("UPDATED_POCKET", response.getPocketName());
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화 메시지를 받으면 로컬 캐시를 비우고, 이전 버전 값은 로컬 캐시에 다시 넣지 않는다.")
+    public void evict_message_clears_local_cache() {
+        pocketCacheService.getJoinedUsers(POCKET_ID, loader("TEST_POCKET"));
+
+        // 다른 서버가 버전을 올리고 발행한 메시지
+        Long version = redisHandler.increment("pocket-cache:version:" + POCKET_ID);
+        pocketCacheService.onMessage(new DefaultMessage("pocket-cache:evict".getBytes(StandardCharsets.UTF_8),
+                (POCKET_ID + ":" + version).getBytes(StandardCharsets.UTF_8)), null);
+        PocketDTO.PocketWithJoinUserResponse response = pocketCacheService.getJoinedUsers(POCKET_ID, loader("UPDATED_POCKET"));
+
+        assertEquals(2, loadCount.get());
+        assertEquals("UPDATED_POCKET", response.getPocketName());
+    }
+
+    private Supplier<PocketDTO.PocketWithJoinUserResponse> loader(String pocketName) {
+        return () -> {
+            loadCount.incrementAndGet();
+            PocketDTO.PocketWithJoinUserResponse response = new PocketDTO.PocketWithJoinUserResponse();
+            response.setPocketId(POCKET_ID);
+            response.setPocketName(pocketName);
+            return response;
+        };
+    }
+
+    // 캐시 미스 시 조회를 감싸는 읽기 전용 트랜잭션. 테스트의 로더는 DB 를 사용하지 않는다.
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.project.domain.pocket.repository;
 
+import com.project.config.HibernateConfig;
+import com.project.config.StatementRecorder;
 import com.project.config.TestConfig;
+import com.project.domain.pocket.dto.PocketDTO;
 import com.project.domain.pocket.entity.Pocket;
 import com.project.domain.userpocket.entity.UserPocket;
 import com.project.domain.userpocket.repository.UserPocketRepository;
@@ -12,14 +15,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
-@Import(TestConfig.class)
+@Import({TestConfig.class, HibernateConfig.class, StatementRecorder.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 public class PocketRepositoryTest {
 
@@ -32,6 +37,12 @@ public class PocketRepositoryTest {
     @Autowired
     private UserPocketRepository userPocketRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
     private Users testUser;
 
     @BeforeEach
@@ -40,6 +51,31 @@ public class PocketRepositoryTest {
         userRepository.save(testUser);
     }
 
+    @Test
+    @DisplayName("실제 개수와 어긋난 포켓의 카운터만 바로잡는다.")
+    public void reconcile_pocket_counts() {
+
+        Pocket pocket = Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build();
+        Pocket driftedPocket = Pocket.builder().master(testUser).pocketKey("POCKET2_KEY").description("TEST_POCKET2_DESC").name("TEST_POCKET2").imageUrl("IMAGE_URL").build();
+        pocketRepository.save(pocket);
+        pocketRepository.save(driftedPocket);
+        userPocketRepository.save(UserPocket.builder().pocket(pocket).user(testUser).activated(true).build());
+        pocketRepository.updateUserCount(pocket, 1);
+        pocketRepository.updatePinCount(driftedPocket, 2);
+        pocketRepository.updatePictureCount(driftedPocket, 3);
+        assertEquals(1, pocket.getUserCount());
+        assertEquals(2, driftedPocket.getPinCount());
+
+        long reconciledCount = pocketRepository.reconcileCounts();
+        entityManager.clear();
+
+        assertEquals(1, reconciledCount);
+        Pocket reconciledPocket = pocketRepository.findById(driftedPocket.getId()).orElseThrow();
+        assertEquals(0, reconciledPocket.getPinCount());
+        assertEquals(0, reconciledPocket.getPictureCount());
+        assertEquals(1, pocketRepository.findById(pocket.getId()).orElseThrow().getUserCount());
+    }
+
     @Test
     @DisplayName("특정 유저가 속한 포켓 리스트 조회시, 초대를 수락하지 않은 포켓은 제외 시킨다.")
     public void find_all_pocket_by_user_id_when_not_accept_invitation() {
@@ -76,6 +112,26 @@ public class PocketRepositoryTest {
         assertTrue(isFound);
     }
 
+    @Test
+    @DisplayName("특정 유저가 속한 포켓의 요약 정보를 컬렉션 로딩 없이 조회한다.")
+    public void find_all_pocket_summaries_by_user_id() {
+
+        Users otherUser = Users.builder().email("OTHER@EMAIL.COM").password("TEST_PASSWORD").nickname("OTHER_NICKNAME").activated(true).phoneNumber("01011111111").build();
+        userRepository.save(otherUser);
+        Pocket pocket = Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build();
+        UserPocket.builder().activated(true).build().addUserPocketToUserAndPocket(testUser, pocket);
+        UserPocket.builder().activated(true).build().addUserPocketToUserAndPocket(otherUser, pocket);
+        pocketRepository.save(pocket);
+
+        List<PocketDTO.PocketSummaryResponse> summaries = pocketRepository.findAllPocketSummariesByUserId(testUser.getId());
+
+        assertEquals(1, summaries.size());
+        assertEquals("TEST_POCKET1", summaries.get(0).getPocketName());
+        assertEquals(2, summaries.get(0).getJoinedUserCount());
+        assertEquals(0, summaries.get(0).getPinCount());
+        assertNull(summaries.get(0).getJoinedUserList());
+    }
+
     @Test
     @DisplayName("포켓 키를 이용해서 포켓 정보를 조회한다.")
     public void find_pocket_by_pocket_key() {
@@ -87,4 +143,67 @@ public class PocketRepositoryTest {
         assertEquals(pocket.getName(), "TEST_POCKET");
     }
 
+    @Test
+    @DisplayName("포켓 키가 이미 사용 중인지 확인한다.")
+    public void exists_by_pocket_key() {
+
+        pocketRepository.save(Pocket.builder().master(testUser).pocketKey("POCKET_KEY").description("TEST_POCKET_DESC").name("TEST_POCKET").imageUrl("IMAGE_URL").build());
+
+        assertTrue(pocketRepository.existsByPocketKey("POCKET_KEY"));
+        assertFalse(pocketRepository.existsByPocketKey("OTHER_KEY"));
+    }
+
+    @Test
+    @DisplayName("초대 대상 중 포켓에 이미 참여 중이거나 초대된 유저의 ID 만 조회한다.")
+    public void find_user_ids_by_pocket_id_and_user_id_in() {
+
+        Users invitedUser = userRepository.save(Users.builder().email("TEST2@EMAIL.COM").password("TEST_PASSWORD").nickname("TEST_NICKNAME2").activated(true).phoneNumber("01000000001").build());
+        Users newUser = userRepository.save(Users.builder().email("TEST3@EMAIL.COM").password("TEST_PASSWORD").nickname("TEST_NICKNAME3").activated(true).phoneNumber("01000000002").build());
+        Pocket pocket = pocketRepository.save(Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build());
+        userPocketRepository.saveAll(List.of(
+                UserPocket.builder().pocket(pocket).user(testUser).activated(true).build(),
+                UserPocket.builder().pocket(pocket).user(invitedUser).activated(false).build()));
+
+        List<Long> userIds = userPocketRepository.findUserIdsByPocketIdAndUserIdIn(pocket.getId(), List.of(testUser.getId(), invitedUser.getId(), newUser.getId()));
+
+        assertEquals(2, userIds.size());
+        assertFalse(userIds.contains(newUser.getId()));
+    }
+
+    @Test
+    @DisplayName("초대만 되고 수락하지 않은 포켓은 참여 중인 포켓으로 보지 않는다.")
+    public void exists_active_membership() {
+
+        Pocket pocket = pocketRepository.save(Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build());
+        Pocket pocket2 = pocketRepository.save(Pocket.builder().master(testUser).pocketKey("POCKET2_KEY").description("TEST_POCKET2_DESC").name("TEST_POCKET2").imageUrl("IMAGE_URL").build());
+        userPocketRepository.save(UserPocket.builder().pocket(pocket).user(testUser).activated(true).build());
+        userPocketRepository.save(UserPocket.builder().pocket(pocket2).user(testUser).activated(false).build());
+
+        assertTrue(userPocketRepository.existsActiveMembership(testUser.getId(), pocket.getId()));
+        assertFalse(userPocketRepository.existsActiveMembership(testUser.getId(), pocket2.getId()));
+        assertEquals(List.of(pocket.getId()), userPocketRepository.findActivePocketIdsByUserId(testUser.getId()));
+    }
+
+    @Test
+    @DisplayName("여러 유저를 한 번에 초대하면 초대 행을 하나의 JDBC 배치로 저장한다.")
+    public void save_invitations_in_batch() {
+
+        Pocket pocket = pocketRepository.save(Pocket.builder().master(testUser).pocketKey("POCKET1_KEY").description("TEST_POCKET1_DESC").name("TEST_POCKET1").imageUrl("IMAGE_URL").build());
+        List<Users> invitedUsers = userRepository.saveAll(IntStream.range(0, 10)
+                .mapToObj(i -> Users.builder().email("INVITED" + i + "@EMAIL.COM").password("TEST_PASSWORD").nickname("INVITED" + i).activated(true).phoneNumber("0100000010" + i).build())
+                .toList());
+        entityManager.flush();
+        statementRecorder.clear();
+
+        userPocketRepository.saveAll(invitedUsers.stream()
+                .map(user -> UserPocket.builder().pocket(pocket).user(user).activated(false).build())
+                .toList());
+        entityManager.flush();
+
+        List<StatementRecorder.RecordedStatement> inserts = statementRecorder.getStatements().stream()
+                .filter(statement -> statement.sql().toLowerCase().startsWith("insert into user_pocket"))
+                .toList();
+        assertEquals(1, inserts.size());
+        assertEquals(10, inserts.get(0).batchSize());
+    }
 }
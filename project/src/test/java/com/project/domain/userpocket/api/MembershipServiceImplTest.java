@@ -0,0 +1,114 @@
+package com.project.domain.userpocket.api;
+
+import com.project.config.RedisContainerTest;
+import com.project.domain.userpocket.event.MembershipChangedEvent;
+import com.project.domain.userpocket.repository.UserPocketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MembershipServiceImplTest extends RedisContainerTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long POCKET_ID = 10L;
+
+    // DB 의 참여 중인 포켓 ID
+    private Set<Long> activePocketIds;
+
+    private UserPocketRepository userPocketRepository;
+
+    // DB 조회 도중에 실행할 동작. 조회와 동시에 커밋되는 참여 상태 변경을 흉내 낸다.
+    private Runnable duringRead;
+
+    private MembershipServiceImpl membershipService;
+
+    @BeforeEach()
+    public void init() {
+        activePocketIds = ConcurrentHashMap.newKeySet();
+        duringRead = () -> { };
+        userPocketRepository = mock(UserPocketRepository.class);
+        // 참여 포켓 조회 결과는 duringRead 실행 이전의 스냅샷이다.
+        when(userPocketRepository.findActivePocketIdsByUserId(USER_ID)).thenAnswer(invocation -> {
+            List<Long> snapshot = List.copyOf(activePocketIds);
+            duringRead.run();
+            return snapshot;
+        });
+        when(userPocketRepository.existsActiveMembership(eq(USER_ID), any())).thenAnswer(invocation -> activePocketIds.contains(invocation.<Long>getArgument(1)));
+        membershipService = new MembershipServiceImpl(userPocketRepository, redisHandler);
+    }
+
+    @Test
+    @DisplayName("한 번 적재한 참여 정보는 DB 를 다시 조회하지 않고 확인한다.")
+    public void is_member_uses_loaded_cache() {
+        activePocketIds.add(POCKET_ID);
+
+        assertTrue(membershipService.isMember(USER_ID, POCKET_ID));
+        assertTrue(membershipService.isMember(USER_ID, POCKET_ID));
+        assertFalse(membershipService.isMember(USER_ID, 99L));
+
+        verify(userPocketRepository, times(1)).findActivePocketIdsByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("참여 상태가 바뀌면 적재된 캐시에 반영한다.")
+    public void membership_change_updates_loaded_cache() {
+        activePocketIds.add(POCKET_ID);
+        membershipService.isMember(USER_ID, POCKET_ID);
+
+        changeMembership(POCKET_ID, false);
+        assertFalse(membershipService.isMember(USER_ID, POCKET_ID));
+
+        changeMembership(POCKET_ID, true);
+        assertTrue(membershipService.isMember(USER_ID, POCKET_ID));
+        verify(userPocketRepository, times(1)).findActivePocketIdsByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("DB 조회 중에 초대 수락이 커밋되면 조회한 이전 상태를 캐시에 적재하지 않는다.")
+    public void accept_during_load_does_not_cache_stale_snapshot() {
+        duringRead = () -> {
+            duringRead = () -> { };
+            changeMembership(POCKET_ID, true);
+        };
+
+        // 수락 이전 스냅샷을 읽었으므로 이번 응답은 참여하지 않음
+        assertFalse(membershipService.isMember(USER_ID, POCKET_ID));
+        // 이전 스냅샷이 캐싱되었다면 계속 참여하지 않음으로 응답한다.
+        assertTrue(membershipService.isMember(USER_ID, POCKET_ID));
+        verify(userPocketRepository, times(2)).findActivePocketIdsByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("DB 조회 중에 탈퇴가 커밋되면 조회한 이전 상태를 캐시에 적재하지 않는다.")
+    public void leave_during_load_does_not_cache_stale_snapshot() {
+        activePocketIds.add(POCKET_ID);
+        duringRead = () -> {
+            duringRead = () -> { };
+            changeMembership(POCKET_ID, false);
+        };
+
+        assertTrue(membershipService.isMember(USER_ID, POCKET_ID));
+        assertFalse(membershipService.isMember(USER_ID, POCKET_ID));
+        assertFalse(membershipService.isMember(USER_ID, POCKET_ID));
+        verify(userPocketRepository, times(2)).findActivePocketIdsByUserId(USER_ID);
+    }
+
+    // DB 에 커밋한 뒤 커밋 후 이벤트를 처리한다.
+    private void changeMembership(Long pocketId, boolean active) {
+        if (active) {
+            activePocketIds.add(pocketId);
+        } else {
+            activePocketIds.remove(pocketId);
+        }
+        membershipService.onMembershipChanged(new MembershipChangedEvent(USER_ID, pocketId, active));
+    }
+}
@@ -0,0 +1,77 @@
+package com.project.domain.users.api;
+
+import com.project.auth.PasswordHasher;
+import com.project.common.exception.ErrorCode;
+import com.project.common.exception.InvalidValueException;
+import com.project.config.TestConfig;
+import com.project.domain.users.dto.UserDTO;
+import com.project.domain.users.entity.Users;
+import com.project.domain.users.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(TestConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class AuthServiceImplTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private ThreadPoolTaskExecutor passwordHashExecutor;
+
+    private AuthServiceImpl authService;
+
+    @BeforeEach()
+    public void init() {
+        passwordHashExecutor = new ThreadPoolTaskExecutor();
+        passwordHashExecutor.initialize();
+        PasswordHasher passwordHasher = new PasswordHasher(NoOpPasswordEncoder.getInstance(), passwordHashExecutor, new SimpleMeterRegistry());
+        // 중복 가입은 토큰 발급 전에 거절되므로 나머지 의존성은 사용하지 않는다.
+        authService = new AuthServiceImpl(userRepository, passwordHasher, null, null, null, null);
+
+        userRepository.saveAndFlush(Users.builder().email("TEST@EMAIL.COM").password("TEST_PASSWORD").nickname("TEST_NICKNAME").activated(true).build());
+    }
+
+    @AfterEach
+    public void destroy() {
+        passwordHashExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("이미 가입된 이메일로 가입하면 이메일 중복으로 거절한다.")
+    public void sign_up_with_duplicated_email() {
+        InvalidValueException exception = assertThrows(InvalidValueException.class,
+                () -> authService.signUp(createSignUpRequest("TEST@EMAIL.COM", "OTHER_NICKNAME")));
+
+        assertEquals(ErrorCode.EMAIL_DUPLICATION, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("이미 사용 중인 닉네임으로 가입하면 닉네임 중복으로 거절한다.")
+    public void sign_up_with_duplicated_nickname() {
+        InvalidValueException exception = assertThrows(InvalidValueException.class,
+                () -> authService.signUp(createSignUpRequest("OTHER@EMAIL.COM", "TEST_NICKNAME")));
+
+        assertEquals(ErrorCode.NICKNAME_DUPLICATION, exception.getErrorCode());
+    }
+
+    private UserDTO.SignUpRequest createSignUpRequest(String email, String nickname) {
+        UserDTO.SignUpRequest signUpRequest = new UserDTO.SignUpRequest();
+        signUpRequest.setEmail(email);
+        signUpRequest.setPassword("TEST_PASSWORD1!");
+        signUpRequest.setNickname(nickname);
+        return signUpRequest;
+    }
+}
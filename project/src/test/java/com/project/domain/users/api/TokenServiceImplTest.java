@@ -0,0 +1,152 @@
+package com.project.domain.users.api;
+
+import com.project.auth.AuthPrincipal;
+import com.project.auth.JwtCodec;
+import com.project.auth.JwtConfigurer;
+import com.project.common.entity.Role;
+import com.project.config.RedisContainerTest;
+import com.project.domain.users.api.interfaces.UserPrincipalCache;
+import com.project.domain.users.dto.TokenDTO;
+import com.project.domain.users.dto.UserDTO;
+import com.project.domain.users.entity.Users;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.naming.AuthenticationException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceImplTest extends RedisContainerTest {
+
+    private static final String TEST_EMAIL = "TEST@EMAIL.COM";
+    private static final String PREFIX = "Bearer ";
+
+    private Users user;
+
+    private JwtCodec jwtCodec;
+
+    private TokenServiceImpl tokenService;
+
+    @BeforeEach()
+    public void init() {
+        user = Users.builder()
+                .id(1L)
+                .email(TEST_EMAIL)
+                .role(Role.USER)
+                .activated(true)
+                .build();
+
+        JwtConfigurer jwtConfigurer = new JwtConfigurer();
+        ReflectionTestUtils.setField(jwtConfigurer, "prefix", PREFIX);
+        ReflectionTestUtils.setField(jwtConfigurer, "accessTokenExp", 60_000L);
+        ReflectionTestUtils.setField(jwtConfigurer, "refreshTokenExp", 600_000L);
+        jwtCodec = new JwtCodec("test", "test-secret-key-which-is-long-enough-for-hs256", Map.of(), 100);
+
+        tokenService = new TokenServiceImpl(new SingleUserPrincipalCache(), jwtConfigurer, jwtCodec, new RefreshTokenStore(redisHandler));
+    }
+
+    @Test
+    @DisplayName("refresh 토큰을 재발급하면 새 refresh 토큰으로 교체된다.")
+    public void reissue_rotates_refresh_token() throws AuthenticationException {
+        TokenDTO issued = tokenService.generateAccessTokenAndRefreshToken(TEST_EMAIL, user);
+
+        TokenDTO reissued = tokenService.reissue(PREFIX + issued.getRefreshToken());
+        TokenDTO reissuedAgain = tokenService.reissue(PREFIX + reissued.getRefreshToken());
+
+        assertNotEquals(issued.getRefreshToken(), reissued.getRefreshToken());
+        assertEquals(user.getId(), tokenService.getPrincipal(PREFIX + reissuedAgain.getAccessToken()).userId());
+    }
+
+    @Test
+    @DisplayName("이미 교체된 refresh 토큰을 다시 사용하면 거부하고 패밀리를 폐기한다.")
+    public void reissue_detects_reuse_and_revokes_family() throws AuthenticationException {
+        TokenDTO issued = tokenService.generateAccessTokenAndRefreshToken(TEST_EMAIL, user);
+        TokenDTO reissued = tokenService.reissue(PREFIX + issued.getRefreshToken());
+
+        AuthenticationException reused = assertThrows(AuthenticationException.class,
+                () -> tokenService.reissue(PREFIX + issued.getRefreshToken()));
+        // 정상 사용자가 가진 최신 토큰도 더 이상 사용할 수 없다.
+        AuthenticationException revoked = assertThrows(AuthenticationException.class,
+                () -> tokenService.reissue(PREFIX + reissued.getRefreshToken()));
+
+        assertEquals("Refresh token reuse detected.", reused.getMessage());
+        assertEquals("Refresh token expired or revoked.", revoked.getMessage());
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 패밀리를 폐기하여 같은 기기의 refresh 토큰으로 재발급할 수 없다.")
+    public void logout_revokes_family() throws AuthenticationException {
+        TokenDTO issued = tokenService.generateAccessTokenAndRefreshToken(TEST_EMAIL, user);
+        TokenDTO otherDevice = tokenService.generateAccessTokenAndRefreshToken(TEST_EMAIL, user);
+        TokenDTO reissued = tokenService.reissue(PREFIX + issued.getRefreshToken());
+
+        tokenService.logout(PREFIX + reissued.getRefreshToken());
+
+        AuthenticationException revoked = assertThrows(AuthenticationException.class,
+                () -> tokenService.reissue(PREFIX + reissued.getRefreshToken()));
+        assertEquals("Refresh token expired or revoked.", revoked.getMessage());
+        // 다른 기기의 패밀리는 그대로 사용할 수 있다.
+        assertNotNull(tokenService.reissue(PREFIX + otherDevice.getRefreshToken()).getRefreshToken());
+        assertThrows(AuthenticationException.class, () -> tokenService.logout(PREFIX + issued.getAccessToken()));
+    }
+
+    @Test
+    @DisplayName("refresh 토큰은 access 토큰으로 사용할 수 없다.")
+    public void refresh_token_is_not_access_token() {
+        TokenDTO issued = tokenService.generateAccessTokenAndRefreshToken(TEST_EMAIL, user);
+
+        AuthPrincipal principal = tokenService.getPrincipal(PREFIX + issued.getAccessToken());
+
+        assertEquals(user.getId(), principal.userId());
+        assertThrows(AccessDeniedException.class, () -> tokenService.getPrincipal(PREFIX + issued.getRefreshToken()));
+    }
+
+    @Test
+    @DisplayName("역할은 access 토큰에 담지 않고, 사용자 캐시의 현재 역할을 사용한다.")
+    public void role_is_read_from_principal_cache() {
+        TokenDTO issued = tokenService.generateAccessTokenAndRefreshToken(TEST_EMAIL, user);
+        user = Users.builder().id(1L).email(TEST_EMAIL).role(Role.ADMIN).activated(true).build();
+
+        assertNull(jwtCodec.parse(issued.getAccessToken()).getBody().get("role"));
+        assertEquals(Role.ADMIN, tokenService.getPrincipal(PREFIX + issued.getAccessToken()).role());
+    }
+
+    @Test
+    @DisplayName("이메일 키로 저장된 이전 버전 refresh 토큰은 한 번만 재발급에 사용할 수 있다.")
+    public void legacy_refresh_token_is_single_use() throws AuthenticationException {
+        String legacyToken = tokenService.generateTokenBuilderByEmailAndExpiration(TEST_EMAIL, 600_000L)
+                .setAudience(TEST_EMAIL)
+                .claim("type", "refresh")
+                .compact();
+        redisHandler.setValuesWithTimeout(TEST_EMAIL, legacyToken, 600_000L);
+
+        TokenDTO reissued = tokenService.reissue(PREFIX + legacyToken);
+
+        assertNotNull(reissued.getRefreshToken());
+        assertNull(redisHandler.getValues(TEST_EMAIL));
+        assertThrows(AuthenticationException.class, () -> tokenService.reissue(PREFIX + legacyToken));
+    }
+
+    private class SingleUserPrincipalCache implements UserPrincipalCache {
+
+        @Override
+        public Optional<UserDTO.UserPrincipal> getById(Long userId) {
+            return Objects.equals(user.getId(), userId) ? Optional.of(new UserDTO.UserPrincipal(user)) : Optional.empty();
+        }
+
+        @Override
+        public Optional<UserDTO.UserPrincipal> getByEmail(String email) {
+            return Objects.equals(user.getEmail(), email) ? Optional.of(new UserDTO.UserPrincipal(user)) : Optional.empty();
+        }
+
+        @Override
+        public void evict(Long userId) {
+        }
+    }
+}
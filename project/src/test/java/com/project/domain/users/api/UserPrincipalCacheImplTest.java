@@ -0,0 +1,103 @@
+package com.project.domain.users.api;
+
+import com.project.common.entity.Role;
+import com.project.domain.users.dto.UserDTO;
+import com.project.domain.users.entity.Users;
+import com.project.domain.users.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserPrincipalCacheImplTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String USER_EMAIL = "TEST@EMAIL.COM";
+
+    private UserRepository userRepository;
+
+    private UserPrincipalCacheImpl userPrincipalCache;
+
+    @BeforeEach()
+    public void init() {
+        userRepository = mock(UserRepository.class);
+        // 무효화 메시지는 onMessage 로 직접 전달하므로 Redis 는 사용하지 않는다.
+        userPrincipalCache = new UserPrincipalCacheImpl(userRepository, null, null, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("id 와 이메일로 조회한 사용자 정보는 캐시에서 다시 사용한다.")
+    public void reuse_principal_by_id_and_email() {
+        when(userRepository.findIdByEmail(USER_EMAIL)).thenReturn(Optional.of(USER_ID));
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(createUser(Role.USER)));
+
+        assertEquals(USER_ID, userPrincipalCache.getByEmail(USER_EMAIL).orElseThrow().getUserId());
+        assertEquals(USER_ID, userPrincipalCache.getByEmail(USER_EMAIL).orElseThrow().getUserId());
+        assertEquals(USER_EMAIL, userPrincipalCache.getById(USER_ID).orElseThrow().getEmail());
+
+        verify(userRepository, times(1)).findIdByEmail(USER_EMAIL);
+        verify(userRepository, times(1)).findById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("무효화 메시지를 받으면 캐시를 비우고 다음 조회에서 변경된 권한을 읽는다.")
+    public void evict_by_message() {
+        when(userRepository.findIdByEmail(USER_EMAIL)).thenReturn(Optional.of(USER_ID));
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(createUser(Role.USER)), Optional.of(createUser(Role.ADMIN)));
+        assertEquals(Role.USER, userPrincipalCache.getByEmail(USER_EMAIL).orElseThrow().getRole());
+
+        userPrincipalCache.onMessage(new DefaultMessage("user-cache:evict".getBytes(StandardCharsets.UTF_8), String.valueOf(USER_ID).getBytes(StandardCharsets.UTF_8)), null);
+
+        assertEquals(Role.ADMIN, userPrincipalCache.getByEmail(USER_EMAIL).orElseThrow().getRole());
+        assertEquals(Role.ADMIN, userPrincipalCache.getById(USER_ID).orElseThrow().getRole());
+        verify(userRepository, times(2)).findById(USER_ID);
+        verify(userRepository, times(2)).findIdByEmail(USER_EMAIL);
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자는 id 조회 결과를 빈 값으로 캐싱하고, 이메일로 찾지 못한 결과는 캐싱하지 않는다.")
+    public void cache_deactivated_user_as_empty() {
+        // 탈퇴한 사용자는 @Where(activated = 1) 로 조회되지 않는다.
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
+        when(userRepository.findIdByEmail(USER_EMAIL)).thenReturn(Optional.empty());
+
+        assertTrue(userPrincipalCache.getById(USER_ID).isEmpty());
+        assertTrue(userPrincipalCache.getById(USER_ID).isEmpty());
+        assertTrue(userPrincipalCache.getByEmail(USER_EMAIL).isEmpty());
+        assertTrue(userPrincipalCache.getByEmail(USER_EMAIL).isEmpty());
+
+        verify(userRepository, times(1)).findById(USER_ID);
+        verify(userRepository, times(2)).findIdByEmail(USER_EMAIL);
+    }
+
+    @Test
+    @DisplayName("이메일 조회 중에 도착한 무효화는 유실되지 않고, 다음 조회에서 다시 읽는다.")
+    public void keep_eviction_during_email_lookup() throws InterruptedException {
+        Thread[] evictor = new Thread[1];
+        when(userRepository.findIdByEmail(USER_EMAIL)).thenReturn(Optional.of(USER_ID));
+        when(userRepository.findById(USER_ID)).thenAnswer(invocation -> {
+            // 사용자 변경이 커밋되어 다른 스레드에서 무효화 메시지를 받은 상황
+            evictor[0] = new Thread(() -> userPrincipalCache.onMessage(new DefaultMessage(new byte[0], String.valueOf(USER_ID).getBytes(StandardCharsets.UTF_8)), null));
+            evictor[0].start();
+            Thread.sleep(100);
+            return Optional.of(createUser(Role.USER));
+        }).thenReturn(Optional.of(createUser(Role.ADMIN)));
+
+        assertEquals(Role.USER, userPrincipalCache.getByEmail(USER_EMAIL).orElseThrow().getRole());
+        evictor[0].join();
+
+        assertEquals(Role.ADMIN, userPrincipalCache.getByEmail(USER_EMAIL).orElseThrow().getRole());
+        verify(userRepository, times(2)).findById(USER_ID);
+    }
+
+    private Users createUser(Role role) {
+        return Users.builder().id(USER_ID).email(USER_EMAIL).password("TEST_PASSWORD").nickname("TEST_NICKNAME").role(role).activated(true).phoneNumber("01000000000").build();
+    }
+}